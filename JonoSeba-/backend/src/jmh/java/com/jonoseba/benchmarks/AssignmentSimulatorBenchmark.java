@@ -0,0 +1,138 @@
+package com.jonoseba.benchmarks;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.scheduling.OfficerIndex;
+import com.jonoseba.scheduling.SkillMatchStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a synthetic day of complaints through the skill-match assignment engine. Officers have
+ * one or two categories, most have a jurisdiction and a capacity cap; complaints are resolved in
+ * arrival order once a backlog has built up, freeing capacity again.
+ * <p>
+ * The score is the latency of one assignment decision including the index update. After each
+ * iteration the load skew is printed: the busiest officer's open count over the mean, the
+ * coefficient of variation of open counts, and how many complaints found no eligible officer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssignmentSimulatorBenchmark {
+
+    private static final int COMPLAINTS_PER_DAY = 20_000;
+    private static final String[] CATEGORIES = {
+            "ROAD_DAMAGE", "WATER_SUPPLY", "ELECTRICITY", "GARBAGE",
+            "DRAINAGE", "STREET_LIGHT", "NOISE", "ENCROACHMENT"
+    };
+
+    @Param({"100", "1000", "10000"})
+    private int officers;
+
+    private OfficerIndex index;
+    private SkillMatchStrategy strategy;
+    private List<OfficerIndex.OfficerSnapshot> roster;
+    private List<Complaint> day;
+    private int openBacklog;
+    private int unassigned;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        int areas = Math.max(5, officers / 20);
+
+        roster = new ArrayList<>(officers);
+        for (long id = 1; id <= officers; id++) {
+            Set<String> categories = new HashSet<>();
+            if (random.nextInt(10) > 0) {
+                categories.add(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                if (random.nextBoolean()) {
+                    categories.add(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                }
+            }
+            String jurisdiction = random.nextInt(5) > 0 ? "area" + random.nextInt(areas) : null;
+            Integer capacity = random.nextInt(4) > 0 ? 20 + random.nextInt(20) : null;
+            roster.add(new OfficerIndex.OfficerSnapshot(id, categories, jurisdiction, capacity, random.nextInt(10)));
+        }
+
+        day = new ArrayList<>(COMPLAINTS_PER_DAY);
+        for (long id = 1; id <= COMPLAINTS_PER_DAY; id++) {
+            // A few locations name no known area and fall through to officers without a jurisdiction
+            String area = random.nextInt(20) == 0 ? "unmapped" + random.nextInt(100) : "area" + random.nextInt(areas);
+            day.add(Complaint.builder()
+                    .id(id)
+                    .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                    .locationText("House " + random.nextInt(200) + ", Road " + random.nextInt(30) + ", " + area + ", Dhaka")
+                    .status(Complaint.ComplaintStatus.NEW)
+                    .build());
+        }
+        // Officers keep roughly ten complaints each open through the day
+        openBacklog = officers * 10;
+
+        index = new OfficerIndex(null, null, null);
+        strategy = new SkillMatchStrategy(index);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        unassigned = 0;
+    }
+
+    /**
+     * Each invocation replays a whole day (tens of milliseconds), so per-invocation setup is safe.
+     */
+    @Setup(Level.Invocation)
+    public void resetIndex() {
+        index.load(roster);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMPLAINTS_PER_DAY)
+    public int replayDay() {
+        ArrayDeque<long[]> open = new ArrayDeque<>(openBacklog);
+        for (Complaint complaint : day) {
+            Long officerId = strategy.select(complaint);
+            if (officerId == null) {
+                unassigned++;
+                continue;
+            }
+            index.onStatusTransition(transition(complaint, null, officerId,
+                    Complaint.ComplaintStatus.NEW, Complaint.ComplaintStatus.ASSIGNED));
+            open.add(new long[]{complaint.getId(), officerId});
+            if (open.size() > openBacklog) {
+                long[] resolved = open.poll();
+                index.onStatusTransition(transition(complaint, resolved[1], resolved[1],
+                        Complaint.ComplaintStatus.ASSIGNED, Complaint.ComplaintStatus.RESOLVED));
+            }
+        }
+        return open.size();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportSkew() {
+        Map<Long, Long> counts = index.openCounts();
+        double mean = counts.values().stream().mapToLong(Long::longValue).average().orElse(0);
+        long max = counts.values().stream().mapToLong(Long::longValue).max().orElse(0);
+        double variance = counts.values().stream().mapToDouble(open -> (open - mean) * (open - mean)).average().orElse(0);
+        System.out.printf("%n  load skew: max/mean %.2f, cv %.2f, unassigned %d%n",
+                mean == 0 ? 0 : max / mean, mean == 0 ? 0 : Math.sqrt(variance) / mean, unassigned);
+    }
+
+    private static StatusTransitionEvent transition(Complaint complaint, Long previousAssigneeId, Long assigneeId,
+                                                    Complaint.ComplaintStatus from, Complaint.ComplaintStatus to) {
+        return StatusTransitionEvent.of(StatusTransitionEvent.EntityType.COMPLAINT, complaint.getId(), 1L,
+                previousAssigneeId, assigneeId, from, to, complaint.getCategory(), null);
+    }
+}
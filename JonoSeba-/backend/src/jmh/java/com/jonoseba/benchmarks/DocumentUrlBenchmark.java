@@ -0,0 +1,50 @@
+package com.jonoseba.benchmarks;
+
+import com.jonoseba.files.util.DocumentUrlHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON conversion of the document URL lists stored on applications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentUrlBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int urls;
+
+    private List<String> list;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<>();
+        for (int i = 0; i < urls; i++) {
+            list.add("/uploads/documents/" + i + "-national-id-scan.pdf");
+        }
+        json = DocumentUrlHelper.toJsonString(list);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return DocumentUrlHelper.toJsonString(list);
+    }
+
+    @Benchmark
+    public List<String> fromJson() {
+        return DocumentUrlHelper.fromJsonString(json);
+    }
+
+    @Benchmark
+    public String roundTrip() {
+        return DocumentUrlHelper.toJsonString(DocumentUrlHelper.fromJsonString(json));
+    }
+}
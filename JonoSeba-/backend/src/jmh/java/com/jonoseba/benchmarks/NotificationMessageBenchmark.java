@@ -0,0 +1,45 @@
+package com.jonoseba.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jonoseba.notifications.dto.NotificationMessageDto;
+import com.jonoseba.notifications.model.Notification;
+import com.jonoseba.users.model.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and serializing the STOMP payload sent for each new notification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationMessageBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Notification notification;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        notification = Notification.builder()
+                .id(100L)
+                .user(User.builder().id(1L).build())
+                .type("COMPLAINT_STATUS")
+                .message("Your complaint #10 is now IN_PROGRESS")
+                .readFlag(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(NotificationMessageDto.fromEntity(notification));
+    }
+}
@@ -0,0 +1,82 @@
+package com.jonoseba.benchmarks;
+
+import com.jonoseba.applications.dto.ApplicationResponse;
+import com.jonoseba.applications.model.Application;
+import com.jonoseba.complaints.dto.ComplaintResponse;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.services.model.Service;
+import com.jonoseba.users.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping used by the complaint and application list endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private Complaint complaint;
+    private Application application;
+
+    @Setup
+    public void setUp() {
+        User citizen = user(1L, "Citizen User", User.UserRole.CITIZEN);
+        User officer = user(2L, "Officer User", User.UserRole.OFFICER);
+        LocalDateTime now = LocalDateTime.now();
+        complaint = Complaint.builder()
+                .id(10L)
+                .citizen(citizen)
+                .assignedTo(officer)
+                .subject("Broken road")
+                .category("ROAD_DAMAGE")
+                .description("The road in front of the market has a large pothole")
+                .locationText("Market Road, Dhaka")
+                .status(Complaint.ComplaintStatus.IN_PROGRESS)
+                .progressNote("Repair crew scheduled")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        Service service = Service.builder()
+                .id(3L)
+                .name("Trade License")
+                .build();
+        application = Application.builder()
+                .id(20L)
+                .citizen(citizen)
+                .service(service)
+                .title("Trade license renewal")
+                .description("Renewal for 2024")
+                .status(Application.ApplicationStatus.REVIEW)
+                .documentUrls("[\"/uploads/a.pdf\",\"/uploads/b.pdf\"]")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public ComplaintResponse complaintToResponse() {
+        return ComplaintResponse.fromEntity(complaint);
+    }
+
+    @Benchmark
+    public ApplicationResponse applicationToResponse() {
+        return ApplicationResponse.fromEntity(application);
+    }
+
+    private static User user(Long id, String name, User.UserRole role) {
+        return User.builder()
+                .id(id)
+                .fullName(name)
+                .email(name.toLowerCase().replace(' ', '.') + "@example.com")
+                .phone("+8801234567890")
+                .role(role)
+                .build();
+    }
+}
@@ -5,6 +5,10 @@ import com.jonoseba.applications.dto.ApplicationResponse;
 import com.jonoseba.applications.dto.ApplicationStatusUpdateRequest;
 import com.jonoseba.applications.service.ApplicationService;
 import com.jonoseba.common.dto.ApiResponse;
+import com.jonoseba.common.util.ETags;
+import com.jonoseba.reports.dto.TimelineEntry;
+import com.jonoseba.security.AuthenticatedUser;
+import com.jonoseba.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -12,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -26,35 +31,58 @@ public class ApplicationController {
     @PreAuthorize("hasRole('CITIZEN')")
     public ResponseEntity<ApiResponse<ApplicationResponse>> createApplication(
             @Valid @RequestBody ApplicationCreateRequest request,
-            Authentication authentication) {
-        ApplicationResponse response = applicationService.createApplication(request, authentication.getName());
+            @CurrentUser AuthenticatedUser currentUser) {
+        ApplicationResponse response = applicationService.createApplication(request, currentUser.getId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Application created", response));
     }
 
     @GetMapping("/me")
     @PreAuthorize("hasRole('CITIZEN')")
-    public ResponseEntity<ApiResponse<List<ApplicationResponse>>> getMyApplications(Authentication authentication) {
-        List<ApplicationResponse> applications = applicationService.getMyApplications(authentication.getName());
-        return ResponseEntity.ok(ApiResponse.success("Applications fetched", applications));
+    public ResponseEntity<ApiResponse<List<ApplicationResponse>>> getMyApplications(
+            @CurrentUser AuthenticatedUser currentUser, WebRequest request) {
+        if (request.checkNotModified(applicationService.getMyApplicationsETag(currentUser.getId()))) {
+            return null;
+        }
+        List<ApplicationResponse> applications = applicationService.getMyApplications(currentUser.getId());
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success("Applications fetched", applications));
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('CITIZEN','ADMIN','OFFICER')")
     public ResponseEntity<ApiResponse<ApplicationResponse>> getApplication(
             @PathVariable Long id,
+            @CurrentUser AuthenticatedUser currentUser,
             Authentication authentication) {
-        ApplicationResponse response = applicationService.getApplication(id, authentication.getName(), authentication);
+        ApplicationResponse response = applicationService.getApplication(id, currentUser.getId(), authentication);
         return ResponseEntity.ok(ApiResponse.success("Application fetched", response));
     }
 
+    /**
+     * GET /api/applications/{id}/timeline - Every status update of the application, oldest first
+     */
+    @GetMapping("/{id}/timeline")
+    @PreAuthorize("hasAnyRole('CITIZEN','ADMIN','OFFICER')")
+    public ResponseEntity<ApiResponse<List<TimelineEntry>>> getTimeline(
+            @PathVariable Long id,
+            @CurrentUser AuthenticatedUser currentUser,
+            Authentication authentication) {
+        List<TimelineEntry> timeline = applicationService.getTimeline(id, currentUser.getId(), authentication);
+        return ResponseEntity.ok(ApiResponse.success("Timeline fetched", timeline));
+    }
+
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','OFFICER')")
     public ResponseEntity<ApiResponse<List<ApplicationResponse>>> getAllApplications(
             @RequestParam(value = "status", required = false) String status,
-            Authentication authentication) {
+            Authentication authentication, WebRequest request) {
+        if (request.checkNotModified(applicationService.getAllApplicationsETag(status, authentication))) {
+            return null;
+        }
         List<ApplicationResponse> applications = applicationService.getAllApplications(status, authentication);
-        return ResponseEntity.ok(ApiResponse.success("Applications fetched", applications));
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success("Applications fetched", applications));
     }
 
     @PatchMapping("/{id}/status")
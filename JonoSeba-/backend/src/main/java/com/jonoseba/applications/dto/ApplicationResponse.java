@@ -13,6 +13,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class ApplicationResponse {
+    // ApplicationRepository's projection queries call the all-args constructor; keep its order in mind
+    // when adding or moving fields
     private Long id;
     private Long serviceId;
     private String serviceName;
@@ -25,4 +27,21 @@ public class ApplicationResponse {
     private String documentUrls;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    public static ApplicationResponse fromEntity(Application application) {
+        return ApplicationResponse.builder()
+                .id(application.getId())
+                .serviceId(application.getService() != null ? application.getService().getId() : null)
+                .serviceName(application.getService() != null ? application.getService().getName() : null)
+                .citizenId(application.getCitizen() != null ? application.getCitizen().getId() : null)
+                .citizenName(application.getCitizen() != null ? application.getCitizen().getFullName() : null)
+                .title(application.getTitle())
+                .description(application.getDescription())
+                .status(application.getStatus())
+                .remarks(application.getRemarks())
+                .documentUrls(application.getDocumentUrls())
+                .createdAt(application.getCreatedAt())
+                .updatedAt(application.getUpdatedAt())
+                .build();
+    }
 }
@@ -11,7 +11,14 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        // Lists, newest first, unfiltered or narrowed by citizen or status
+        @Index(name = "idx_applications_created", columnList = "created_at, id"),
+        @Index(name = "idx_applications_citizen_created", columnList = "citizen_id, created_at, id"),
+        @Index(name = "idx_applications_status_created", columnList = "status, created_at, id"),
+        // Per-citizen status counts and data versions
+        @Index(name = "idx_applications_citizen_status", columnList = "citizen_id, status, updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
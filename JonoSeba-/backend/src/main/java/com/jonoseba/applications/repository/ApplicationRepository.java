@@ -1,18 +1,60 @@
 package com.jonoseba.applications.repository;
 
+import com.jonoseba.applications.dto.ApplicationResponse;
 import com.jonoseba.applications.model.Application;
 import com.jonoseba.users.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
     
     List<Application> findByCitizen(User citizen);
     
-    List<Application> findByCitizenId(Long citizenId);
+    /**
+     * Responses for the applications in a status and/or of a citizen, newest first; null parameters
+     * are not filtered on. Selects exactly the response columns, with the service and citizen names
+     * joined in, so the list is one statement and no entities are loaded.
+     */
+    @Query("SELECT new com.jonoseba.applications.dto.ApplicationResponse(a.id, service.id, service.name, "
+            + "citizen.id, citizen.fullName, a.title, a.description, a.status, a.remarks, a.documentUrls, "
+            + "a.createdAt, a.updatedAt) "
+            + "FROM Application a JOIN a.service service JOIN a.citizen citizen "
+            + "WHERE (:status IS NULL OR a.status = :status) AND (:citizenId IS NULL OR a.citizen.id = :citizenId) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ApplicationResponse> findResponses(@Param("status") Application.ApplicationStatus status,
+                                            @Param("citizenId") Long citizenId);
+
+    /**
+     * Responses for the given application ids, in no particular order, in one statement.
+     */
+    @Query("SELECT new com.jonoseba.applications.dto.ApplicationResponse(a.id, service.id, service.name, "
+            + "citizen.id, citizen.fullName, a.title, a.description, a.status, a.remarks, a.documentUrls, "
+            + "a.createdAt, a.updatedAt) "
+            + "FROM Application a JOIN a.service service JOIN a.citizen citizen WHERE a.id IN :ids")
+    List<ApplicationResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Responses for every application, optionally in one status, in id order. Streamed from a
+     * forward-only cursor without entities; must be consumed inside a transaction and closed.
+     */
+    @Query("SELECT new com.jonoseba.applications.dto.ApplicationResponse(a.id, service.id, service.name, "
+            + "citizen.id, citizen.fullName, a.title, a.description, a.status, a.remarks, a.documentUrls, "
+            + "a.createdAt, a.updatedAt) "
+            + "FROM Application a JOIN a.service service JOIN a.citizen citizen "
+            + "WHERE (:status IS NULL OR a.status = :status) ORDER BY a.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ApplicationResponse> streamResponses(@Param("status") Application.ApplicationStatus status);
     
     List<Application> findByStatus(Application.ApplicationStatus status);
     
@@ -21,4 +63,73 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     long countByCitizenAndStatus(User citizen, Application.ApplicationStatus status);
     
     long countByStatus(Application.ApplicationStatus status);
+
+    /**
+     * Per-status application counts in a single GROUP BY round trip.
+     * Statuses with no rows are absent from the result.
+     */
+    @Query("SELECT a.status AS status, COUNT(a) AS total FROM Application a GROUP BY a.status")
+    List<StatusCount> countGroupedByStatus();
+
+    @Query("SELECT a.status AS status, COUNT(a) AS total FROM Application a "
+            + "WHERE a.citizen = :citizen GROUP BY a.status")
+    List<StatusCount> countGroupedByStatusForCitizen(@Param("citizen") User citizen);
+
+    /**
+     * Per-citizen, per-status counts over the whole table; used to rebuild status counters.
+     */
+    @Query("SELECT a.citizen.id AS scopeId, a.status AS status, COUNT(a) AS total FROM Application a "
+            + "GROUP BY a.citizen.id, a.status")
+    List<ScopedStatusCount> countGroupedByCitizenAndStatus();
+
+    /**
+     * Row count and latest update for a citizen's applications; changes whenever any of them
+     * is created or modified, so it can stand in for the list when computing an ETag.
+     */
+    @Query("SELECT COUNT(a) AS total, MAX(a.updatedAt) AS lastUpdated FROM Application a "
+            + "WHERE a.citizen.id = :citizenId")
+    DataVersion findVersionByCitizenId(@Param("citizenId") Long citizenId);
+
+    @Query("SELECT COUNT(a) AS total, MAX(a.updatedAt) AS lastUpdated FROM Application a")
+    DataVersion findVersion();
+
+    @Query("SELECT COUNT(a) AS total, MAX(a.updatedAt) AS lastUpdated FROM Application a "
+            + "WHERE a.status = :status")
+    DataVersion findVersionByStatus(@Param("status") Application.ApplicationStatus status);
+
+    /**
+     * Applications created or last updated in {@code [from, to)}; the source for rollup backfills.
+     * Must be consumed inside a transaction and closed.
+     */
+    @Query("SELECT a.status AS status, s.id AS serviceId, a.createdAt AS createdAt, a.updatedAt AS updatedAt "
+            + "FROM Application a LEFT JOIN a.service s WHERE (a.createdAt >= :from AND a.createdAt < :to) "
+            + "OR (a.updatedAt >= :from AND a.updatedAt < :to)")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<RollupSource> streamRollupSources(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    interface StatusCount {
+        Application.ApplicationStatus getStatus();
+
+        long getTotal();
+    }
+
+    interface ScopedStatusCount extends StatusCount {
+        Long getScopeId();
+    }
+
+    interface RollupSource {
+        Application.ApplicationStatus getStatus();
+
+        Long getServiceId();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface DataVersion {
+        long getTotal();
+
+        LocalDateTime getLastUpdated();
+    }
 }
@@ -5,21 +5,24 @@ import com.jonoseba.applications.dto.ApplicationResponse;
 import com.jonoseba.applications.dto.ApplicationStatusUpdateRequest;
 import com.jonoseba.applications.model.Application;
 import com.jonoseba.applications.repository.ApplicationRepository;
+import com.jonoseba.common.event.StatusTransitionEvent;
 import com.jonoseba.common.exception.ResourceNotFoundException;
+import com.jonoseba.common.util.ETags;
 import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.reports.dto.TimelineEntry;
+import com.jonoseba.reports.service.StatusTransitionLog;
 import com.jonoseba.services.model.Service;
 import com.jonoseba.services.repository.ServiceRepository;
 import com.jonoseba.users.model.User;
 import com.jonoseba.users.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @org.springframework.stereotype.Service
 @RequiredArgsConstructor
@@ -29,10 +32,12 @@ public class ApplicationService {
     private final ServiceRepository serviceRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatusTransitionLog statusTransitionLog;
 
     @Transactional
-    public ApplicationResponse createApplication(ApplicationCreateRequest request, String userEmail) {
-        User citizen = getUserByEmail(userEmail);
+    public ApplicationResponse createApplication(ApplicationCreateRequest request, Long userId) {
+        User citizen = userRepository.getReferenceById(userId);
 
         Service service = serviceRepository.findById(request.getServiceId())
                 .orElseThrow(() -> new ResourceNotFoundException("Service not found with id: " + request.getServiceId()));
@@ -50,28 +55,49 @@ public class ApplicationService {
                 .build();
 
         Application saved = applicationRepository.save(application);
-        return toResponse(saved);
+        publishTransition(saved, null);
+        return ApplicationResponse.fromEntity(saved);
     }
 
     @Transactional(readOnly = true)
-    public List<ApplicationResponse> getMyApplications(String userEmail) {
-        User citizen = getUserByEmail(userEmail);
-        return applicationRepository.findByCitizen(citizen)
-                .stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    public List<ApplicationResponse> getMyApplications(Long userId) {
+        return applicationRepository.findResponses(null, userId);
     }
 
+    /**
+     * ETag for {@link #getMyApplications(Long)}, computed without loading the applications.
+     */
     @Transactional(readOnly = true)
-    public ApplicationResponse getApplication(Long id, String userEmail, Authentication authentication) {
+    public String getMyApplicationsETag(Long userId) {
+        ApplicationRepository.DataVersion version = applicationRepository.findVersionByCitizenId(userId);
+        return ETags.of("applications/me", userId, version.getTotal(), version.getLastUpdated());
+    }
+
+    @Transactional(readOnly = true)
+    public ApplicationResponse getApplication(Long id, Long userId, Authentication authentication) {
+        Application application = applicationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + id));
+
+        if (!canView(application, userId, authentication)) {
+            throw new AccessDeniedException("You are not authorized to view this application");
+        }
+
+        return ApplicationResponse.fromEntity(application);
+    }
+
+    /**
+     * Every recorded status update of the application, oldest first, for whoever may view it.
+     */
+    @Transactional(readOnly = true)
+    public List<TimelineEntry> getTimeline(Long id, Long userId, Authentication authentication) {
         Application application = applicationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + id));
 
-        if (!canView(application, userEmail, authentication)) {
+        if (!canView(application, userId, authentication)) {
             throw new AccessDeniedException("You are not authorized to view this application");
         }
 
-        return toResponse(application);
+        return statusTransitionLog.timeline(StatusTransitionEvent.EntityType.APPLICATION, id);
     }
 
     @Transactional(readOnly = true)
@@ -80,17 +106,28 @@ public class ApplicationService {
             throw new AccessDeniedException("You are not authorized to view applications");
         }
 
-        List<Application> apps;
+        Application.ApplicationStatus parsedStatus = status != null && !status.isBlank() ? parseStatus(status) : null;
+        return applicationRepository.findResponses(parsedStatus, null);
+    }
+
+    /**
+     * ETag for {@link #getAllApplications(String, Authentication)}, computed without loading the applications.
+     */
+    @Transactional(readOnly = true)
+    public String getAllApplicationsETag(String status, Authentication authentication) {
+        if (!isAdminOrOfficer(authentication)) {
+            throw new AccessDeniedException("You are not authorized to view applications");
+        }
+
+        ApplicationRepository.DataVersion version;
+        Application.ApplicationStatus parsedStatus = null;
         if (status != null && !status.isBlank()) {
-            Application.ApplicationStatus parsedStatus = parseStatus(status);
-            apps = applicationRepository.findByStatus(parsedStatus);
+            parsedStatus = parseStatus(status);
+            version = applicationRepository.findVersionByStatus(parsedStatus);
         } else {
-            apps = applicationRepository.findAll();
+            version = applicationRepository.findVersion();
         }
-
-        return apps.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return ETags.of("applications", parsedStatus, version.getTotal(), version.getLastUpdated());
     }
 
     @Transactional
@@ -102,22 +139,38 @@ public class ApplicationService {
         Application application = applicationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + id));
 
+        Application.ApplicationStatus previousStatus = application.getStatus();
         application.setStatus(request.getStatus());
         application.setRemarks(request.getRemarks());
 
         Application updated = applicationRepository.save(application);
+        publishTransition(updated, previousStatus);
 
         // Send notification asynchronously
         notificationService.sendApplicationStatusChange(updated);
 
-        return toResponse(updated);
+        return ApplicationResponse.fromEntity(updated);
     }
 
-    private boolean canView(Application application, String userEmail, Authentication authentication) {
+    private void publishTransition(Application application, Application.ApplicationStatus previousStatus) {
+        eventPublisher.publishEvent(StatusTransitionEvent.of(
+                StatusTransitionEvent.EntityType.APPLICATION,
+                application.getId(),
+                application.getCitizen().getId(),
+                null,
+                null,
+                previousStatus,
+                application.getStatus(),
+                null,
+                application.getService() != null ? application.getService().getId() : null
+        ));
+    }
+
+    private boolean canView(Application application, Long userId, Authentication authentication) {
         if (isAdminOrOfficer(authentication)) {
             return true;
         }
-        return application.getCitizen() != null && userEmail.equalsIgnoreCase(application.getCitizen().getEmail());
+        return application.getCitizen() != null && application.getCitizen().getId().equals(userId);
     }
 
     private boolean isAdminOrOfficer(Authentication authentication) {
@@ -140,26 +193,4 @@ public class ApplicationService {
             throw new IllegalArgumentException("Invalid status value: " + status);
         }
     }
-
-    private User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-    }
-
-    private ApplicationResponse toResponse(Application application) {
-        return ApplicationResponse.builder()
-                .id(application.getId())
-                .serviceId(application.getService() != null ? application.getService().getId() : null)
-                .serviceName(application.getService() != null ? application.getService().getName() : null)
-                .citizenId(application.getCitizen() != null ? application.getCitizen().getId() : null)
-                .citizenName(application.getCitizen() != null ? application.getCitizen().getFullName() : null)
-                .title(application.getTitle())
-                .description(application.getDescription())
-                .status(application.getStatus())
-                .remarks(application.getRemarks())
-                .documentUrls(application.getDocumentUrls())
-                .createdAt(application.getCreatedAt())
-                .updatedAt(application.getUpdatedAt())
-                .build();
-    }
 }
@@ -0,0 +1,60 @@
+package com.jonoseba.common.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published whenever a complaint or application is created or changes status/assignee.
+ * Listeners annotated with {@code @EventListener} run inside the publishing transaction;
+ * use {@code @TransactionalEventListener} for work that must only happen after commit.
+ *
+ * @param fromStatus previous status name, or {@code null} when the entity was just created
+ * @param category   complaint category, or {@code null} for applications
+ * @param serviceId  application service id, or {@code null} for complaints
+ */
+public record StatusTransitionEvent(
+        EntityType entityType,
+        Long entityId,
+        Long citizenId,
+        Long previousAssigneeId,
+        Long assigneeId,
+        String fromStatus,
+        String toStatus,
+        String category,
+        Long serviceId,
+        LocalDateTime occurredAt
+) {
+
+    public static StatusTransitionEvent of(EntityType entityType, Long entityId, Long citizenId,
+                                           Long previousAssigneeId, Long assigneeId,
+                                           Enum<?> fromStatus, Enum<?> toStatus,
+                                           String category, Long serviceId) {
+        return new StatusTransitionEvent(
+                entityType,
+                entityId,
+                citizenId,
+                previousAssigneeId,
+                assigneeId,
+                fromStatus != null ? fromStatus.name() : null,
+                toStatus.name(),
+                category,
+                serviceId,
+                LocalDateTime.now()
+        );
+    }
+
+    public boolean isCreation() {
+        return fromStatus == null;
+    }
+
+    public boolean statusChanged() {
+        return fromStatus == null || !fromStatus.equals(toStatus);
+    }
+
+    public boolean assigneeChanged() {
+        return previousAssigneeId == null ? assigneeId != null : !previousAssigneeId.equals(assigneeId);
+    }
+
+    public enum EntityType {
+        COMPLAINT, APPLICATION
+    }
+}
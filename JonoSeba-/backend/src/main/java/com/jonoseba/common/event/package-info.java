@@ -0,0 +1,4 @@
+/**
+ * Domain events shared across feature modules.
+ */
+package com.jonoseba.common.event;
@@ -0,0 +1,42 @@
+package com.jonoseba.common.util;
+
+import org.springframework.http.CacheControl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.StringJoiner;
+
+/**
+ * Builds strong ETags from the data version of a response rather than from its body, so a
+ * conditional GET can be answered before the payload is built or serialized.
+ */
+public final class ETags {
+
+    /**
+     * Lets clients keep the body but makes them revalidate with If-None-Match on every use.
+     */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    /**
+     * Hashes the given parts into a quoted strong ETag. Callers include everything the response
+     * depends on: the endpoint, the user it is scoped to, request parameters and data versions.
+     */
+    public static String of(Object... parts) {
+        StringJoiner joiner = new StringJoiner("|");
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(joiner.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
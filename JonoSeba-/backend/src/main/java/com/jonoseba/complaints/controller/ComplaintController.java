@@ -1,11 +1,19 @@
 package com.jonoseba.complaints.controller;
 
 import com.jonoseba.common.dto.ApiResponse;
+import com.jonoseba.common.dto.CursorPage;
+import com.jonoseba.common.util.ETags;
 import com.jonoseba.complaints.dto.ComplaintAssignRequest;
+import com.jonoseba.complaints.dto.ComplaintBulkStatusResult;
+import com.jonoseba.complaints.dto.ComplaintBulkStatusUpdateRequest;
 import com.jonoseba.complaints.dto.ComplaintCreateRequest;
+import com.jonoseba.complaints.dto.ComplaintFilter;
 import com.jonoseba.complaints.dto.ComplaintResponse;
 import com.jonoseba.complaints.dto.ComplaintStatusUpdateRequest;
 import com.jonoseba.complaints.service.ComplaintService;
+import com.jonoseba.reports.dto.TimelineEntry;
+import com.jonoseba.security.AuthenticatedUser;
+import com.jonoseba.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -13,6 +21,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -27,26 +36,41 @@ public class ComplaintController {
     @PreAuthorize("hasRole('CITIZEN')")
     public ResponseEntity<ApiResponse<ComplaintResponse>> createComplaint(
             @Valid @RequestBody ComplaintCreateRequest request,
-            Authentication authentication) {
-        ComplaintResponse response = complaintService.createComplaint(request, authentication.getName());
+            @CurrentUser AuthenticatedUser currentUser) {
+        ComplaintResponse response = complaintService.createComplaint(request, currentUser.getId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Complaint created", response));
     }
 
+    /**
+     * GET /api/complaints/me - The citizen's complaints, newest first, one page at a time
+     * e.g. ?status=NEW&category=ROAD_DAMAGE&from=2024-05-01&to=2024-05-31&limit=50&cursor=...
+     */
     @GetMapping("/me")
     @PreAuthorize("hasRole('CITIZEN')")
-    public ResponseEntity<ApiResponse<List<ComplaintResponse>>> getMyComplaints(Authentication authentication) {
-        List<ComplaintResponse> responses = complaintService.getMyComplaints(authentication.getName());
-        return ResponseEntity.ok(ApiResponse.success("Complaints fetched", responses));
+    public ResponseEntity<ApiResponse<CursorPage<ComplaintResponse>>> getMyComplaints(
+            @CurrentUser AuthenticatedUser currentUser, @ModelAttribute ComplaintFilter filter, WebRequest request) {
+        if (request.checkNotModified(complaintService.getMyComplaintsETag(currentUser.getId(), filter))) {
+            return null;
+        }
+        CursorPage<ComplaintResponse> responses = complaintService.getMyComplaints(currentUser.getId(), filter);
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success("Complaints fetched", responses));
     }
 
+    /**
+     * GET /api/complaints - All complaints, newest first, one page at a time; also filterable by ?assigneeId=
+     */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<ComplaintResponse>>> getAllComplaints(
-            @RequestParam(value = "status", required = false) String status,
-            Authentication authentication) {
-        List<ComplaintResponse> responses = complaintService.getAllComplaints(status, authentication);
-        return ResponseEntity.ok(ApiResponse.success("Complaints fetched", responses));
+    public ResponseEntity<ApiResponse<CursorPage<ComplaintResponse>>> getAllComplaints(
+            @ModelAttribute ComplaintFilter filter, Authentication authentication, WebRequest request) {
+        if (request.checkNotModified(complaintService.getAllComplaintsETag(filter, authentication))) {
+            return null;
+        }
+        CursorPage<ComplaintResponse> responses = complaintService.getAllComplaints(filter, authentication);
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success("Complaints fetched", responses));
     }
 
     @PatchMapping("/{id}/assign")
@@ -54,16 +78,25 @@ public class ComplaintController {
     public ResponseEntity<ApiResponse<ComplaintResponse>> assignComplaint(
             @PathVariable Long id,
             @Valid @RequestBody ComplaintAssignRequest request,
-            Authentication authentication) {
-        ComplaintResponse response = complaintService.assignComplaint(id, request, authentication);
+            @CurrentUser AuthenticatedUser currentUser) {
+        ComplaintResponse response = complaintService.assignComplaint(id, request, currentUser);
         return ResponseEntity.ok(ApiResponse.success("Complaint assigned", response));
     }
 
+    /**
+     * GET /api/complaints/assigned - The officer's assigned complaints, newest first, one page at a time
+     */
     @GetMapping("/assigned")
     @PreAuthorize("hasRole('OFFICER')")
-    public ResponseEntity<ApiResponse<List<ComplaintResponse>>> getAssignedComplaints(Authentication authentication) {
-        List<ComplaintResponse> responses = complaintService.getAssignedComplaints(authentication.getName(), authentication);
-        return ResponseEntity.ok(ApiResponse.success("Complaints fetched", responses));
+    public ResponseEntity<ApiResponse<CursorPage<ComplaintResponse>>> getAssignedComplaints(
+            @CurrentUser AuthenticatedUser currentUser, @ModelAttribute ComplaintFilter filter,
+            Authentication authentication, WebRequest request) {
+        if (request.checkNotModified(complaintService.getAssignedComplaintsETag(currentUser.getId(), filter, authentication))) {
+            return null;
+        }
+        CursorPage<ComplaintResponse> responses = complaintService.getAssignedComplaints(currentUser.getId(), filter, authentication);
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success("Complaints fetched", responses));
     }
 
     @PatchMapping("/{id}/status")
@@ -71,8 +104,33 @@ public class ComplaintController {
     public ResponseEntity<ApiResponse<ComplaintResponse>> updateStatus(
             @PathVariable Long id,
             @Valid @RequestBody ComplaintStatusUpdateRequest request,
-            Authentication authentication) {
-        ComplaintResponse response = complaintService.updateStatus(id, request, authentication);
+            @CurrentUser AuthenticatedUser currentUser) {
+        ComplaintResponse response = complaintService.updateStatus(id, request, currentUser);
         return ResponseEntity.ok(ApiResponse.success("Status updated", response));
     }
+
+    /**
+     * GET /api/complaints/{id}/timeline - Every status update of the complaint, oldest first
+     */
+    @GetMapping("/{id}/timeline")
+    @PreAuthorize("hasAnyRole('CITIZEN','OFFICER','ADMIN')")
+    public ResponseEntity<ApiResponse<List<TimelineEntry>>> getTimeline(
+            @PathVariable Long id,
+            @CurrentUser AuthenticatedUser currentUser) {
+        List<TimelineEntry> timeline = complaintService.getTimeline(id, currentUser);
+        return ResponseEntity.ok(ApiResponse.success("Timeline fetched", timeline));
+    }
+
+    /**
+     * PATCH /api/complaints/status - Moves many complaints to one status with one progress note
+     * Returns one result per id; ids that are missing or not assigned to the calling officer are skipped
+     */
+    @PatchMapping("/status")
+    @PreAuthorize("hasAnyRole('OFFICER','ADMIN')")
+    public ResponseEntity<ApiResponse<List<ComplaintBulkStatusResult>>> bulkUpdateStatus(
+            @Valid @RequestBody ComplaintBulkStatusUpdateRequest request,
+            @CurrentUser AuthenticatedUser currentUser) {
+        List<ComplaintBulkStatusResult> results = complaintService.bulkUpdateStatus(request, currentUser);
+        return ResponseEntity.ok(ApiResponse.success("Statuses updated", results));
+    }
 }
@@ -0,0 +1,26 @@
+package com.jonoseba.complaints.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one complaint in a bulk status update; {@code complaint} is set only when it was updated.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ComplaintBulkStatusResult {
+    private Long id;
+    private Outcome outcome;
+    private String message;
+    private ComplaintResponse complaint;
+
+    public enum Outcome {
+        UPDATED, NOT_FOUND, FORBIDDEN
+    }
+}
@@ -0,0 +1,29 @@
+package com.jonoseba.complaints.dto;
+
+import com.jonoseba.complaints.model.Complaint;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Moves every listed complaint to the same status with the same progress note.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ComplaintBulkStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one complaint id is required")
+    private List<Long> ids;
+
+    @NotNull(message = "Status is required")
+    private Complaint.ComplaintStatus status;
+
+    private String progressNote;
+}
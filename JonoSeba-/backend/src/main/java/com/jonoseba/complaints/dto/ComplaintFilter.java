@@ -0,0 +1,32 @@
+package com.jonoseba.complaints.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Query parameters of the complaint listings, all optional. {@code from} and {@code to} bound the
+ * creation date and are both inclusive; {@code cursor} is the {@code nextCursor} of the previous page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ComplaintFilter {
+    private String status;
+    private String category;
+    private Long assigneeId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    private String cursor;
+    private Integer limit;
+}
@@ -13,6 +13,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class ComplaintResponse {
+    // ComplaintRepository's projection queries call the all-args constructor; keep its order in mind
+    // when adding or moving fields
     private Long id;
     private String category;
     private String description;
@@ -26,4 +28,22 @@ public class ComplaintResponse {
     private String progressNote;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    public static ComplaintResponse fromEntity(Complaint complaint) {
+        return ComplaintResponse.builder()
+                .id(complaint.getId())
+                .category(complaint.getCategory())
+                .description(complaint.getDescription())
+                .photoUrl(complaint.getPhotoUrl())
+                .locationText(complaint.getLocationText())
+                .status(complaint.getStatus())
+                .citizenId(complaint.getCitizen() != null ? complaint.getCitizen().getId() : null)
+                .citizenName(complaint.getCitizen() != null ? complaint.getCitizen().getFullName() : null)
+                .assignedToId(complaint.getAssignedTo() != null ? complaint.getAssignedTo().getId() : null)
+                .assignedToName(complaint.getAssignedTo() != null ? complaint.getAssignedTo().getFullName() : null)
+                .progressNote(complaint.getProgressNote())
+                .createdAt(complaint.getCreatedAt())
+                .updatedAt(complaint.getUpdatedAt())
+                .build();
+    }
 }
@@ -10,7 +10,18 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "complaints")
+@Table(name = "complaints", indexes = {
+        // Keyset-paginated listings, newest first, unfiltered or narrowed by one equality filter
+        @Index(name = "idx_complaints_created", columnList = "created_at, id"),
+        @Index(name = "idx_complaints_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_complaints_category_created", columnList = "category, created_at, id"),
+        @Index(name = "idx_complaints_citizen_created", columnList = "citizen_id, created_at, id"),
+        @Index(name = "idx_complaints_assignee_created", columnList = "assigned_to, created_at, id"),
+        // Per-scope status counts and data versions, and the unassigned backlog sweep
+        @Index(name = "idx_complaints_assignee_status", columnList = "assigned_to, status, updated_at"),
+        @Index(name = "idx_complaints_citizen_status", columnList = "citizen_id, status, updated_at"),
+        @Index(name = "idx_complaints_status_unassigned", columnList = "status, assigned_to, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,24 +1,33 @@
 package com.jonoseba.complaints.repository;
 
+import com.jonoseba.complaints.dto.ComplaintResponse;
 import com.jonoseba.complaints.model.Complaint;
 import com.jonoseba.users.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
     
     List<Complaint> findByCitizen(User citizen);
     
-    List<Complaint> findByCitizenId(Long citizenId);
-    
     List<Complaint> findByAssignedTo(User assignedTo);
     
-    List<Complaint> findByAssignedToId(Long assignedToId);
-    
     List<Complaint> findByStatus(Complaint.ComplaintStatus status);
     
     List<Complaint> findByCategory(String category);
@@ -32,8 +41,201 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
     long countByAssignedTo(User assignedTo);
     
     long countByAssignedToAndStatus(User assignedTo, Complaint.ComplaintStatus status);
+
+    long countByAssignedToIdAndStatusIn(Long assignedToId, Collection<Complaint.ComplaintStatus> statuses);
     
+    @EntityGraph(attributePaths = "citizen")
     List<Complaint> findByAssignedToOrderByCreatedAtDesc(User assignedTo, Pageable pageable);
 
     List<Complaint> findByStatusAndAssignedToIsNull(Complaint.ComplaintStatus status);
+
+    /**
+     * The complaint with its citizen and assignee joined in, for updates that return the full response.
+     */
+    @EntityGraph(attributePaths = {"citizen", "assignedTo"})
+    Optional<Complaint> findWithUsersById(Long id);
+
+    /**
+     * One page of complaints, newest first, strictly before the keyset cursor
+     * {@code (cursorCreatedAt, cursorId)} when it is given. Every other parameter is an optional
+     * filter that is skipped when null; the drivers inline the parameters, so MySQL folds the
+     * unused conditions away and can use the matching {@code (column, created_at, id)} index.
+     * Selects exactly the response columns, with the citizen's and assignee's names joined in, so
+     * a page is one statement and no entities are loaded. Ask for one row more than the page size
+     * to learn whether a next page exists.
+     */
+    @Query("SELECT new com.jonoseba.complaints.dto.ComplaintResponse(c.id, c.category, c.description, "
+            + "c.photoUrl, c.locationText, c.status, citizen.id, citizen.fullName, assignee.id, assignee.fullName, "
+            + "c.progressNote, c.createdAt, c.updatedAt) "
+            + "FROM Complaint c JOIN c.citizen citizen LEFT JOIN c.assignedTo assignee "
+            + "WHERE (:status IS NULL OR c.status = :status) "
+            + "AND (:category IS NULL OR c.category = :category) "
+            + "AND (:citizenId IS NULL OR c.citizen.id = :citizenId) "
+            + "AND (:assigneeId IS NULL OR c.assignedTo.id = :assigneeId) "
+            + "AND (:from IS NULL OR c.createdAt >= :from) "
+            + "AND (:to IS NULL OR c.createdAt < :to) "
+            + "AND (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt "
+            + "OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ComplaintResponse> findResponsePage(@Param("status") Complaint.ComplaintStatus status,
+                                             @Param("category") String category,
+                                             @Param("citizenId") Long citizenId,
+                                             @Param("assigneeId") Long assigneeId,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to,
+                                             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    /**
+     * Responses for the given complaint ids, in no particular order, in one statement.
+     */
+    @Query("SELECT new com.jonoseba.complaints.dto.ComplaintResponse(c.id, c.category, c.description, "
+            + "c.photoUrl, c.locationText, c.status, citizen.id, citizen.fullName, assignee.id, assignee.fullName, "
+            + "c.progressNote, c.createdAt, c.updatedAt) "
+            + "FROM Complaint c JOIN c.citizen citizen LEFT JOIN c.assignedTo assignee WHERE c.id IN :ids")
+    List<ComplaintResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Locks the given complaints with their citizen and assignee, read-only: callers write their
+     * changes with JDBC and only mirror them on the entities.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT c FROM Complaint c JOIN FETCH c.citizen LEFT JOIN FETCH c.assignedTo WHERE c.id IN :ids")
+    List<Complaint> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Responses for every complaint, optionally in one status, in id order. Streamed from a
+     * forward-only cursor without entities; must be consumed inside a transaction and closed.
+     */
+    @Query("SELECT new com.jonoseba.complaints.dto.ComplaintResponse(c.id, c.category, c.description, "
+            + "c.photoUrl, c.locationText, c.status, citizen.id, citizen.fullName, assignee.id, assignee.fullName, "
+            + "c.progressNote, c.createdAt, c.updatedAt) "
+            + "FROM Complaint c JOIN c.citizen citizen LEFT JOIN c.assignedTo assignee "
+            + "WHERE (:status IS NULL OR c.status = :status) ORDER BY c.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ComplaintResponse> streamResponses(@Param("status") Complaint.ComplaintStatus status);
+
+    /**
+     * The next chunk of unassigned complaints in a status after the keyset cursor
+     * {@code (createdAt, id)}, oldest first, locked until the transaction ends so concurrent
+     * assignment runs cannot assign the same complaint twice. Loaded read-only: assignment
+     * writes the rows with JDBC batch updates, so in-memory changes must not be flushed.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT c FROM Complaint c WHERE c.status = :status AND c.assignedTo IS NULL "
+            + "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) "
+            + "ORDER BY c.createdAt, c.id")
+    List<Complaint> findUnassignedAfterForUpdate(@Param("status") Complaint.ComplaintStatus status,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") long id,
+                                                 Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT c FROM Complaint c WHERE c.id IN :ids AND c.status = :status AND c.assignedTo IS NULL "
+            + "ORDER BY c.createdAt, c.id")
+    List<Complaint> findUnassignedForUpdate(@Param("ids") Collection<Long> ids,
+                                            @Param("status") Complaint.ComplaintStatus status);
+
+    /**
+     * Per-status complaint counts in a single GROUP BY round trip.
+     * Statuses with no rows are absent from the result.
+     */
+    @Query("SELECT c.status AS status, COUNT(c) AS total FROM Complaint c GROUP BY c.status")
+    List<StatusCount> countGroupedByStatus();
+
+    @Query("SELECT c.status AS status, COUNT(c) AS total FROM Complaint c "
+            + "WHERE c.citizen = :citizen GROUP BY c.status")
+    List<StatusCount> countGroupedByStatusForCitizen(@Param("citizen") User citizen);
+
+    @Query("SELECT c.status AS status, COUNT(c) AS total FROM Complaint c "
+            + "WHERE c.assignedTo = :assignedTo GROUP BY c.status")
+    List<StatusCount> countGroupedByStatusForAssignee(@Param("assignedTo") User assignedTo);
+
+    /**
+     * Per-citizen, per-status counts over the whole table; used to rebuild status counters.
+     */
+    @Query("SELECT c.citizen.id AS scopeId, c.status AS status, COUNT(c) AS total FROM Complaint c "
+            + "GROUP BY c.citizen.id, c.status")
+    List<ScopedStatusCount> countGroupedByCitizenAndStatus();
+
+    /**
+     * Per-assignee, per-status counts for assigned complaints; used to rebuild status counters.
+     */
+    @Query("SELECT c.assignedTo.id AS scopeId, c.status AS status, COUNT(c) AS total FROM Complaint c "
+            + "WHERE c.assignedTo IS NOT NULL GROUP BY c.assignedTo.id, c.status")
+    List<ScopedStatusCount> countGroupedByAssigneeAndStatus();
+
+    /**
+     * Per-assignee counts of complaints in the given statuses, in one round trip for all
+     * assignees; assignees with none are absent. Used to balance auto-assignment.
+     */
+    @Query("SELECT c.assignedTo.id AS assigneeId, COUNT(c) AS total FROM Complaint c "
+            + "WHERE c.assignedTo IS NOT NULL AND c.status IN :statuses GROUP BY c.assignedTo.id")
+    List<AssigneeCount> countGroupedByAssigneeForStatuses(
+            @Param("statuses") Collection<Complaint.ComplaintStatus> statuses);
+
+    /**
+     * Row count and latest update for a citizen's complaints; changes whenever any of them
+     * is created or modified, so it can stand in for the list when computing an ETag.
+     */
+    @Query("SELECT COUNT(c) AS total, MAX(c.updatedAt) AS lastUpdated FROM Complaint c "
+            + "WHERE c.citizen.id = :citizenId")
+    DataVersion findVersionByCitizenId(@Param("citizenId") Long citizenId);
+
+    @Query("SELECT COUNT(c) AS total, MAX(c.updatedAt) AS lastUpdated FROM Complaint c "
+            + "WHERE c.assignedTo.id = :assignedToId")
+    DataVersion findVersionByAssignedToId(@Param("assignedToId") Long assignedToId);
+
+    @Query("SELECT COUNT(c) AS total, MAX(c.updatedAt) AS lastUpdated FROM Complaint c")
+    DataVersion findVersion();
+
+    @Query("SELECT COUNT(c) AS total, MAX(c.updatedAt) AS lastUpdated FROM Complaint c "
+            + "WHERE c.status = :status")
+    DataVersion findVersionByStatus(@Param("status") Complaint.ComplaintStatus status);
+
+    /**
+     * Complaints created or last updated in {@code [from, to)}; the source for rollup backfills.
+     * Must be consumed inside a transaction and closed.
+     */
+    @Query("SELECT c.status AS status, c.category AS category, c.createdAt AS createdAt, c.updatedAt AS updatedAt "
+            + "FROM Complaint c WHERE (c.createdAt >= :from AND c.createdAt < :to) "
+            + "OR (c.updatedAt >= :from AND c.updatedAt < :to)")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<RollupSource> streamRollupSources(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    interface StatusCount {
+        Complaint.ComplaintStatus getStatus();
+
+        long getTotal();
+    }
+
+    interface ScopedStatusCount extends StatusCount {
+        Long getScopeId();
+    }
+
+    interface AssigneeCount {
+        Long getAssigneeId();
+
+        long getTotal();
+    }
+
+    interface RollupSource {
+        Complaint.ComplaintStatus getStatus();
+
+        String getCategory();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface DataVersion {
+        long getTotal();
+
+        LocalDateTime getLastUpdated();
+    }
 }
@@ -1,37 +1,77 @@
 package com.jonoseba.complaints.service;
 
+import com.jonoseba.common.dto.CursorPage;
+import com.jonoseba.common.event.StatusTransitionEvent;
 import com.jonoseba.common.exception.ResourceNotFoundException;
+import com.jonoseba.common.util.Cursors;
+import com.jonoseba.common.util.ETags;
 import com.jonoseba.complaints.dto.ComplaintAssignRequest;
+import com.jonoseba.complaints.dto.ComplaintBulkStatusResult;
+import com.jonoseba.complaints.dto.ComplaintBulkStatusUpdateRequest;
 import com.jonoseba.complaints.dto.ComplaintCreateRequest;
+import com.jonoseba.complaints.dto.ComplaintFilter;
 import com.jonoseba.complaints.dto.ComplaintResponse;
 import com.jonoseba.complaints.dto.ComplaintStatusUpdateRequest;
 import com.jonoseba.complaints.model.Complaint;
 import com.jonoseba.complaints.repository.ComplaintRepository;
 import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.reports.dto.TimelineEntry;
+import com.jonoseba.reports.service.StatusTransitionLog;
+import com.jonoseba.security.AuthenticatedUser;
 import com.jonoseba.users.model.User;
 import com.jonoseba.users.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Service
-@RequiredArgsConstructor
 public class ComplaintService {
 
+    private static final String STATUS_SQL =
+            "UPDATE complaints SET status = ?, progress_note = ?, updated_at = ? WHERE id = ?";
+
     private final ComplaintRepository complaintRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final StatusTransitionLog statusTransitionLog;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxBulkSize;
+
+    public ComplaintService(ComplaintRepository complaintRepository,
+                            UserRepository userRepository,
+                            NotificationService notificationService,
+                            ApplicationEventPublisher eventPublisher,
+                            JdbcTemplate jdbcTemplate,
+                            StatusTransitionLog statusTransitionLog,
+                            @Value("${complaints.page.default-size:50}") int defaultPageSize,
+                            @Value("${complaints.page.max-size:200}") int maxPageSize,
+                            @Value("${complaints.bulk.max-size:200}") int maxBulkSize) {
+        this.complaintRepository = complaintRepository;
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.statusTransitionLog = statusTransitionLog;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxBulkSize = maxBulkSize;
+    }
 
     @Transactional
-    public ComplaintResponse createComplaint(ComplaintCreateRequest request, String userEmail) {
-        User citizen = getUserByEmail(userEmail);
+    public ComplaintResponse createComplaint(ComplaintCreateRequest request, Long userId) {
+        User citizen = userRepository.getReferenceById(userId);
         Complaint complaint = Complaint.builder()
                 .citizen(citizen)
                 .category(request.getCategory())
@@ -41,77 +81,243 @@ public class ComplaintService {
                 .status(Complaint.ComplaintStatus.NEW)
                 .build();
         Complaint saved = complaintRepository.save(complaint);
-        return toResponse(saved);
+        publishTransition(saved, null, null);
+        return ComplaintResponse.fromEntity(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ComplaintResponse> getMyComplaints(Long userId, ComplaintFilter filter) {
+        return findPage(userId, filter.getAssigneeId(), filter);
     }
 
+    /**
+     * ETag for {@link #getMyComplaints(Long, ComplaintFilter)}, computed without loading the complaints.
+     */
     @Transactional(readOnly = true)
-    public List<ComplaintResponse> getMyComplaints(String userEmail) {
-        User citizen = getUserByEmail(userEmail);
-        return complaintRepository.findByCitizen(citizen)
-                .stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    public String getMyComplaintsETag(Long userId, ComplaintFilter filter) {
+        ComplaintRepository.DataVersion version = complaintRepository.findVersionByCitizenId(userId);
+        return ETags.of("complaints/me", userId, filter, version.getTotal(), version.getLastUpdated());
     }
 
     @Transactional(readOnly = true)
-    public List<ComplaintResponse> getAllComplaints(String status, Authentication authentication) {
+    public CursorPage<ComplaintResponse> getAllComplaints(ComplaintFilter filter, Authentication authentication) {
         ensureAdmin(authentication);
-        List<Complaint> complaints;
-        if (status != null && !status.isBlank()) {
-            complaints = complaintRepository.findByStatus(parseStatus(status));
-        } else {
-            complaints = complaintRepository.findAll();
-        }
-        return complaints.stream().map(this::toResponse).collect(Collectors.toList());
+        return findPage(null, filter.getAssigneeId(), filter);
     }
 
-    @Transactional
-    public ComplaintResponse assignComplaint(Long id, ComplaintAssignRequest request, Authentication authentication) {
+    /**
+     * ETag for {@link #getAllComplaints(ComplaintFilter, Authentication)}, computed without loading the complaints.
+     */
+    @Transactional(readOnly = true)
+    public String getAllComplaintsETag(ComplaintFilter filter, Authentication authentication) {
         ensureAdmin(authentication);
-        Complaint complaint = complaintRepository.findById(id)
+        Complaint.ComplaintStatus status = parseOptionalStatus(filter.getStatus());
+        ComplaintRepository.DataVersion version = status != null
+                ? complaintRepository.findVersionByStatus(status)
+                : complaintRepository.findVersion();
+        return ETags.of("complaints", filter, version.getTotal(), version.getLastUpdated());
+    }
+
+    @Transactional
+    public ComplaintResponse assignComplaint(Long id, ComplaintAssignRequest request, AuthenticatedUser currentUser) {
+        ensureAdmin(currentUser);
+        Complaint complaint = complaintRepository.findWithUsersById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Complaint not found with id: " + id));
 
         User officer = userRepository.findById(request.getAssignToOfficerId())
                 .orElseThrow(() -> new ResourceNotFoundException("Officer not found with id: " + request.getAssignToOfficerId()));
 
+        Complaint.ComplaintStatus previousStatus = complaint.getStatus();
+        User previousAssignee = complaint.getAssignedTo();
         complaint.setAssignedTo(officer);
         complaint.setStatus(Complaint.ComplaintStatus.ASSIGNED);
 
         Complaint saved = complaintRepository.save(complaint);
+        publishTransition(saved, previousStatus, previousAssignee);
         notificationService.sendComplaintAssignment(saved);
-        return toResponse(saved);
+        return ComplaintResponse.fromEntity(saved);
     }
 
+    /**
+     * The officer's own complaints; an {@code assigneeId} in the filter is ignored.
+     */
     @Transactional(readOnly = true)
-    public List<ComplaintResponse> getAssignedComplaints(String userEmail, Authentication authentication) {
+    public CursorPage<ComplaintResponse> getAssignedComplaints(Long userId, ComplaintFilter filter,
+                                                               Authentication authentication) {
         ensureOfficer(authentication);
-        User officer = getUserByEmail(userEmail);
-        return complaintRepository.findByAssignedTo(officer)
-                .stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return findPage(null, userId, filter);
+    }
+
+    /**
+     * ETag for {@link #getAssignedComplaints(Long, ComplaintFilter, Authentication)}, computed without loading the complaints.
+     */
+    @Transactional(readOnly = true)
+    public String getAssignedComplaintsETag(Long userId, ComplaintFilter filter, Authentication authentication) {
+        ensureOfficer(authentication);
+        ComplaintRepository.DataVersion version = complaintRepository.findVersionByAssignedToId(userId);
+        return ETags.of("complaints/assigned", userId, filter, version.getTotal(), version.getLastUpdated());
     }
 
     @Transactional
-    public ComplaintResponse updateStatus(Long id, ComplaintStatusUpdateRequest request, Authentication authentication) {
-        if (!isOfficerOrAdmin(authentication)) {
+    public ComplaintResponse updateStatus(Long id, ComplaintStatusUpdateRequest request, AuthenticatedUser currentUser) {
+        if (!isOfficerOrAdmin(currentUser)) {
             throw new AccessDeniedException("You are not authorized to update complaint status");
         }
 
-        Complaint complaint = complaintRepository.findById(id)
+        Complaint complaint = complaintRepository.findWithUsersById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Complaint not found with id: " + id));
 
         // If officer, ensure assigned to current officer
-        if (isOfficerOnly(authentication) && !isAssignedTo(authentication, complaint)) {
+        if (hasRole(currentUser, User.UserRole.OFFICER) && !isAssignedTo(currentUser, complaint)) {
             throw new AccessDeniedException("You are not authorized to update this complaint");
         }
 
+        Complaint.ComplaintStatus previousStatus = complaint.getStatus();
         complaint.setStatus(request.getStatus());
         complaint.setProgressNote(request.getProgressNote());
 
         Complaint saved = complaintRepository.save(complaint);
+        publishTransition(saved, previousStatus, saved.getAssignedTo());
         notificationService.sendComplaintStatusChange(saved);
-        return toResponse(saved);
+        return ComplaintResponse.fromEntity(saved);
+    }
+
+    /**
+     * Moves many complaints to one status in a single transaction. The complaints are locked with
+     * one query and checked in memory, the updates go out as one JDBC batch and the citizens'
+     * notifications as another. Complaints that do not exist or, for officers, are not assigned to
+     * the caller are reported and skipped without failing the rest.
+     *
+     * @return one result per distinct id, in request order
+     * @throws IllegalArgumentException if more ids are given than the configured maximum
+     */
+    @Transactional
+    public List<ComplaintBulkStatusResult> bulkUpdateStatus(ComplaintBulkStatusUpdateRequest request,
+                                                            AuthenticatedUser currentUser) {
+        if (!isOfficerOrAdmin(currentUser)) {
+            throw new AccessDeniedException("You are not authorized to update complaint status");
+        }
+        Set<Long> ids = new LinkedHashSet<>(request.getIds());
+        ids.remove(null);
+        if (ids.isEmpty() || ids.size() > maxBulkSize) {
+            throw new IllegalArgumentException("Between 1 and " + maxBulkSize + " complaint ids are required");
+        }
+
+        Map<Long, Complaint> complaints = new HashMap<>();
+        for (Complaint complaint : complaintRepository.findAllByIdInForUpdate(ids)) {
+            complaints.put(complaint.getId(), complaint);
+        }
+        boolean officerOnly = hasRole(currentUser, User.UserRole.OFFICER);
+        LocalDateTime now = LocalDateTime.now();
+        List<ComplaintBulkStatusResult> results = new ArrayList<>(ids.size());
+        List<Complaint> updated = new ArrayList<>(ids.size());
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        // The transition log entries are written with one batch as well
+        statusTransitionLog.batch(() -> {
+            for (Long id : ids) {
+                Complaint complaint = complaints.get(id);
+                if (complaint == null) {
+                    results.add(rejected(id, ComplaintBulkStatusResult.Outcome.NOT_FOUND, "Complaint not found with id: " + id));
+                    continue;
+                }
+                if (officerOnly && !isAssignedTo(currentUser, complaint)) {
+                    results.add(rejected(id, ComplaintBulkStatusResult.Outcome.FORBIDDEN,
+                            "You are not authorized to update this complaint"));
+                    continue;
+                }
+                // Read-only entity: mirrors the batched update so listeners and responses see the new state
+                Complaint.ComplaintStatus previousStatus = complaint.getStatus();
+                complaint.setStatus(request.getStatus());
+                complaint.setProgressNote(request.getProgressNote());
+                complaint.setUpdatedAt(now);
+                rows.add(new Object[]{request.getStatus().name(), request.getProgressNote(), now, id});
+                updated.add(complaint);
+                publishTransition(complaint, previousStatus, complaint.getAssignedTo());
+                results.add(ComplaintBulkStatusResult.builder()
+                        .id(id)
+                        .outcome(ComplaintBulkStatusResult.Outcome.UPDATED)
+                        .complaint(ComplaintResponse.fromEntity(complaint))
+                        .build());
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(STATUS_SQL, rows);
+            notificationService.sendComplaintStatusChanges(updated);
+        }
+        return results;
+    }
+
+    /**
+     * Every recorded update of the complaint, oldest first, for its citizen, its assigned officer
+     * and admins.
+     */
+    @Transactional(readOnly = true)
+    public List<TimelineEntry> getTimeline(Long id, AuthenticatedUser currentUser) {
+        Complaint complaint = complaintRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Complaint not found with id: " + id));
+
+        boolean canView = hasRole(currentUser, User.UserRole.ADMIN)
+                || complaint.getCitizen().getId().equals(currentUser.getId())
+                || (hasRole(currentUser, User.UserRole.OFFICER) && isAssignedTo(currentUser, complaint));
+        if (!canView) {
+            throw new AccessDeniedException("You are not authorized to view this complaint");
+        }
+
+        return statusTransitionLog.timeline(StatusTransitionEvent.EntityType.COMPLAINT, id);
+    }
+
+    private static ComplaintBulkStatusResult rejected(Long id, ComplaintBulkStatusResult.Outcome outcome, String message) {
+        return ComplaintBulkStatusResult.builder().id(id).outcome(outcome).message(message).build();
+    }
+
+    private void publishTransition(Complaint complaint, Complaint.ComplaintStatus previousStatus, User previousAssignee) {
+        eventPublisher.publishEvent(StatusTransitionEvent.of(
+                StatusTransitionEvent.EntityType.COMPLAINT,
+                complaint.getId(),
+                complaint.getCitizen().getId(),
+                previousAssignee != null ? previousAssignee.getId() : null,
+                complaint.getAssignedTo() != null ? complaint.getAssignedTo().getId() : null,
+                previousStatus,
+                complaint.getStatus(),
+                complaint.getCategory(),
+                null
+        ));
+    }
+
+    /**
+     * One keyset page of complaints, newest first, for the given citizen and/or assignee scope.
+     *
+     * @throws IllegalArgumentException if a filter value, the cursor or the page size is invalid
+     */
+    private CursorPage<ComplaintResponse> findPage(Long citizenId, Long assigneeId, ComplaintFilter filter) {
+        int limit = filter.getLimit() != null ? filter.getLimit() : defaultPageSize;
+        if (limit < 1 || limit > maxPageSize) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxPageSize);
+        }
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter(filter.getTo())) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        Cursors.Position after = filter.getCursor() != null && !filter.getCursor().isBlank()
+                ? Cursors.decode(filter.getCursor()) : null;
+        LocalDateTime from = filter.getFrom() != null ? filter.getFrom().atStartOfDay() : null;
+        LocalDateTime to = filter.getTo() != null ? filter.getTo().plusDays(1).atStartOfDay() : null;
+        String category = filter.getCategory() != null && !filter.getCategory().isBlank() ? filter.getCategory() : null;
+
+        List<ComplaintResponse> rows = complaintRepository.findResponsePage(parseOptionalStatus(filter.getStatus()),
+                category, citizenId, assigneeId, from, to,
+                after != null ? after.createdAt() : null, after != null ? after.id() : null,
+                PageRequest.of(0, limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<ComplaintResponse> page = hasMore ? rows.subList(0, limit) : rows;
+        ComplaintResponse last = hasMore ? page.get(limit - 1) : null;
+        return CursorPage.<ComplaintResponse>builder()
+                .items(page)
+                .nextCursor(last != null ? Cursors.encode(last.getCreatedAt(), last.getId()) : null)
+                .build();
+    }
+
+    private Complaint.ComplaintStatus parseOptionalStatus(String status) {
+        return status != null && !status.isBlank() ? parseStatus(status) : null;
     }
 
     private Complaint.ComplaintStatus parseStatus(String status) {
@@ -122,34 +328,38 @@ public class ComplaintService {
         }
     }
 
-    private User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-    }
-
     private void ensureAdmin(Authentication authentication) {
         if (!hasRole(authentication, "ROLE_ADMIN")) {
             throw new AccessDeniedException("You are not authorized to perform this action");
         }
     }
 
+    private void ensureAdmin(AuthenticatedUser currentUser) {
+        if (!hasRole(currentUser, User.UserRole.ADMIN)) {
+            throw new AccessDeniedException("You are not authorized to perform this action");
+        }
+    }
+
     private void ensureOfficer(Authentication authentication) {
         if (!hasRole(authentication, "ROLE_OFFICER") && !hasRole(authentication, "ROLE_ADMIN")) {
             throw new AccessDeniedException("You are not authorized to perform this action");
         }
     }
 
-    private boolean isOfficerOrAdmin(Authentication authentication) {
-        return hasRole(authentication, "ROLE_OFFICER") || hasRole(authentication, "ROLE_ADMIN");
+    private boolean isOfficerOrAdmin(AuthenticatedUser currentUser) {
+        return hasRole(currentUser, User.UserRole.OFFICER) || hasRole(currentUser, User.UserRole.ADMIN);
     }
 
-    private boolean isOfficerOnly(Authentication authentication) {
-        return hasRole(authentication, "ROLE_OFFICER") && !hasRole(authentication, "ROLE_ADMIN");
+    /**
+     * Compares ids only, so an uninitialized assignee proxy is not loaded.
+     */
+    private boolean isAssignedTo(AuthenticatedUser currentUser, Complaint complaint) {
+        if (complaint.getAssignedTo() == null || currentUser == null) return false;
+        return complaint.getAssignedTo().getId().equals(currentUser.getId());
     }
 
-    private boolean isAssignedTo(Authentication authentication, Complaint complaint) {
-        if (complaint.getAssignedTo() == null || authentication == null) return false;
-        return complaint.getAssignedTo().getEmail().equalsIgnoreCase(authentication.getName());
+    private boolean hasRole(AuthenticatedUser currentUser, User.UserRole role) {
+        return currentUser != null && currentUser.getRole() == role;
     }
 
     private boolean hasRole(Authentication authentication, String role) {
@@ -161,22 +371,4 @@ public class ComplaintService {
         }
         return false;
     }
-
-    private ComplaintResponse toResponse(Complaint complaint) {
-        return ComplaintResponse.builder()
-                .id(complaint.getId())
-                .category(complaint.getCategory())
-                .description(complaint.getDescription())
-                .photoUrl(complaint.getPhotoUrl())
-                .locationText(complaint.getLocationText())
-                .status(complaint.getStatus())
-                .citizenId(complaint.getCitizen() != null ? complaint.getCitizen().getId() : null)
-                .citizenName(complaint.getCitizen() != null ? complaint.getCitizen().getFullName() : null)
-                .assignedToId(complaint.getAssignedTo() != null ? complaint.getAssignedTo().getId() : null)
-                .assignedToName(complaint.getAssignedTo() != null ? complaint.getAssignedTo().getFullName() : null)
-                .progressNote(complaint.getProgressNote())
-                .createdAt(complaint.getCreatedAt())
-                .updatedAt(complaint.getUpdatedAt())
-                .build();
-    }
 }
@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Clock;
 import java.util.concurrent.Executor;
 
 @Configuration
@@ -23,4 +24,12 @@ public class AsyncSchedulingConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * UTC so that job lease expiry times written by different nodes are comparable.
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
 }
@@ -1,22 +1,34 @@
 package com.jonoseba.dashboard.controller;
 
 import com.jonoseba.common.dto.ApiResponse;
+import com.jonoseba.common.util.ETags;
 import com.jonoseba.dashboard.dto.AdminDashboardResponse;
 import com.jonoseba.dashboard.dto.CitizenDashboardResponse;
+import com.jonoseba.dashboard.dto.DashboardLiveMessage;
 import com.jonoseba.dashboard.dto.DashboardSummaryResponse;
 import com.jonoseba.dashboard.dto.OfficerDashboardResponse;
+import com.jonoseba.dashboard.dto.TrendResponse;
 import com.jonoseba.dashboard.dto.UserProfileResponse;
 import com.jonoseba.dashboard.service.DashboardService;
+import com.jonoseba.dashboard.service.LiveDashboardService;
+import com.jonoseba.dashboard.service.TrendService;
+import com.jonoseba.security.AuthenticatedUser;
+import com.jonoseba.security.CurrentUser;
 import com.jonoseba.users.model.User;
 import com.jonoseba.users.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -24,6 +36,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final TrendService trendService;
+    private final LiveDashboardService liveDashboardService;
     private final UserRepository userRepository;
 
     /**
@@ -31,51 +45,129 @@ public class DashboardController {
      */
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<UserProfileResponse>> getCurrentUserProfile(
-            Authentication authentication) {
-        User user = getUserFromAuthentication(authentication);
+            @CurrentUser AuthenticatedUser currentUser) {
+        User user = loadUser(currentUser);
         UserProfileResponse response = UserProfileResponse.fromUser(user);
         return ResponseEntity.ok(ApiResponse.success("User profile retrieved", response));
     }
 
     /**
      * GET /api/dashboard/summary - Returns applications and complaints summary
+     * Answers 304 Not Modified when If-None-Match matches the current data version
      */
     @GetMapping("/summary")
     public ResponseEntity<ApiResponse<DashboardSummaryResponse>> getDashboardSummary(
-            Authentication authentication) {
-        User user = getUserFromAuthentication(authentication);
+            @CurrentUser AuthenticatedUser currentUser, WebRequest request) {
+        User user = loadUser(currentUser);
+        if (request.checkNotModified(dashboardService.getDashboardSummaryETag(user))) {
+            return null;
+        }
         DashboardSummaryResponse response = dashboardService.getDashboardSummary(user);
-        return ResponseEntity.ok(ApiResponse.success("Dashboard summary retrieved", response));
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success("Dashboard summary retrieved", response));
     }
 
     @GetMapping("/citizen")
     @PreAuthorize("hasRole('CITIZEN')")
     public ResponseEntity<ApiResponse<CitizenDashboardResponse>> getCitizenDashboard(
-            Authentication authentication) {
-        User citizen = getUserFromAuthentication(authentication);
+            @CurrentUser AuthenticatedUser currentUser, WebRequest request) {
+        User citizen = userReference(currentUser);
+        if (request.checkNotModified(dashboardService.getCitizenDashboardETag(citizen))) {
+            return null;
+        }
         CitizenDashboardResponse response = dashboardService.getCitizenDashboard(citizen);
-        return ResponseEntity.ok(ApiResponse.success("Citizen dashboard data", response));
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success("Citizen dashboard data", response));
     }
 
     @GetMapping("/admin")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<AdminDashboardResponse>> getAdminDashboard() {
-        AdminDashboardResponse response = dashboardService.getAdminDashboard();
-        return ResponseEntity.ok(ApiResponse.success("Admin dashboard data", response));
+    public ResponseEntity<ApiResponse<AdminDashboardResponse>> getAdminDashboard(WebRequest request) {
+        String eTag = dashboardService.getAdminDashboardETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        AdminDashboardResponse response = dashboardService.getAdminDashboard(eTag);
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success("Admin dashboard data", response));
     }
 
     @GetMapping("/officer")
     @PreAuthorize("hasRole('OFFICER')")
     public ResponseEntity<ApiResponse<OfficerDashboardResponse>> getOfficerDashboard(
-            Authentication authentication) {
-        User officer = getUserFromAuthentication(authentication);
+            @CurrentUser AuthenticatedUser currentUser, WebRequest request) {
+        User officer = userReference(currentUser);
+        if (request.checkNotModified(dashboardService.getOfficerDashboardETag(officer))) {
+            return null;
+        }
         OfficerDashboardResponse response = dashboardService.getOfficerDashboard(officer);
-        return ResponseEntity.ok(ApiResponse.success("Officer dashboard data", response));
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success("Officer dashboard data", response));
+    }
+
+    /**
+     * GET /api/dashboard/live/admin - Snapshot and sequence number for /topic/dashboard/admin
+     */
+    @GetMapping("/live/admin")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<DashboardLiveMessage>> getAdminLiveSnapshot() {
+        DashboardLiveMessage snapshot = liveDashboardService.snapshot(LiveDashboardService.ADMIN_TOPIC);
+        return ResponseEntity.ok(ApiResponse.success("Live dashboard snapshot", snapshot));
+    }
+
+    /**
+     * GET /api/dashboard/live/officer - Snapshot and sequence number for /topic/dashboard/officer/{id}
+     */
+    @GetMapping("/live/officer")
+    @PreAuthorize("hasRole('OFFICER')")
+    public ResponseEntity<ApiResponse<DashboardLiveMessage>> getOfficerLiveSnapshot(
+            @CurrentUser AuthenticatedUser currentUser) {
+        DashboardLiveMessage snapshot = liveDashboardService.snapshot(LiveDashboardService.officerTopic(currentUser.getId()));
+        return ResponseEntity.ok(ApiResponse.success("Live dashboard snapshot", snapshot));
+    }
+
+    /**
+     * GET /api/dashboard/trends - Per-bucket status counts for complaints or applications
+     * The range is limited by number of buckets, e.g. ?entity=COMPLAINT&granularity=HOUR&from=2024-05-01T00:00
+     */
+    @GetMapping("/trends")
+    @PreAuthorize("hasAnyRole('ADMIN','OFFICER')")
+    public ResponseEntity<ApiResponse<TrendResponse>> getTrends(
+            @RequestParam("entity") String entity,
+            @RequestParam(value = "granularity", defaultValue = "DAY") String granularity,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "serviceId", required = false) Long serviceId) {
+        TrendResponse response = trendService.getTrend(entity, granularity, from,
+                to != null ? to : LocalDateTime.now(), category, serviceId);
+        return ResponseEntity.ok(ApiResponse.success("Trend data", response));
+    }
+
+    /**
+     * POST /api/dashboard/trends/backfill - Rebuilds trend buckets in a range from the source tables
+     */
+    @PostMapping("/trends/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> backfillTrends(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        int buckets = trendService.backfill(from, to);
+        return ResponseEntity.ok(ApiResponse.success("Trend buckets rebuilt", buckets));
     }
 
-    private User getUserFromAuthentication(Authentication authentication) {
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+    /**
+     * Full user row, for views that show the profile.
+     */
+    private User loadUser(AuthenticatedUser currentUser) {
+        return userRepository.findById(currentUser.getId())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + currentUser.getId()));
+    }
+
+    /**
+     * Unloaded reference for views that only scope their queries by user id.
+     */
+    private User userReference(AuthenticatedUser currentUser) {
+        return userRepository.getReferenceById(currentUser.getId());
     }
 }
@@ -0,0 +1,39 @@
+package com.jonoseba.dashboard.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Message on a live dashboard topic, also returned by the snapshot endpoints.
+ * <p>
+ * Sequence numbers are per topic and increase by one per message. A {@code DELTA} carries only
+ * the changed status counts of one entity type; a {@code SNAPSHOT} carries every count. Clients
+ * subscribe first, then fetch a snapshot, drop deltas with {@code seq <= snapshot.seq} and apply
+ * the rest; a gap in {@code seq} means messages were missed and a new snapshot is needed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardLiveMessage {
+
+    public static final String DELTA = "DELTA";
+    public static final String SNAPSHOT = "SNAPSHOT";
+
+    private String type;
+    private String topic;
+    private Long seq;
+
+    // DELTA: entity type and signed change per status, e.g. {"NEW": -1, "ASSIGNED": 1}
+    private String entityType;
+    private Map<String, Long> changes;
+
+    // SNAPSHOT: entity type -> status -> count
+    private Map<String, Map<String, Long>> counts;
+}
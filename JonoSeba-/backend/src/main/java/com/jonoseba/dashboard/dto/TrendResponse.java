@@ -0,0 +1,43 @@
+package com.jonoseba.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendResponse {
+
+    private String entityType;
+    private String granularity;
+
+    // Bucket-aligned range, end exclusive
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    // Filters applied, null when not filtered
+    private String category;
+    private Long serviceId;
+
+    private List<TrendPoint> points;
+
+    /**
+     * Number of records that entered each status during one bucket.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TrendPoint {
+        private LocalDateTime bucketStart;
+        private Long total;
+        private Map<String, Long> byStatus;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jonoseba.dashboard.model;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Materialized per-status count, maintained incrementally from {@link StatusTransitionEvent}s.
+ * Global counters use {@link #GLOBAL_SCOPE_ID} so the unique key never contains NULL.
+ */
+@Entity
+@Table(name = "status_counters", uniqueConstraints = @UniqueConstraint(
+        name = "uk_status_counters_key",
+        columnNames = {"entity_type", "scope", "scope_id", "status"}
+))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatusCounter {
+
+    public static final long GLOBAL_SCOPE_ID = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private StatusTransitionEvent.EntityType entityType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Scope scope;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    private Long total;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public enum Scope {
+        GLOBAL, CITIZEN, OFFICER
+    }
+}
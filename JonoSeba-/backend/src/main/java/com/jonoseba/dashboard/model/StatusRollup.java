@@ -0,0 +1,81 @@
+package com.jonoseba.dashboard.model;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Number of complaints or applications that entered a status during one time bucket, broken
+ * down by complaint category and application service. Filled from {@link StatusTransitionEvent}s.
+ * Missing dimensions use {@link #NO_CATEGORY} and {@link #NO_SERVICE} so the unique key never
+ * contains NULL; the key also serves range scans by (entity_type, granularity, bucket_start).
+ */
+@Entity
+@Table(name = "status_rollups", uniqueConstraints = @UniqueConstraint(
+        name = "uk_status_rollups_key",
+        columnNames = {"entity_type", "granularity", "bucket_start", "status", "category", "service_id"}
+))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatusRollup {
+
+    public static final String NO_CATEGORY = "";
+    public static final long NO_SERVICE = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private StatusTransitionEvent.EntityType entityType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Granularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    private String category;
+
+    @Column(name = "service_id", nullable = false)
+    private Long serviceId;
+
+    @Column(nullable = false)
+    private Long total;
+
+    public enum Granularity {
+        HOUR(ChronoUnit.HOURS), DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public LocalDateTime bucketOf(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+
+        public LocalDateTime next(LocalDateTime bucketStart) {
+            return bucketStart.plus(1, unit);
+        }
+
+        public long bucketsBetween(LocalDateTime from, LocalDateTime to) {
+            return unit.between(from, to);
+        }
+    }
+}
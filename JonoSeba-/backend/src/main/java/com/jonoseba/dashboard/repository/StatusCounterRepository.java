@@ -0,0 +1,61 @@
+package com.jonoseba.dashboard.repository;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.dashboard.model.StatusCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StatusCounterRepository extends JpaRepository<StatusCounter, Long> {
+
+    /*
+     * Reads go through closed projections rather than managed entities: increments are
+     * native statements, so managed StatusCounter instances would go stale within a transaction.
+     */
+
+    List<CounterView> findByEntityTypeAndScopeAndScopeId(
+            StatusTransitionEvent.EntityType entityType, StatusCounter.Scope scope, Long scopeId);
+
+    List<CounterView> findByEntityType(StatusTransitionEvent.EntityType entityType);
+
+    /**
+     * Latest change to any counter in a scope; cheap enough to compute an ETag per request.
+     */
+    @Query("SELECT MAX(c.updatedAt) FROM StatusCounter c "
+            + "WHERE c.entityType = :entityType AND c.scope = :scope AND c.scopeId = :scopeId")
+    LocalDateTime findLastUpdated(@Param("entityType") StatusTransitionEvent.EntityType entityType,
+                                  @Param("scope") StatusCounter.Scope scope,
+                                  @Param("scopeId") Long scopeId);
+
+    /**
+     * Atomically adds {@code delta} to a counter, creating the row on first use.
+     * Works on MySQL and on H2 running in MySQL mode.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO status_counters (entity_type, scope, scope_id, status, total, updated_at) "
+            + "VALUES (:entityType, :scope, :scopeId, :status, :delta, :now) "
+            + "ON DUPLICATE KEY UPDATE total = total + :delta, updated_at = :now",
+            nativeQuery = true)
+    void increment(@Param("entityType") String entityType,
+                   @Param("scope") String scope,
+                   @Param("scopeId") long scopeId,
+                   @Param("status") String status,
+                   @Param("delta") long delta,
+                   @Param("now") LocalDateTime now);
+
+    interface CounterView {
+        StatusCounter.Scope getScope();
+
+        Long getScopeId();
+
+        String getStatus();
+
+        Long getTotal();
+    }
+}
@@ -0,0 +1,66 @@
+package com.jonoseba.dashboard.repository;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.dashboard.model.StatusRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StatusRollupRepository extends JpaRepository<StatusRollup, Long> {
+
+    /**
+     * Atomically adds {@code delta} to a bucket, creating the row on first use.
+     * Works on MySQL and on H2 running in MySQL mode.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO status_rollups (entity_type, granularity, bucket_start, status, category, service_id, total) "
+            + "VALUES (:entityType, :granularity, :bucketStart, :status, :category, :serviceId, :delta) "
+            + "ON DUPLICATE KEY UPDATE total = total + :delta",
+            nativeQuery = true)
+    void add(@Param("entityType") String entityType,
+             @Param("granularity") String granularity,
+             @Param("bucketStart") LocalDateTime bucketStart,
+             @Param("status") String status,
+             @Param("category") String category,
+             @Param("serviceId") long serviceId,
+             @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM StatusRollup r WHERE r.entityType = :entityType "
+            + "AND r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteRange(@Param("entityType") StatusTransitionEvent.EntityType entityType,
+                    @Param("from") LocalDateTime from,
+                    @Param("to") LocalDateTime to);
+
+    /**
+     * Per-bucket, per-status totals in {@code [from, to)}. Category and service filters are
+     * optional; rows are summed across the dimensions that are not filtered on, so the result
+     * size is bounded by buckets times statuses regardless of how many rows were rolled up.
+     */
+    @Query("SELECT r.bucketStart AS bucketStart, r.status AS status, SUM(r.total) AS total FROM StatusRollup r "
+            + "WHERE r.entityType = :entityType AND r.granularity = :granularity "
+            + "AND r.bucketStart >= :from AND r.bucketStart < :to "
+            + "AND (:category IS NULL OR r.category = :category) "
+            + "AND (:serviceId IS NULL OR r.serviceId = :serviceId) "
+            + "GROUP BY r.bucketStart, r.status ORDER BY r.bucketStart")
+    List<BucketCount> findTrend(@Param("entityType") StatusTransitionEvent.EntityType entityType,
+                                @Param("granularity") StatusRollup.Granularity granularity,
+                                @Param("from") LocalDateTime from,
+                                @Param("to") LocalDateTime to,
+                                @Param("category") String category,
+                                @Param("serviceId") Long serviceId);
+
+    interface BucketCount {
+        LocalDateTime getBucketStart();
+
+        String getStatus();
+
+        long getTotal();
+    }
+}
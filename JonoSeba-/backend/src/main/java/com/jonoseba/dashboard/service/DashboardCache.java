@@ -0,0 +1,116 @@
+package com.jonoseba.dashboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.users.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process cache for dashboard responses, keyed by view, role and user id.
+ * Entries expire after a TTL and are invalidated when a write touching the user commits.
+ * Hit/miss/eviction metrics are published as {@code cache.*} meters tagged {@code cache=dashboard}.
+ */
+@Slf4j
+@Component
+public class DashboardCache {
+
+    private final Cache<Key, Object> cache;
+
+    public DashboardCache(MeterRegistry meterRegistry,
+                          @Value("${dashboard.cache.maximum-size:10000}") long maximumSize,
+                          @Value("${dashboard.cache.ttl:30s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "dashboard");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(View view, User.UserRole role, Long userId, Supplier<T> loader) {
+        return (T) cache.get(new Key(view, role, userId), key -> loader.get());
+    }
+
+    /**
+     * The admin dashboard is identical for every admin, so it is cached under a single key. The
+     * entry keeps the data version it was built for and is rebuilt when another version is asked
+     * for, so changes nothing evicts on, like new users, never pair a new ETag with an old body.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getShared(View view, Object version, Supplier<T> loader) {
+        Object entry = cache.asMap().compute(new Key(view, User.UserRole.ADMIN, null), (key, cached) ->
+                cached instanceof Versioned versioned && versioned.version().equals(version)
+                        ? cached : new Versioned(version, loader.get()));
+        return (T) ((Versioned) entry).value();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusTransition(StatusTransitionEvent event) {
+        evictUser(event.citizenId());
+        evictUser(event.previousAssigneeId());
+        evictUser(event.assigneeId());
+        cache.invalidate(new Key(View.ADMIN, User.UserRole.ADMIN, null));
+
+        // Admin summaries show global counts; officer summaries also show global application counts
+        Set<User.UserRole> globalSummaryRoles = event.entityType() == StatusTransitionEvent.EntityType.APPLICATION
+                ? EnumSet.of(User.UserRole.ADMIN, User.UserRole.OFFICER)
+                : EnumSet.of(User.UserRole.ADMIN);
+        cache.asMap().keySet().removeIf(key -> key.view() == View.SUMMARY && globalSummaryRoles.contains(key.role()));
+    }
+
+    /**
+     * Drops every cached view belonging to one user once the current transaction commits
+     * (immediately when called outside a transaction).
+     */
+    public void evictUserAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictUser(userId);
+                }
+            });
+        } else {
+            evictUser(userId);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private void evictUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        cache.invalidate(new Key(View.CITIZEN, User.UserRole.CITIZEN, userId));
+        cache.invalidate(new Key(View.OFFICER, User.UserRole.OFFICER, userId));
+        for (User.UserRole role : User.UserRole.values()) {
+            cache.invalidate(new Key(View.SUMMARY, role, userId));
+        }
+    }
+
+    public enum View {
+        CITIZEN, OFFICER, ADMIN, SUMMARY
+    }
+
+    private record Key(View view, User.UserRole role, Long userId) {
+    }
+
+    private record Versioned(Object version, Object value) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.jonoseba.dashboard.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent read queries behind a dashboard.
+ * <p>
+ * In {@link Mode#SEQUENTIAL} mode every query runs on the calling thread inside one read-only
+ * transaction. In {@link Mode#PARALLEL} mode each query runs on its own virtual thread with its
+ * own read-only transaction (and therefore its own connection), so latency approaches the slowest
+ * query instead of the sum. The fan-out is scoped like structured concurrency: the first failure
+ * or the deadline cancels every sibling, and nothing outlives {@link FanOut#join()}.
+ * <p>
+ * Both modes record the {@code dashboard.queries} timer tagged with view and mode.
+ */
+@Component
+public class DashboardQueryRunner {
+
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final Mode mode;
+    private final Duration timeout;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public DashboardQueryRunner(PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${dashboard.fan-out.mode:sequential}") Mode mode,
+                                @Value("${dashboard.fan-out.timeout:5s}") Duration timeout) {
+        this.transactionManager = transactionManager;
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+        this.timeout = timeout;
+    }
+
+    public FanOut fanOut(String view) {
+        return new FanOut(view);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        // Propagates to JPA query timeouts, so the database also stops work past the deadline
+        template.setTimeout((int) Math.max(1, timeout.toSeconds()));
+        return template;
+    }
+
+    public enum Mode {
+        SEQUENTIAL, PARALLEL
+    }
+
+    /**
+     * A set of queries submitted together and joined once. Results are read through the
+     * suppliers returned by {@link #submit(Callable)} after {@link #join()} returns.
+     */
+    public final class FanOut {
+
+        private final String view;
+        private final List<Task<?>> tasks = new ArrayList<>();
+
+        private FanOut(String view) {
+            this.view = view;
+        }
+
+        public <T> Supplier<T> submit(Callable<T> query) {
+            Task<T> task = new Task<>(query);
+            tasks.add(task);
+            return task;
+        }
+
+        public void join() {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                if (mode == Mode.PARALLEL) {
+                    joinParallel();
+                } else {
+                    readOnlyTransaction().executeWithoutResult(status -> tasks.forEach(Task::run));
+                }
+            } finally {
+                sample.stop(meterRegistry.timer("dashboard.queries", "view", view, "mode", mode.name().toLowerCase()));
+            }
+        }
+
+        private void joinParallel() {
+            TransactionTemplate transaction = readOnlyTransaction();
+            CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+            List<Future<Object>> futures = new ArrayList<>();
+            for (Task<?> task : tasks) {
+                futures.add(completion.submit(() -> transaction.execute(status -> {
+                    task.run();
+                    return null;
+                })));
+            }
+
+            long deadline = System.nanoTime() + timeout.toNanos();
+            try {
+                for (int i = 0; i < futures.size(); i++) {
+                    Future<Object> done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (done == null) {
+                        throw new QueryTimeoutException("Dashboard '" + view + "' queries exceeded " + timeout);
+                    }
+                    done.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while loading dashboard '" + view + "'", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException("Dashboard '" + view + "' query failed", cause);
+            } finally {
+                // Cancels stragglers after a failure or timeout; a no-op for completed futures
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+    }
+
+    private static final class Task<T> implements Supplier<T> {
+
+        private final Callable<T> query;
+        private volatile T result;
+
+        private Task(Callable<T> query) {
+            this.query = query;
+        }
+
+        void run() {
+            try {
+                result = query.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public T get() {
+            return result;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.jonoseba.dashboard.service;
 
 import com.jonoseba.applications.model.Application;
 import com.jonoseba.applications.repository.ApplicationRepository;
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.common.util.ETags;
 import com.jonoseba.complaints.model.Complaint;
 import com.jonoseba.complaints.repository.ComplaintRepository;
 import com.jonoseba.dashboard.dto.*;
@@ -10,11 +12,11 @@ import com.jonoseba.users.model.User;
 import com.jonoseba.users.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,195 +27,277 @@ public class DashboardService {
     private final ComplaintRepository complaintRepository;
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final StatusCounterService statusCounterService;
+    private final DashboardCache dashboardCache;
+    private final DashboardQueryRunner queryRunner;
+
+    /*
+     * Public methods consult the cache before opening a transaction, so cache hits never
+     * touch a database connection. On a miss the independent reads are handed to the
+     * DashboardQueryRunner, which runs them sequentially or in parallel; entities are mapped
+     * to DTOs inside each query so nothing lazy escapes its transaction.
+     */
 
-    @Transactional(readOnly = true)
     public CitizenDashboardResponse getCitizenDashboard(User citizen) {
-        // Get application counts
-        long applicationsTotal = applicationRepository.countByCitizen(citizen);
-        long applicationsPending = applicationRepository.countByCitizenAndStatus(
-                citizen, Application.ApplicationStatus.PENDING
-        );
+        return dashboardCache.get(DashboardCache.View.CITIZEN, User.UserRole.CITIZEN, citizen.getId(),
+                () -> buildCitizenDashboard(citizen));
+    }
 
-        // Get complaint counts
-        long complaintsTotal = complaintRepository.countByCitizen(citizen);
-        long complaintsOpen = complaintRepository.countByCitizenAndStatus(
-                citizen, Complaint.ComplaintStatus.NEW
-        ) + complaintRepository.countByCitizenAndStatus(
-                citizen, Complaint.ComplaintStatus.ASSIGNED
-        ) + complaintRepository.countByCitizenAndStatus(
-                citizen, Complaint.ComplaintStatus.IN_PROGRESS
-        );
+    public AdminDashboardResponse getAdminDashboard() {
+        return getAdminDashboard(getAdminDashboardETag());
+    }
+
+    /**
+     * Admin dashboard for the data version {@code eTag} was taken from, reusing the cached one
+     * only if it was built for the same version.
+     */
+    public AdminDashboardResponse getAdminDashboard(String eTag) {
+        return dashboardCache.getShared(DashboardCache.View.ADMIN, eTag, this::buildAdminDashboard);
+    }
+
+    public OfficerDashboardResponse getOfficerDashboard(User officer) {
+        return dashboardCache.get(DashboardCache.View.OFFICER, User.UserRole.OFFICER, officer.getId(),
+                () -> buildOfficerDashboard(officer));
+    }
+
+    /**
+     * Get dashboard summary for any authenticated user
+     * Returns user profile, applications summary, and complaints summary
+     */
+    public DashboardSummaryResponse getDashboardSummary(User user) {
+        return dashboardCache.get(DashboardCache.View.SUMMARY, user.getRole(), user.getId(),
+                () -> buildDashboardSummary(user));
+    }
+
+    /*
+     * ETags are derived from data versions (row counts, latest updated_at, counter timestamps)
+     * so a conditional GET can be answered without building or serializing the dashboard.
+     */
+
+    @Transactional(readOnly = true)
+    public String getCitizenDashboardETag(User citizen) {
+        ApplicationRepository.DataVersion applications = applicationRepository.findVersionByCitizenId(citizen.getId());
+        ComplaintRepository.DataVersion complaints = complaintRepository.findVersionByCitizenId(citizen.getId());
+        NotificationRepository.NotificationVersion notifications = notificationRepository.findVersionByUserId(citizen.getId());
+        return ETags.of("dashboard/citizen", citizen.getId(),
+                applications.getTotal(), applications.getLastUpdated(),
+                complaints.getTotal(), complaints.getLastUpdated(),
+                notifications.getTotal(), notifications.getLatestId(), notifications.getUnread());
+    }
+
+    @Transactional(readOnly = true)
+    public String getAdminDashboardETag() {
+        // Users are never deleted and keep their role, so the total changes with every role count
+        return ETags.of("dashboard/admin",
+                statusCounterService.globalLastUpdated(StatusTransitionEvent.EntityType.APPLICATION),
+                statusCounterService.globalLastUpdated(StatusTransitionEvent.EntityType.COMPLAINT),
+                userRepository.count());
+    }
+
+    @Transactional(readOnly = true)
+    public String getOfficerDashboardETag(User officer) {
+        ComplaintRepository.DataVersion complaints = complaintRepository.findVersionByAssignedToId(officer.getId());
+        return ETags.of("dashboard/officer", officer.getId(), complaints.getTotal(), complaints.getLastUpdated());
+    }
 
+    @Transactional(readOnly = true)
+    public String getDashboardSummaryETag(User user) {
+        Object applications;
+        Object complaints;
+        if (user.getRole() == User.UserRole.CITIZEN) {
+            ApplicationRepository.DataVersion applicationVersion = applicationRepository.findVersionByCitizenId(user.getId());
+            ComplaintRepository.DataVersion complaintVersion = complaintRepository.findVersionByCitizenId(user.getId());
+            applications = applicationVersion.getTotal() + "@" + applicationVersion.getLastUpdated();
+            complaints = complaintVersion.getTotal() + "@" + complaintVersion.getLastUpdated();
+        } else if (user.getRole() == User.UserRole.OFFICER) {
+            ComplaintRepository.DataVersion complaintVersion = complaintRepository.findVersionByAssignedToId(user.getId());
+            applications = statusCounterService.globalLastUpdated(StatusTransitionEvent.EntityType.APPLICATION);
+            complaints = complaintVersion.getTotal() + "@" + complaintVersion.getLastUpdated();
+        } else {
+            applications = statusCounterService.globalLastUpdated(StatusTransitionEvent.EntityType.APPLICATION);
+            complaints = statusCounterService.globalLastUpdated(StatusTransitionEvent.EntityType.COMPLAINT);
+        }
+        // The summary embeds the profile, so profile edits must change the tag too
+        return ETags.of("dashboard/summary", user.getId(), UserProfileResponse.fromUser(user), applications, complaints);
+    }
+
+    private CitizenDashboardResponse buildCitizenDashboard(User citizen) {
+        DashboardQueryRunner.FanOut queries = queryRunner.fanOut("citizen");
+        Supplier<Map<Application.ApplicationStatus, Long>> applicationsQuery = queries.submit(
+                () -> applicationCounts(applicationRepository.countGroupedByStatusForCitizen(citizen)));
+        Supplier<Map<Complaint.ComplaintStatus, Long>> complaintsQuery = queries.submit(
+                () -> complaintCounts(complaintRepository.countGroupedByStatusForCitizen(citizen)));
         // Get recent notifications (last 5)
-        List<RecentNotificationDto> recentNotifications = notificationRepository
-                .findByUserId(citizen.getId())
+        Supplier<List<RecentNotificationDto>> notificationsQuery = queries.submit(() -> notificationRepository
+                .findByUserIdOrderByCreatedAtDesc(citizen.getId(), PageRequest.of(0, 5))
                 .stream()
-                .sorted(Comparator.comparing(n -> n.getCreatedAt(), Comparator.reverseOrder()))
-                .limit(5)
                 .map(RecentNotificationDto::fromEntity)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+        queries.join();
+
+        // Get application counts
+        Map<Application.ApplicationStatus, Long> applications = applicationsQuery.get();
+        long applicationsTotal = total(applications);
+        long applicationsPending = applications.getOrDefault(Application.ApplicationStatus.PENDING, 0L);
+
+        // Get complaint counts
+        Map<Complaint.ComplaintStatus, Long> complaints = complaintsQuery.get();
+        long complaintsTotal = total(complaints);
+        long complaintsOpen = complaints.getOrDefault(Complaint.ComplaintStatus.NEW, 0L)
+                + complaints.getOrDefault(Complaint.ComplaintStatus.ASSIGNED, 0L)
+                + complaints.getOrDefault(Complaint.ComplaintStatus.IN_PROGRESS, 0L);
 
         return CitizenDashboardResponse.builder()
                 .applicationsTotal(applicationsTotal)
                 .applicationsPending(applicationsPending)
                 .complaintsTotal(complaintsTotal)
                 .complaintsOpen(complaintsOpen)
-                .recentNotifications(recentNotifications)
+                .recentNotifications(notificationsQuery.get())
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public AdminDashboardResponse getAdminDashboard() {
-        // Get application totals and breakdowns
-        long applicationsTotal = applicationRepository.count();
+    private AdminDashboardResponse buildAdminDashboard() {
+        DashboardQueryRunner.FanOut queries = queryRunner.fanOut("admin");
+        Supplier<Map<String, Long>> applicationsQuery = queries.submit(
+                () -> statusCounterService.globalCounts(StatusTransitionEvent.EntityType.APPLICATION));
+        Supplier<Map<String, Long>> complaintsQuery = queries.submit(
+                () -> statusCounterService.globalCounts(StatusTransitionEvent.EntityType.COMPLAINT));
+        Supplier<Long> usersQuery = queries.submit(userRepository::count);
+        Supplier<Long> officersQuery = queries.submit(() -> userRepository.countByRole(User.UserRole.OFFICER));
+        Supplier<Long> citizensQuery = queries.submit(() -> userRepository.countByRole(User.UserRole.CITIZEN));
+        queries.join();
+
+        // Get application totals and breakdowns from the status counters
+        Map<String, Long> applicationCounters = applicationsQuery.get();
         Map<String, Long> applicationsByStatus = new HashMap<>();
         for (Application.ApplicationStatus status : Application.ApplicationStatus.values()) {
-            long count = applicationRepository.countByStatus(status);
-            applicationsByStatus.put(status.name(), count);
+            applicationsByStatus.put(status.name(), applicationCounters.getOrDefault(status.name(), 0L));
         }
 
-        // Get complaint totals and breakdowns
-        long complaintsTotal = complaintRepository.count();
+        // Get complaint totals and breakdowns from the status counters
+        Map<String, Long> complaintCounters = complaintsQuery.get();
         Map<String, Long> complaintsByStatus = new HashMap<>();
         for (Complaint.ComplaintStatus status : Complaint.ComplaintStatus.values()) {
-            long count = complaintRepository.countByStatus(status);
-            complaintsByStatus.put(status.name(), count);
+            complaintsByStatus.put(status.name(), complaintCounters.getOrDefault(status.name(), 0L));
         }
 
-        // Get user counts by role
-        long totalUsers = userRepository.count();
-        long totalOfficers = userRepository.countByRole(User.UserRole.OFFICER);
-        long totalCitizens = userRepository.countByRole(User.UserRole.CITIZEN);
-
         return AdminDashboardResponse.builder()
-                .applicationsTotal(applicationsTotal)
+                .applicationsTotal(total(applicationsByStatus))
                 .applicationsByStatus(applicationsByStatus)
-                .complaintsTotal(complaintsTotal)
+                .complaintsTotal(total(complaintsByStatus))
                 .complaintsByStatus(complaintsByStatus)
-                .totalUsers(totalUsers)
-                .totalOfficers(totalOfficers)
-                .totalCitizens(totalCitizens)
+                .totalUsers(usersQuery.get())
+                .totalOfficers(officersQuery.get())
+                .totalCitizens(citizensQuery.get())
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public OfficerDashboardResponse getOfficerDashboard(User officer) {
-        // Get complaint counts by status for assigned complaints
-        long totalAssigned = complaintRepository.countByAssignedTo(officer);
-        long inProgress = complaintRepository.countByAssignedToAndStatus(
-                officer, Complaint.ComplaintStatus.IN_PROGRESS
-        );
-        long resolved = complaintRepository.countByAssignedToAndStatus(
-                officer, Complaint.ComplaintStatus.RESOLVED
-        );
-        long rejected = complaintRepository.countByAssignedToAndStatus(
-                officer, Complaint.ComplaintStatus.REJECTED
-        );
-
-        // Get breakdown by status
-        Map<String, Long> complaintsByStatus = new HashMap<>();
-        for (Complaint.ComplaintStatus status : Complaint.ComplaintStatus.values()) {
-            long count = complaintRepository.countByAssignedToAndStatus(officer, status);
-            if (count > 0) {
-                complaintsByStatus.put(status.name(), count);
-            }
-        }
-
+    private OfficerDashboardResponse buildOfficerDashboard(User officer) {
+        DashboardQueryRunner.FanOut queries = queryRunner.fanOut("officer");
+        Supplier<Map<String, Long>> countersQuery = queries.submit(
+                () -> statusCounterService.officerCounts(officer.getId()));
         // Get recent assigned complaints (last 5)
-        Pageable pageable = PageRequest.of(0, 5);
-        List<AssignedComplaintDto> recentComplaints = complaintRepository
-                .findByAssignedToOrderByCreatedAtDesc(officer, pageable)
+        Supplier<List<AssignedComplaintDto>> recentQuery = queries.submit(() -> complaintRepository
+                .findByAssignedToOrderByCreatedAtDesc(officer, PageRequest.of(0, 5))
                 .stream()
                 .map(AssignedComplaintDto::fromEntity)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+        queries.join();
+
+        // Get complaint counts by status for assigned complaints from the status counters
+        Map<String, Long> complaintsByStatus = new HashMap<>();
+        countersQuery.get().forEach((status, count) -> {
+            // Only statuses with at least one complaint
+            if (count > 0) {
+                complaintsByStatus.put(status, count);
+            }
+        });
 
         return OfficerDashboardResponse.builder()
                 .complaintsAssignedByStatus(complaintsByStatus)
-                .totalAssigned(totalAssigned)
-                .inProgress(inProgress)
-                .resolved(resolved)
-                .rejected(rejected)
-                .recentAssignedComplaints(recentComplaints)
+                .totalAssigned(total(complaintsByStatus))
+                .inProgress(complaintsByStatus.getOrDefault(Complaint.ComplaintStatus.IN_PROGRESS.name(), 0L))
+                .resolved(complaintsByStatus.getOrDefault(Complaint.ComplaintStatus.RESOLVED.name(), 0L))
+                .rejected(complaintsByStatus.getOrDefault(Complaint.ComplaintStatus.REJECTED.name(), 0L))
+                .recentAssignedComplaints(recentQuery.get())
                 .build();
     }
 
-    /**
-     * Get dashboard summary for any authenticated user
-     * Returns user profile, applications summary, and complaints summary
-     */
-    @Transactional(readOnly = true)
-    public DashboardSummaryResponse getDashboardSummary(User user) {
-        // User Profile
-        UserProfileResponse userInfo = UserProfileResponse.fromUser(user);
+    private DashboardSummaryResponse buildDashboardSummary(User user) {
+        DashboardQueryRunner.FanOut queries = queryRunner.fanOut("summary");
 
         // Applications Summary (for citizens, show their own; for admin/officer, show all)
-        long totalApplications;
-        DashboardSummaryResponse.ApplicationStatusCount appStatus;
-        
-        if (user.getRole() == User.UserRole.CITIZEN) {
-            // Citizen sees only their applications
-            totalApplications = applicationRepository.countByCitizen(user);
-            appStatus = DashboardSummaryResponse.ApplicationStatusCount.builder()
-                    .pending(applicationRepository.countByCitizenAndStatus(user, Application.ApplicationStatus.PENDING))
-                    .inReview(applicationRepository.countByCitizenAndStatus(user, Application.ApplicationStatus.REVIEW))
-                    .inProgress(applicationRepository.countByCitizenAndStatus(user, Application.ApplicationStatus.IN_PROGRESS))
-                    .approved(applicationRepository.countByCitizenAndStatus(user, Application.ApplicationStatus.APPROVED))
-                    .rejected(applicationRepository.countByCitizenAndStatus(user, Application.ApplicationStatus.REJECTED))
-                    .build();
-        } else {
+        Supplier<Map<Application.ApplicationStatus, Long>> applicationsQuery = queries.submit(() -> {
+            if (user.getRole() == User.UserRole.CITIZEN) {
+                // Citizen sees only their applications
+                return applicationCounts(applicationRepository.countGroupedByStatusForCitizen(user));
+            }
             // Admin/Officer sees all applications
-            totalApplications = applicationRepository.count();
-            appStatus = DashboardSummaryResponse.ApplicationStatusCount.builder()
-                    .pending(applicationRepository.countByStatus(Application.ApplicationStatus.PENDING))
-                    .inReview(applicationRepository.countByStatus(Application.ApplicationStatus.REVIEW))
-                    .inProgress(applicationRepository.countByStatus(Application.ApplicationStatus.IN_PROGRESS))
-                    .approved(applicationRepository.countByStatus(Application.ApplicationStatus.APPROVED))
-                    .rejected(applicationRepository.countByStatus(Application.ApplicationStatus.REJECTED))
-                    .build();
-        }
+            return applicationCounts(applicationRepository.countGroupedByStatus());
+        });
 
         // Complaints Summary
-        long totalComplaints;
-        DashboardSummaryResponse.ComplaintStatusCount complaintStatus;
-        
-        if (user.getRole() == User.UserRole.CITIZEN) {
-            // Citizen sees only their complaints
-            totalComplaints = complaintRepository.countByCitizen(user);
-            complaintStatus = DashboardSummaryResponse.ComplaintStatusCount.builder()
-                    .newCount(complaintRepository.countByCitizenAndStatus(user, Complaint.ComplaintStatus.NEW))
-                    .assigned(complaintRepository.countByCitizenAndStatus(user, Complaint.ComplaintStatus.ASSIGNED))
-                    .inProgress(complaintRepository.countByCitizenAndStatus(user, Complaint.ComplaintStatus.IN_PROGRESS))
-                    .resolved(complaintRepository.countByCitizenAndStatus(user, Complaint.ComplaintStatus.RESOLVED))
-                    .rejected(complaintRepository.countByCitizenAndStatus(user, Complaint.ComplaintStatus.REJECTED))
-                    .build();
-        } else if (user.getRole() == User.UserRole.OFFICER) {
-            // Officer sees complaints assigned to them
-            totalComplaints = complaintRepository.countByAssignedTo(user);
-            complaintStatus = DashboardSummaryResponse.ComplaintStatusCount.builder()
-                    .newCount(0L)
-                    .assigned(complaintRepository.countByAssignedToAndStatus(user, Complaint.ComplaintStatus.ASSIGNED))
-                    .inProgress(complaintRepository.countByAssignedToAndStatus(user, Complaint.ComplaintStatus.IN_PROGRESS))
-                    .resolved(complaintRepository.countByAssignedToAndStatus(user, Complaint.ComplaintStatus.RESOLVED))
-                    .rejected(complaintRepository.countByAssignedToAndStatus(user, Complaint.ComplaintStatus.REJECTED))
-                    .build();
-        } else {
+        Supplier<Map<Complaint.ComplaintStatus, Long>> complaintsQuery = queries.submit(() -> {
+            if (user.getRole() == User.UserRole.CITIZEN) {
+                // Citizen sees only their complaints
+                return complaintCounts(complaintRepository.countGroupedByStatusForCitizen(user));
+            } else if (user.getRole() == User.UserRole.OFFICER) {
+                // Officer sees complaints assigned to them
+                return complaintCounts(complaintRepository.countGroupedByStatusForAssignee(user));
+            }
             // Admin sees all complaints
-            totalComplaints = complaintRepository.count();
-            complaintStatus = DashboardSummaryResponse.ComplaintStatusCount.builder()
-                    .newCount(complaintRepository.countByStatus(Complaint.ComplaintStatus.NEW))
-                    .assigned(complaintRepository.countByStatus(Complaint.ComplaintStatus.ASSIGNED))
-                    .inProgress(complaintRepository.countByStatus(Complaint.ComplaintStatus.IN_PROGRESS))
-                    .resolved(complaintRepository.countByStatus(Complaint.ComplaintStatus.RESOLVED))
-                    .rejected(complaintRepository.countByStatus(Complaint.ComplaintStatus.REJECTED))
-                    .build();
-        }
+            return complaintCounts(complaintRepository.countGroupedByStatus());
+        });
+        queries.join();
+
+        // User Profile
+        UserProfileResponse userInfo = UserProfileResponse.fromUser(user);
+
+        Map<Application.ApplicationStatus, Long> applications = applicationsQuery.get();
+        DashboardSummaryResponse.ApplicationStatusCount appStatus = DashboardSummaryResponse.ApplicationStatusCount.builder()
+                .pending(applications.getOrDefault(Application.ApplicationStatus.PENDING, 0L))
+                .inReview(applications.getOrDefault(Application.ApplicationStatus.REVIEW, 0L))
+                .inProgress(applications.getOrDefault(Application.ApplicationStatus.IN_PROGRESS, 0L))
+                .approved(applications.getOrDefault(Application.ApplicationStatus.APPROVED, 0L))
+                .rejected(applications.getOrDefault(Application.ApplicationStatus.REJECTED, 0L))
+                .build();
+
+        Map<Complaint.ComplaintStatus, Long> complaints = complaintsQuery.get();
+        DashboardSummaryResponse.ComplaintStatusCount complaintStatus = DashboardSummaryResponse.ComplaintStatusCount.builder()
+                // Officers never hold NEW complaints; assignment moves them to ASSIGNED
+                .newCount(user.getRole() == User.UserRole.OFFICER
+                        ? 0L
+                        : complaints.getOrDefault(Complaint.ComplaintStatus.NEW, 0L))
+                .assigned(complaints.getOrDefault(Complaint.ComplaintStatus.ASSIGNED, 0L))
+                .inProgress(complaints.getOrDefault(Complaint.ComplaintStatus.IN_PROGRESS, 0L))
+                .resolved(complaints.getOrDefault(Complaint.ComplaintStatus.RESOLVED, 0L))
+                .rejected(complaints.getOrDefault(Complaint.ComplaintStatus.REJECTED, 0L))
+                .build();
 
         return DashboardSummaryResponse.builder()
                 .userInfo(userInfo)
-                .totalApplications(totalApplications)
+                .totalApplications(total(applications))
                 .applicationsByStatus(appStatus)
-                .totalComplaints(totalComplaints)
+                .totalComplaints(total(complaints))
                 .complaintsByStatus(complaintStatus)
                 .build();
     }
+
+    private static Map<Application.ApplicationStatus, Long> applicationCounts(
+            List<ApplicationRepository.StatusCount> rows) {
+        Map<Application.ApplicationStatus, Long> counts = new EnumMap<>(Application.ApplicationStatus.class);
+        rows.forEach(row -> counts.put(row.getStatus(), row.getTotal()));
+        return counts;
+    }
+
+    private static Map<Complaint.ComplaintStatus, Long> complaintCounts(
+            List<ComplaintRepository.StatusCount> rows) {
+        Map<Complaint.ComplaintStatus, Long> counts = new EnumMap<>(Complaint.ComplaintStatus.class);
+        rows.forEach(row -> counts.put(row.getStatus(), row.getTotal()));
+        return counts;
+    }
+
+    private static long total(Map<?, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
 }
@@ -0,0 +1,166 @@
+package com.jonoseba.dashboard.service;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.common.event.StatusTransitionEvent.EntityType;
+import com.jonoseba.dashboard.dto.DashboardLiveMessage;
+import com.jonoseba.notifications.publisher.NotificationPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Pushes status counter deltas to live dashboard topics after each status change commits:
+ * {@code admin} for the global counts and {@code officer/{id}} for an officer's assigned
+ * complaints. Each topic keeps its counts and sequence number in memory, updated under one lock,
+ * so a snapshot and the deltas that follow it are always consistent. Topic state is created from
+ * the status counters on the first snapshot request; until then there is nobody to keep in sync
+ * and deltas are not published.
+ * <p>
+ * Like the simple broker it publishes through, the state is local to this instance. A delta whose
+ * transaction committed just before a topic was first loaded can be counted twice; such drift is
+ * cleared by {@link #reload()} after the nightly counter reconciliation.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveDashboardService {
+
+    public static final String ADMIN_TOPIC = "admin";
+
+    private final StatusCounterService statusCounterService;
+    private final NotificationPublisher notificationPublisher;
+    private final Map<String, TopicState> topics = new ConcurrentHashMap<>();
+
+    public static String officerTopic(Long officerId) {
+        return "officer/" + officerId;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusTransition(StatusTransitionEvent event) {
+        if (event.statusChanged()) {
+            publish(ADMIN_TOPIC, event.entityType(), changes(event.fromStatus(), event.toStatus()));
+        }
+
+        if (event.entityType() != EntityType.COMPLAINT || (!event.statusChanged() && !event.assigneeChanged())) {
+            return;
+        }
+        if (Objects.equals(event.previousAssigneeId(), event.assigneeId())) {
+            if (event.assigneeId() != null) {
+                publish(officerTopic(event.assigneeId()), EntityType.COMPLAINT, changes(event.fromStatus(), event.toStatus()));
+            }
+            return;
+        }
+        if (event.previousAssigneeId() != null) {
+            publish(officerTopic(event.previousAssigneeId()), EntityType.COMPLAINT, changes(event.fromStatus(), null));
+        }
+        if (event.assigneeId() != null) {
+            publish(officerTopic(event.assigneeId()), EntityType.COMPLAINT, changes(null, event.toStatus()));
+        }
+    }
+
+    /**
+     * Current counts and sequence number of a topic, loading it on first use.
+     */
+    public DashboardLiveMessage snapshot(String topic) {
+        return topics.computeIfAbsent(topic, this::load).snapshot();
+    }
+
+    /**
+     * Reloads every loaded topic from the status counters and publishes a fresh snapshot on each.
+     */
+    public void reload() {
+        topics.values().forEach(state -> state.reset(loader(state.topic).get()));
+        log.info("Reloaded {} live dashboard topics", topics.size());
+    }
+
+    private void publish(String topic, EntityType entityType, Map<String, Long> changes) {
+        TopicState state = topics.get(topic);
+        if (state != null && !changes.isEmpty()) {
+            state.apply(entityType.name(), changes);
+        }
+    }
+
+    private TopicState load(String topic) {
+        return new TopicState(topic, loader(topic).get());
+    }
+
+    private Supplier<Map<String, Map<String, Long>>> loader(String topic) {
+        if (ADMIN_TOPIC.equals(topic)) {
+            return () -> {
+                Map<String, Map<String, Long>> counts = new HashMap<>();
+                counts.put(EntityType.APPLICATION.name(), statusCounterService.globalCounts(EntityType.APPLICATION));
+                counts.put(EntityType.COMPLAINT.name(), statusCounterService.globalCounts(EntityType.COMPLAINT));
+                return counts;
+            };
+        }
+        Long officerId = Long.valueOf(topic.substring(topic.indexOf('/') + 1));
+        return () -> {
+            Map<String, Map<String, Long>> counts = new HashMap<>();
+            counts.put(EntityType.COMPLAINT.name(), statusCounterService.officerCounts(officerId));
+            return counts;
+        };
+    }
+
+    private static Map<String, Long> changes(String fromStatus, String toStatus) {
+        Map<String, Long> changes = new LinkedHashMap<>();
+        if (fromStatus != null) {
+            changes.merge(fromStatus, -1L, Long::sum);
+        }
+        if (toStatus != null) {
+            changes.merge(toStatus, 1L, Long::sum);
+        }
+        changes.values().removeIf(delta -> delta == 0);
+        return changes;
+    }
+
+    private final class TopicState {
+
+        private final String topic;
+        private Map<String, Map<String, Long>> counts;
+        private long seq;
+
+        private TopicState(String topic, Map<String, Map<String, Long>> counts) {
+            this.topic = topic;
+            this.counts = counts;
+        }
+
+        synchronized DashboardLiveMessage snapshot() {
+            Map<String, Map<String, Long>> copy = new HashMap<>();
+            counts.forEach((entityType, byStatus) -> copy.put(entityType, new HashMap<>(byStatus)));
+            return DashboardLiveMessage.builder()
+                    .type(DashboardLiveMessage.SNAPSHOT)
+                    .topic(topic)
+                    .seq(seq)
+                    .counts(copy)
+                    .build();
+        }
+
+        // Publishing while holding the lock keeps messages on the wire in sequence order
+        synchronized void apply(String entityType, Map<String, Long> changes) {
+            Map<String, Long> byStatus = counts.computeIfAbsent(entityType, key -> new HashMap<>());
+            changes.forEach((status, delta) -> byStatus.merge(status, delta, Long::sum));
+            seq++;
+            notificationPublisher.publishDashboard(topic, DashboardLiveMessage.builder()
+                    .type(DashboardLiveMessage.DELTA)
+                    .topic(topic)
+                    .seq(seq)
+                    .entityType(entityType)
+                    .changes(changes)
+                    .build());
+        }
+
+        synchronized void reset(Map<String, Map<String, Long>> reloaded) {
+            counts = reloaded;
+            seq++;
+            notificationPublisher.publishDashboard(topic, snapshot());
+        }
+    }
+}
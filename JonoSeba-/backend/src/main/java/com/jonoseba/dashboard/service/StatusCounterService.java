@@ -0,0 +1,153 @@
+package com.jonoseba.dashboard.service;
+
+import com.jonoseba.applications.repository.ApplicationRepository;
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.common.event.StatusTransitionEvent.EntityType;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.dashboard.model.StatusCounter;
+import com.jonoseba.dashboard.model.StatusCounter.Scope;
+import com.jonoseba.dashboard.repository.StatusCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Maintains the {@code status_counters} read model. Counters are adjusted in the same
+ * transaction as the status change, so dashboards can read O(#statuses) rows instead of
+ * scanning the source tables. {@link #reconcile()} recomputes them from the source tables.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatusCounterService {
+
+    private final StatusCounterRepository statusCounterRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ComplaintRepository complaintRepository;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onStatusTransition(StatusTransitionEvent event) {
+        if (!event.statusChanged() && !event.assigneeChanged()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (event.fromStatus() != null) {
+            apply(event.entityType(), Scope.GLOBAL, StatusCounter.GLOBAL_SCOPE_ID, event.fromStatus(), -1, now);
+            apply(event.entityType(), Scope.CITIZEN, event.citizenId(), event.fromStatus(), -1, now);
+            apply(event.entityType(), Scope.OFFICER, event.previousAssigneeId(), event.fromStatus(), -1, now);
+        }
+        apply(event.entityType(), Scope.GLOBAL, StatusCounter.GLOBAL_SCOPE_ID, event.toStatus(), 1, now);
+        apply(event.entityType(), Scope.CITIZEN, event.citizenId(), event.toStatus(), 1, now);
+        apply(event.entityType(), Scope.OFFICER, event.assigneeId(), event.toStatus(), 1, now);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Long> globalCounts(EntityType entityType) {
+        return counts(entityType, Scope.GLOBAL, StatusCounter.GLOBAL_SCOPE_ID);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Long> officerCounts(Long officerId) {
+        return counts(EntityType.COMPLAINT, Scope.OFFICER, officerId);
+    }
+
+    /**
+     * Time of the latest change to any global counter of the entity type, or null if none exist.
+     */
+    @Transactional(readOnly = true)
+    public LocalDateTime globalLastUpdated(EntityType entityType) {
+        return statusCounterRepository.findLastUpdated(entityType, Scope.GLOBAL, StatusCounter.GLOBAL_SCOPE_ID);
+    }
+
+    /**
+     * Recomputes every counter from the source tables and corrects any drift. Corrections are
+     * applied as deltas rather than absolute values, so concurrent increments are not overwritten.
+     *
+     * @return number of counters that had drifted
+     */
+    @Transactional
+    public int reconcile() {
+        int drifted = reconcile(EntityType.APPLICATION, expectedApplicationCounts());
+        drifted += reconcile(EntityType.COMPLAINT, expectedComplaintCounts());
+        if (drifted > 0) {
+            log.warn("Status counter reconciliation corrected {} drifted counters", drifted);
+        } else {
+            log.info("Status counter reconciliation found no drift");
+        }
+        return drifted;
+    }
+
+    private int reconcile(EntityType entityType, Map<CounterKey, Long> expected) {
+        Map<CounterKey, Long> actual = new HashMap<>();
+        for (StatusCounterRepository.CounterView counter : statusCounterRepository.findByEntityType(entityType)) {
+            actual.put(new CounterKey(counter.getScope(), counter.getScopeId(), counter.getStatus()), counter.getTotal());
+        }
+
+        Set<CounterKey> keys = new HashSet<>(expected.keySet());
+        keys.addAll(actual.keySet());
+
+        LocalDateTime now = LocalDateTime.now();
+        int drifted = 0;
+        for (CounterKey key : keys) {
+            long want = expected.getOrDefault(key, 0L);
+            long have = actual.getOrDefault(key, 0L);
+            if (want != have) {
+                log.warn("Status counter drift {} {}/{} {}: expected {}, found {}",
+                        entityType, key.scope(), key.scopeId(), key.status(), want, have);
+                apply(entityType, key.scope(), key.scopeId(), key.status(), want - have, now);
+                drifted++;
+            }
+        }
+        return drifted;
+    }
+
+    private Map<CounterKey, Long> expectedApplicationCounts() {
+        Map<CounterKey, Long> expected = new HashMap<>();
+        for (ApplicationRepository.StatusCount row : applicationRepository.countGroupedByStatus()) {
+            expected.put(new CounterKey(Scope.GLOBAL, StatusCounter.GLOBAL_SCOPE_ID, row.getStatus().name()), row.getTotal());
+        }
+        for (ApplicationRepository.ScopedStatusCount row : applicationRepository.countGroupedByCitizenAndStatus()) {
+            expected.put(new CounterKey(Scope.CITIZEN, row.getScopeId(), row.getStatus().name()), row.getTotal());
+        }
+        return expected;
+    }
+
+    private Map<CounterKey, Long> expectedComplaintCounts() {
+        Map<CounterKey, Long> expected = new HashMap<>();
+        for (ComplaintRepository.StatusCount row : complaintRepository.countGroupedByStatus()) {
+            expected.put(new CounterKey(Scope.GLOBAL, StatusCounter.GLOBAL_SCOPE_ID, row.getStatus().name()), row.getTotal());
+        }
+        for (ComplaintRepository.ScopedStatusCount row : complaintRepository.countGroupedByCitizenAndStatus()) {
+            expected.put(new CounterKey(Scope.CITIZEN, row.getScopeId(), row.getStatus().name()), row.getTotal());
+        }
+        for (ComplaintRepository.ScopedStatusCount row : complaintRepository.countGroupedByAssigneeAndStatus()) {
+            expected.put(new CounterKey(Scope.OFFICER, row.getScopeId(), row.getStatus().name()), row.getTotal());
+        }
+        return expected;
+    }
+
+    private Map<String, Long> counts(EntityType entityType, Scope scope, Long scopeId) {
+        Map<String, Long> counts = new HashMap<>();
+        for (StatusCounterRepository.CounterView counter : statusCounterRepository.findByEntityTypeAndScopeAndScopeId(entityType, scope, scopeId)) {
+            counts.put(counter.getStatus(), counter.getTotal());
+        }
+        return counts;
+    }
+
+    private void apply(EntityType entityType, Scope scope, Long scopeId, String status, long delta, LocalDateTime now) {
+        if (scopeId == null || status == null) {
+            return;
+        }
+        statusCounterRepository.increment(entityType.name(), scope.name(), scopeId, status, delta, now);
+    }
+
+    private record CounterKey(Scope scope, Long scopeId, String status) {
+    }
+}
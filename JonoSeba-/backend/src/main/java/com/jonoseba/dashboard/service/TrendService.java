@@ -0,0 +1,210 @@
+package com.jonoseba.dashboard.service;
+
+import com.jonoseba.applications.model.Application;
+import com.jonoseba.applications.repository.ApplicationRepository;
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.common.event.StatusTransitionEvent.EntityType;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.dashboard.dto.TrendResponse;
+import com.jonoseba.dashboard.model.StatusRollup;
+import com.jonoseba.dashboard.model.StatusRollup.Granularity;
+import com.jonoseba.dashboard.repository.StatusRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the {@code status_rollups} hourly and daily buckets and serves trends from them.
+ * Each status change adds one to the bucket of the status it entered, in the same transaction
+ * as the change, so a trend query reads a bounded number of bucket rows instead of source rows.
+ */
+@Slf4j
+@Service
+public class TrendService {
+
+    private final StatusRollupRepository statusRollupRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ComplaintRepository complaintRepository;
+    private final long maxBuckets;
+
+    public TrendService(StatusRollupRepository statusRollupRepository,
+                        ApplicationRepository applicationRepository,
+                        ComplaintRepository complaintRepository,
+                        @Value("${dashboard.trends.max-buckets:744}") long maxBuckets) {
+        this.statusRollupRepository = statusRollupRepository;
+        this.applicationRepository = applicationRepository;
+        this.complaintRepository = complaintRepository;
+        this.maxBuckets = maxBuckets;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onStatusTransition(StatusTransitionEvent event) {
+        if (!event.statusChanged()) {
+            return;
+        }
+        for (Granularity granularity : Granularity.values()) {
+            statusRollupRepository.add(event.entityType().name(), granularity.name(),
+                    granularity.bucketOf(event.occurredAt()), event.toStatus(),
+                    categoryOf(event.category()), serviceOf(event.serviceId()), 1);
+        }
+    }
+
+    /**
+     * Per-bucket status counts in {@code [from, to)}, widened to whole buckets. Every bucket and
+     * status is present, with zero where nothing happened.
+     *
+     * @throws IllegalArgumentException if the range is empty or spans more than the configured
+     *                                  maximum number of buckets
+     */
+    @Transactional(readOnly = true)
+    public TrendResponse getTrend(String entity, String granularityName, LocalDateTime from, LocalDateTime to,
+                                  String category, Long serviceId) {
+        EntityType entityType = parse(EntityType.class, entity, "entity");
+        Granularity granularity = parse(Granularity.class, granularityName, "granularity");
+        LocalDateTime start = granularity.bucketOf(from);
+        LocalDateTime end = ceil(granularity, to);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        long buckets = granularity.bucketsBetween(start, end);
+        if (buckets > maxBuckets) {
+            throw new IllegalArgumentException("Requested range spans " + buckets + " " + granularity
+                    + " buckets; at most " + maxBuckets + " are allowed");
+        }
+
+        Map<LocalDateTime, Map<String, Long>> byBucket = new LinkedHashMap<>();
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = granularity.next(bucket)) {
+            Map<String, Long> byStatus = new LinkedHashMap<>();
+            for (String status : statusesOf(entityType)) {
+                byStatus.put(status, 0L);
+            }
+            byBucket.put(bucket, byStatus);
+        }
+        for (StatusRollupRepository.BucketCount row : statusRollupRepository.findTrend(
+                entityType, granularity, start, end, category, serviceId)) {
+            byBucket.get(row.getBucketStart()).put(row.getStatus(), row.getTotal());
+        }
+
+        List<TrendResponse.TrendPoint> points = new ArrayList<>();
+        byBucket.forEach((bucket, byStatus) -> points.add(TrendResponse.TrendPoint.builder()
+                .bucketStart(bucket)
+                .total(byStatus.values().stream().mapToLong(Long::longValue).sum())
+                .byStatus(byStatus)
+                .build()));
+
+        return TrendResponse.builder()
+                .entityType(entityType.name())
+                .granularity(granularity.name())
+                .from(start)
+                .to(end)
+                .category(category)
+                .serviceId(serviceId)
+                .points(points)
+                .build();
+    }
+
+    /**
+     * Rebuilds the buckets in {@code [from, to)}, widened to whole days, from the source tables.
+     * Source rows only record creation and their latest update, so rebuilt buckets count the
+     * initial status at creation time and the current status at the last update; intermediate
+     * transitions recorded live in that range are replaced by this approximation.
+     *
+     * @return number of bucket rows written
+     */
+    @Transactional
+    public int backfill(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = Granularity.DAY.bucketOf(from);
+        LocalDateTime end = ceil(Granularity.DAY, to);
+        statusRollupRepository.deleteRange(EntityType.COMPLAINT, start, end);
+        statusRollupRepository.deleteRange(EntityType.APPLICATION, start, end);
+
+        Map<RollupKey, Long> buckets = new HashMap<>();
+        try (Stream<ComplaintRepository.RollupSource> rows = complaintRepository.streamRollupSources(start, end)) {
+            rows.forEach(row -> {
+                String category = categoryOf(row.getCategory());
+                if (within(row.getCreatedAt(), start, end)) {
+                    count(buckets, EntityType.COMPLAINT, Complaint.ComplaintStatus.NEW.name(),
+                            category, StatusRollup.NO_SERVICE, row.getCreatedAt());
+                }
+                if (row.getStatus() != Complaint.ComplaintStatus.NEW && within(row.getUpdatedAt(), start, end)) {
+                    count(buckets, EntityType.COMPLAINT, row.getStatus().name(),
+                            category, StatusRollup.NO_SERVICE, row.getUpdatedAt());
+                }
+            });
+        }
+        try (Stream<ApplicationRepository.RollupSource> rows = applicationRepository.streamRollupSources(start, end)) {
+            rows.forEach(row -> {
+                long service = serviceOf(row.getServiceId());
+                if (within(row.getCreatedAt(), start, end)) {
+                    count(buckets, EntityType.APPLICATION, Application.ApplicationStatus.PENDING.name(),
+                            StatusRollup.NO_CATEGORY, service, row.getCreatedAt());
+                }
+                if (row.getStatus() != Application.ApplicationStatus.PENDING && within(row.getUpdatedAt(), start, end)) {
+                    count(buckets, EntityType.APPLICATION, row.getStatus().name(),
+                            StatusRollup.NO_CATEGORY, service, row.getUpdatedAt());
+                }
+            });
+        }
+
+        buckets.forEach((key, total) -> statusRollupRepository.add(key.entityType().name(), key.granularity().name(),
+                key.bucketStart(), key.status(), key.category(), key.serviceId(), total));
+        log.info("Backfilled {} status rollup buckets for [{}, {})", buckets.size(), start, end);
+        return buckets.size();
+    }
+
+    private static void count(Map<RollupKey, Long> buckets, EntityType entityType, String status,
+                              String category, long serviceId, LocalDateTime time) {
+        for (Granularity granularity : Granularity.values()) {
+            buckets.merge(new RollupKey(entityType, granularity, granularity.bucketOf(time), status, category, serviceId),
+                    1L, Long::sum);
+        }
+    }
+
+    private static List<String> statusesOf(EntityType entityType) {
+        Enum<?>[] statuses = entityType == EntityType.COMPLAINT
+                ? Complaint.ComplaintStatus.values()
+                : Application.ApplicationStatus.values();
+        return Arrays.stream(statuses).map(Enum::name).toList();
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, String name) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new IllegalArgumentException("Invalid " + name + " value: " + value);
+        }
+    }
+
+    /**
+     * Start of the first bucket at or after {@code time}.
+     */
+    private static LocalDateTime ceil(Granularity granularity, LocalDateTime time) {
+        LocalDateTime bucket = granularity.bucketOf(time);
+        return bucket.isBefore(time) ? granularity.next(bucket) : bucket;
+    }
+
+    private static boolean within(LocalDateTime time, LocalDateTime from, LocalDateTime to) {
+        return time != null && !time.isBefore(from) && time.isBefore(to);
+    }
+
+    private static String categoryOf(String category) {
+        return category != null ? category : StatusRollup.NO_CATEGORY;
+    }
+
+    private static long serviceOf(Long serviceId) {
+        return serviceId != null ? serviceId : StatusRollup.NO_SERVICE;
+    }
+
+    private record RollupKey(EntityType entityType, Granularity granularity, LocalDateTime bucketStart,
+                             String status, String category, long serviceId) {
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Streaming bulk exports of complaints and applications.
+ */
+package com.jonoseba.export;
@@ -0,0 +1,38 @@
+package com.jonoseba.export.service;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Output formats of the streaming exports.
+ */
+public enum ExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), ".ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), ".csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the name is not a known format
+     */
+    public static ExportFormat parse(String name) {
+        try {
+            return valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid format value: " + name);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.jonoseba.export.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jonoseba.applications.dto.ApplicationResponse;
+import com.jonoseba.applications.model.Application;
+import com.jonoseba.applications.repository.ApplicationRepository;
+import com.jonoseba.complaints.dto.ComplaintResponse;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams every complaint or application, as NDJSON or CSV and optionally gzipped, straight from
+ * a forward-only database cursor to the response. Rows are DTO projections that never enter the
+ * persistence context and are written one at a time, so memory use does not grow with the row
+ * count. The rows are read in a read-only transaction opened by the response body itself, which
+ * runs after the controller has returned.
+ */
+@Slf4j
+@Service
+public class ExportService {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final List<Column<ComplaintResponse>> COMPLAINT_COLUMNS = List.of(
+            new Column<>("id", ComplaintResponse::getId),
+            new Column<>("category", ComplaintResponse::getCategory),
+            new Column<>("description", ComplaintResponse::getDescription),
+            new Column<>("photoUrl", ComplaintResponse::getPhotoUrl),
+            new Column<>("locationText", ComplaintResponse::getLocationText),
+            new Column<>("status", ComplaintResponse::getStatus),
+            new Column<>("citizenId", ComplaintResponse::getCitizenId),
+            new Column<>("citizenName", ComplaintResponse::getCitizenName),
+            new Column<>("assignedToId", ComplaintResponse::getAssignedToId),
+            new Column<>("assignedToName", ComplaintResponse::getAssignedToName),
+            new Column<>("progressNote", ComplaintResponse::getProgressNote),
+            new Column<>("createdAt", ComplaintResponse::getCreatedAt),
+            new Column<>("updatedAt", ComplaintResponse::getUpdatedAt));
+
+    private static final List<Column<ApplicationResponse>> APPLICATION_COLUMNS = List.of(
+            new Column<>("id", ApplicationResponse::getId),
+            new Column<>("serviceId", ApplicationResponse::getServiceId),
+            new Column<>("serviceName", ApplicationResponse::getServiceName),
+            new Column<>("citizenId", ApplicationResponse::getCitizenId),
+            new Column<>("citizenName", ApplicationResponse::getCitizenName),
+            new Column<>("title", ApplicationResponse::getTitle),
+            new Column<>("description", ApplicationResponse::getDescription),
+            new Column<>("status", ApplicationResponse::getStatus),
+            new Column<>("remarks", ApplicationResponse::getRemarks),
+            new Column<>("documentUrls", ApplicationResponse::getDocumentUrls),
+            new Column<>("createdAt", ApplicationResponse::getCreatedAt),
+            new Column<>("updatedAt", ApplicationResponse::getUpdatedAt));
+
+    private final ComplaintRepository complaintRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportService(ComplaintRepository complaintRepository,
+                         ApplicationRepository applicationRepository,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager) {
+        this.complaintRepository = complaintRepository;
+        this.applicationRepository = applicationRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Response body writing every complaint, or those in one status, in id order.
+     *
+     * @throws IllegalArgumentException if the status is invalid; checked before anything is written
+     */
+    public StreamingResponseBody exportComplaints(ExportFormat format, String status, boolean gzip) {
+        Complaint.ComplaintStatus parsed = status != null && !status.isBlank()
+                ? parseStatus(Complaint.ComplaintStatus.class, status) : null;
+        return out -> write(out, format, gzip, "complaints", COMPLAINT_COLUMNS,
+                () -> complaintRepository.streamResponses(parsed));
+    }
+
+    /**
+     * Response body writing every application, or those in one status, in id order.
+     *
+     * @throws IllegalArgumentException if the status is invalid; checked before anything is written
+     */
+    public StreamingResponseBody exportApplications(ExportFormat format, String status, boolean gzip) {
+        Application.ApplicationStatus parsed = status != null && !status.isBlank()
+                ? parseStatus(Application.ApplicationStatus.class, status) : null;
+        return out -> write(out, format, gzip, "applications", APPLICATION_COLUMNS,
+                () -> applicationRepository.streamResponses(parsed));
+    }
+
+    private <T> void write(OutputStream out, ExportFormat format, boolean gzip, String name,
+                           List<Column<T>> columns, Supplier<Stream<T>> source) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+        Long written = readOnlyTransaction.execute(status -> {
+            try (Stream<T> rows = source.get()) {
+                return format == ExportFormat.CSV ? writeCsv(writer, columns, rows.iterator())
+                        : writeNdjson(writer, rows.iterator());
+            } catch (IOException ex) {
+                // Typically the client going away mid-download
+                throw new UncheckedIOException(ex);
+            }
+        });
+        writer.flush();
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        log.info("Exported {} {} as {}", written, name, format);
+    }
+
+    private long writeNdjson(Writer writer, Iterator<?> rows) throws IOException {
+        long written = 0;
+        while (rows.hasNext()) {
+            writer.write(objectMapper.writeValueAsString(rows.next()));
+            writer.write('\n');
+            written++;
+        }
+        return written;
+    }
+
+    private static <T> long writeCsv(Writer writer, List<Column<T>> columns, Iterator<T> rows) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            writer.write(i > 0 ? "," : "");
+            writer.write(columns.get(i).name());
+        }
+        writer.write("\r\n");
+        long written = 0;
+        while (rows.hasNext()) {
+            T row = rows.next();
+            for (int i = 0; i < columns.size(); i++) {
+                writer.write(i > 0 ? "," : "");
+                writer.write(csvField(columns.get(i).value().apply(row)));
+            }
+            writer.write("\r\n");
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * RFC 4180 field. Citizen-entered text starting with a formula character is prefixed with a
+     * quote so spreadsheets show it as text instead of evaluating it.
+     */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private static <E extends Enum<E>> E parseStatus(Class<E> type, String status) {
+        try {
+            return Enum.valueOf(type, status.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid status value: " + status);
+        }
+    }
+
+    private record Column<T>(String name, Function<T, Object> value) {
+    }
+}
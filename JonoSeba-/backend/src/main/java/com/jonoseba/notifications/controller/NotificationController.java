@@ -1,16 +1,16 @@
 package com.jonoseba.notifications.controller;
 
 import com.jonoseba.common.dto.ApiResponse;
+import com.jonoseba.common.util.ETags;
 import com.jonoseba.notifications.dto.NotificationResponse;
 import com.jonoseba.notifications.service.NotificationService;
-import com.jonoseba.users.model.User;
-import com.jonoseba.users.repository.UserRepository;
+import com.jonoseba.security.AuthenticatedUser;
+import com.jonoseba.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,49 +20,46 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
-    private final UserRepository userRepository;
 
     @GetMapping("/me")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<List<NotificationResponse>>> getMyNotifications(
-            Authentication authentication) {
-        User user = getUserFromAuthentication(authentication);
-        List<NotificationResponse> notifications = notificationService.getMyNotifications(user);
-        return ResponseEntity.ok(ApiResponse.success("Notifications fetched", notifications));
+            @CurrentUser AuthenticatedUser currentUser, WebRequest request) {
+        if (request.checkNotModified(notificationService.getMyNotificationsETag(currentUser.getId(), null))) {
+            return null;
+        }
+        List<NotificationResponse> notifications = notificationService.getMyNotifications(currentUser.getId());
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success("Notifications fetched", notifications));
     }
 
     @GetMapping("/me/recent")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<List<NotificationResponse>>> getRecentNotifications(
             @RequestParam(defaultValue = "5") int limit,
-            Authentication authentication) {
-        User user = getUserFromAuthentication(authentication);
-        List<NotificationResponse> notifications = notificationService.getMyRecentNotifications(user, limit);
-        return ResponseEntity.ok(ApiResponse.success("Recent notifications fetched", notifications));
+            @CurrentUser AuthenticatedUser currentUser, WebRequest request) {
+        if (request.checkNotModified(notificationService.getMyNotificationsETag(currentUser.getId(), limit))) {
+            return null;
+        }
+        List<NotificationResponse> notifications = notificationService.getMyRecentNotifications(currentUser.getId(), limit);
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success("Recent notifications fetched", notifications));
     }
 
     @PatchMapping("/{id}/read")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<Void>> markAsRead(
             @PathVariable Long id,
-            Authentication authentication) {
-        User user = getUserFromAuthentication(authentication);
-        notificationService.markAsRead(id, user);
+            @CurrentUser AuthenticatedUser currentUser) {
+        notificationService.markAsRead(id, currentUser.getId());
         return ResponseEntity.ok(ApiResponse.success("Notification marked as read", null));
     }
 
     @PatchMapping("/read-all")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<Void>> markAllAsRead(
-            Authentication authentication) {
-        User user = getUserFromAuthentication(authentication);
-        notificationService.markAllAsRead(user);
+            @CurrentUser AuthenticatedUser currentUser) {
+        notificationService.markAllAsRead(currentUser.getId());
         return ResponseEntity.ok(ApiResponse.success("All notifications marked as read", null));
     }
-
-    private User getUserFromAuthentication(Authentication authentication) {
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-    }
 }
@@ -10,7 +10,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        // Serves the "latest N for a user" lookups without a filesort
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at DESC"),
+        // Unread lookups and counts per user
+        @Index(name = "idx_notifications_user_read", columnList = "user_id, read_flag")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
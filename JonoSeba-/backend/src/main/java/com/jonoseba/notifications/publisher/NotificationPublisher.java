@@ -1,5 +1,6 @@
 package com.jonoseba.notifications.publisher;
 
+import com.jonoseba.dashboard.dto.DashboardLiveMessage;
 import com.jonoseba.notifications.dto.NotificationMessageDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -51,4 +52,17 @@ public class NotificationPublisher {
             log.error("Failed to publish notification to topic {}", topicName, e);
         }
     }
+
+    /**
+     * Publish a live dashboard counter message (e.g., /topic/dashboard/admin)
+     */
+    public void publishDashboard(String topicName, DashboardLiveMessage message) {
+        try {
+            String destination = "/topic/dashboard/" + topicName;
+            messagingTemplate.convertAndSend(destination, message);
+            log.debug("Dashboard {} #{} published at destination {}", message.getType(), message.getSeq(), destination);
+        } catch (Exception e) {
+            log.error("Failed to publish dashboard message to topic {}", topicName, e);
+        }
+    }
 }
@@ -4,6 +4,8 @@ import com.jonoseba.notifications.model.Notification;
 import com.jonoseba.users.model.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,4 +24,21 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByType(String type);
 
     List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+
+    /**
+     * Notifications are only ever inserted or marked read, so count, newest id and unread
+     * count together change whenever a user's notification list does.
+     */
+    @Query("SELECT COUNT(n) AS total, MAX(n.id) AS latestId, "
+            + "SUM(CASE WHEN n.readFlag = false THEN 1 ELSE 0 END) AS unread "
+            + "FROM Notification n WHERE n.user.id = :userId")
+    NotificationVersion findVersionByUserId(@Param("userId") Long userId);
+
+    interface NotificationVersion {
+        long getTotal();
+
+        Long getLatestId();
+
+        Long getUnread();
+    }
 }
@@ -1,22 +1,36 @@
 package com.jonoseba.notifications.service;
 
 import com.jonoseba.applications.model.Application;
+import com.jonoseba.common.util.ETags;
 import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.dashboard.service.DashboardCache;
 import com.jonoseba.notifications.dto.NotificationMessageDto;
 import com.jonoseba.notifications.dto.NotificationResponse;
 import com.jonoseba.notifications.model.Notification;
 import com.jonoseba.notifications.publisher.NotificationPublisher;
 import com.jonoseba.notifications.repository.NotificationRepository;
-import com.jonoseba.users.model.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,8 +38,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (user_id, type, message, read_flag, created_at) VALUES (?, ?, ?, ?, ?)";
+
     private final NotificationRepository notificationRepository;
     private final NotificationPublisher notificationPublisher;
+    private final DashboardCache dashboardCache;
+    private final JdbcTemplate jdbcTemplate;
 
     @Async
     @Transactional
@@ -75,6 +94,34 @@ public class NotificationService {
         }
     }
 
+    /**
+     * Notifies the citizens of many assigned complaints at once. The notifications are written with
+     * one JDBC batch in the caller's transaction, so they commit or roll back with the assignments,
+     * and are published to WebSocket in one pass once that transaction commits. Unlike the
+     * per-complaint method this takes no executor slot, so a large sweep cannot overflow the async
+     * queue. A failed insert is logged and does not fail the caller.
+     *
+     * @return the notifications written, with their generated ids
+     */
+    @Transactional
+    public List<Notification> sendComplaintAssignments(Collection<Complaint> complaints) {
+        if (complaints.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>(complaints.size());
+        for (Complaint complaint : complaints) {
+            notifications.add(Notification.builder()
+                    .user(complaint.getCitizen())
+                    .type("COMPLAINT_ASSIGNMENT")
+                    .message(String.format("Your complaint '%s' has been assigned to an officer.", complaint.getCategory()))
+                    .readFlag(false)
+                    .createdAt(now)
+                    .build());
+        }
+        return sendBatch(notifications, "complaint assignment");
+    }
+
     @Async
     @Transactional
     public void sendComplaintStatusChange(Complaint complaint) {
@@ -99,9 +146,36 @@ public class NotificationService {
         }
     }
 
+    /**
+     * Notifies the citizens of many complaints moved to a new status at once, the same way as
+     * {@link #sendComplaintAssignments(Collection)}.
+     *
+     * @return the notifications written, with their generated ids
+     */
+    @Transactional
+    public List<Notification> sendComplaintStatusChanges(Collection<Complaint> complaints) {
+        if (complaints.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>(complaints.size());
+        for (Complaint complaint : complaints) {
+            notifications.add(Notification.builder()
+                    .user(complaint.getCitizen())
+                    .type("COMPLAINT_STATUS")
+                    .message(String.format("Your complaint status changed to %s. Note: %s",
+                            complaint.getStatus().name(),
+                            complaint.getProgressNote() == null ? "N/A" : complaint.getProgressNote()))
+                    .readFlag(false)
+                    .createdAt(now)
+                    .build());
+        }
+        return sendBatch(notifications, "complaint status");
+    }
+
     @Transactional(readOnly = true)
-    public List<NotificationResponse> getMyNotifications(User user) {
-        return notificationRepository.findByUserId(user.getId())
+    public List<NotificationResponse> getMyNotifications(Long userId) {
+        return notificationRepository.findByUserId(userId)
                 .stream()
                 .sorted((n1, n2) -> n2.getCreatedAt().compareTo(n1.getCreatedAt()))
                 .map(NotificationResponse::fromEntity)
@@ -109,37 +183,108 @@ public class NotificationService {
     }
 
     @Transactional(readOnly = true)
-    public List<NotificationResponse> getMyRecentNotifications(User user, int limit) {
+    public List<NotificationResponse> getMyRecentNotifications(Long userId, int limit) {
         Pageable pageable = PageRequest.of(0, limit);
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId(), pageable)
+        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
                 .stream()
                 .map(NotificationResponse::fromEntity)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * ETag for the notification lists of a user; {@code limit} is null for the full list.
+     */
+    @Transactional(readOnly = true)
+    public String getMyNotificationsETag(Long userId, Integer limit) {
+        NotificationRepository.NotificationVersion version = notificationRepository.findVersionByUserId(userId);
+        return ETags.of("notifications/me", userId, limit,
+                version.getTotal(), version.getLatestId(), version.getUnread());
+    }
+
     @Transactional
-    public void markAsRead(Long notificationId, User user) {
+    public void markAsRead(Long notificationId, Long userId) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new RuntimeException("Notification not found"));
 
-        if (!notification.getUser().getId().equals(user.getId())) {
+        if (!notification.getUser().getId().equals(userId)) {
             throw new RuntimeException("Unauthorized: Cannot mark notification as read");
         }
 
         notification.setReadFlag(true);
         notificationRepository.save(notification);
-        log.info("Notification {} marked as read by user {}", notificationId, user.getId());
+        dashboardCache.evictUserAfterCommit(userId);
+        log.info("Notification {} marked as read by user {}", notificationId, userId);
     }
 
     @Transactional
-    public void markAllAsRead(User user) {
-        List<Notification> unreadNotifications = notificationRepository.findByUserAndReadFlagFalse(user);
+    public void markAllAsRead(Long userId) {
+        List<Notification> unreadNotifications = notificationRepository.findByUserIdAndReadFlagFalse(userId);
         unreadNotifications.forEach(n -> n.setReadFlag(true));
         notificationRepository.saveAll(unreadNotifications);
-        log.info("All notifications marked as read for user {}", user.getId());
+        dashboardCache.evictUserAfterCommit(userId);
+        log.info("All notifications marked as read for user {}", userId);
+    }
+
+    private List<Notification> sendBatch(List<Notification> notifications, String kind) {
+        try {
+            insertBatch(notifications);
+        } catch (Exception ex) {
+            log.error("Failed to create {} {} notifications", notifications.size(), kind, ex);
+            return List.of();
+        }
+        publishAfterCommit(notifications);
+        log.info("Created {} {} notifications", notifications.size(), kind);
+        return notifications;
+    }
+
+    /**
+     * Inserts the notifications with one batched statement and sets their generated ids, which the
+     * WebSocket messages carry so clients can mark them as read.
+     */
+    private void insertBatch(List<Notification> notifications) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Notification notification : notifications) {
+                    statement.setLong(1, notification.getUser().getId());
+                    statement.setString(2, notification.getType());
+                    statement.setString(3, notification.getMessage());
+                    statement.setBoolean(4, notification.getReadFlag());
+                    statement.setTimestamp(5, Timestamp.valueOf(notification.getCreatedAt()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (int i = 0; i < notifications.size() && keys.next(); i++) {
+                        notifications.get(i).setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    private void publishAfterCommit(List<Notification> notifications) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        notifications.forEach(notification -> userIds.add(notification.getUser().getId()));
+        // The citizen dashboard lists recent notifications
+        userIds.forEach(dashboardCache::evictUserAfterCommit);
+        Runnable publish = () -> notifications.forEach(notification -> notificationPublisher.publishToUser(
+                notification.getUser().getId(), NotificationMessageDto.fromEntity(notification)));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish.run();
+                }
+            });
+        } else {
+            publish.run();
+        }
     }
 
     private void publishToUser(Long userId, Notification saved) {
+        // The citizen dashboard lists recent notifications
+        dashboardCache.evictUserAfterCommit(userId);
         NotificationMessageDto messageDto = NotificationMessageDto.fromEntity(saved);
         notificationPublisher.publishToUser(userId, messageDto);
     }
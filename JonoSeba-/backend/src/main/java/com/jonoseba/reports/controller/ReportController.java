@@ -0,0 +1,54 @@
+package com.jonoseba.reports.controller;
+
+import com.jonoseba.common.dto.ApiResponse;
+import com.jonoseba.reports.dto.ReportResponse;
+import com.jonoseba.reports.service.DailyReportService;
+import com.jonoseba.reports.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final DailyReportService dailyReportService;
+    private final ReportService reportService;
+
+    /**
+     * GET /api/admin/reports - Daily reports or weekly/monthly rollups overlapping a date range
+     * e.g. ?granularity=MONTH&from=2023-01-01&to=2024-12-31, both inclusive
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<ReportResponse>>> getReports(
+            @RequestParam(value = "granularity", defaultValue = "DAY") String granularity,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<ReportResponse> reports = reportService.getReports(granularity, from, to);
+        return ResponseEntity.ok(ApiResponse.success("Reports fetched", reports));
+    }
+
+    /**
+     * POST /api/admin/reports/backfill - Recomputes the daily reports for past dates from the status transition log
+     * e.g. ?from=2024-05-01&to=2024-05-31, both inclusive
+     */
+    @PostMapping("/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> backfillReports(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        int reports = dailyReportService.backfill(from, to);
+        return ResponseEntity.ok(ApiResponse.success("Daily reports rebuilt", reports));
+    }
+}
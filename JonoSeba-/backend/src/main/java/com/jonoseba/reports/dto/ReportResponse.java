@@ -0,0 +1,107 @@
+package com.jonoseba.reports.dto;
+
+import com.jonoseba.reports.model.ApplicationStatusCounts;
+import com.jonoseba.reports.model.ComplaintStatusCounts;
+import com.jonoseba.reports.model.Report;
+import com.jonoseba.reports.model.ReportRollup;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportResponse {
+
+    private String granularity;
+
+    // Period covered, both ends inclusive
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private Integer daysReported;
+
+    private Figures applications;
+    private Figures complaints;
+
+    /**
+     * One entity type's figures. For applications, {@code resolved} counts approvals.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Figures {
+        // Status breakdown at the end of the period
+        private Long total;
+        private Map<String, Long> byStatus;
+
+        // Activity during the period
+        private Long created;
+        private Long resolved;
+        private Long rejected;
+        private Long avgResolutionSeconds;
+    }
+
+    public static ReportResponse fromEntity(Report report) {
+        return ReportResponse.builder()
+                .granularity("DAY")
+                .periodStart(report.getReportDate())
+                .periodEnd(report.getReportDate())
+                .daysReported(1)
+                .applications(Figures.builder()
+                        .total(report.getApplicationsTotal())
+                        .byStatus(byStatus(report.getApplicationsByStatus()))
+                        .created(report.getApplicationsCreated())
+                        .resolved(report.getApplicationsApproved())
+                        .rejected(report.getApplicationsRejected())
+                        .avgResolutionSeconds(report.getApplicationsAvgResolutionSeconds())
+                        .build())
+                .complaints(Figures.builder()
+                        .total(report.getComplaintsTotal())
+                        .byStatus(byStatus(report.getComplaintsByStatus()))
+                        .created(report.getComplaintsCreated())
+                        .resolved(report.getComplaintsResolved())
+                        .rejected(report.getComplaintsRejected())
+                        .avgResolutionSeconds(report.getComplaintsAvgResolutionSeconds())
+                        .build())
+                .build();
+    }
+
+    public static ReportResponse fromEntity(ReportRollup rollup) {
+        return ReportResponse.builder()
+                .granularity(rollup.getPeriod().name())
+                .periodStart(rollup.getPeriodStart())
+                .periodEnd(rollup.getPeriod().next(rollup.getPeriodStart()).minusDays(1))
+                .daysReported(rollup.getDaysReported())
+                .applications(Figures.builder()
+                        .total(rollup.getApplicationsTotal())
+                        .byStatus(byStatus(rollup.getApplicationsByStatus()))
+                        .created(rollup.getApplicationsCreated())
+                        .resolved(rollup.getApplicationsApproved())
+                        .rejected(rollup.getApplicationsRejected())
+                        .avgResolutionSeconds(rollup.getApplicationsAvgResolutionSeconds())
+                        .build())
+                .complaints(Figures.builder()
+                        .total(rollup.getComplaintsTotal())
+                        .byStatus(byStatus(rollup.getComplaintsByStatus()))
+                        .created(rollup.getComplaintsCreated())
+                        .resolved(rollup.getComplaintsResolved())
+                        .rejected(rollup.getComplaintsRejected())
+                        .avgResolutionSeconds(rollup.getComplaintsAvgResolutionSeconds())
+                        .build())
+                .build();
+    }
+
+    private static Map<String, Long> byStatus(ApplicationStatusCounts counts) {
+        return counts != null ? counts.toMap() : null;
+    }
+
+    private static Map<String, Long> byStatus(ComplaintStatusCounts counts) {
+        return counts != null ? counts.toMap() : null;
+    }
+}
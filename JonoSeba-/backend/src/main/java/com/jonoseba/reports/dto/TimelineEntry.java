@@ -0,0 +1,24 @@
+package com.jonoseba.reports.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One update of a complaint or application: the status it was left in, its assignee and the
+ * progress note (complaints) or remarks (applications) given with the update.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimelineEntry {
+    private int seq;
+    private String status;
+    private Long assigneeId;
+    private String note;
+    private LocalDateTime occurredAt;
+}
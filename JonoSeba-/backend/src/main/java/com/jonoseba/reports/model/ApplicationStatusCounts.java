@@ -0,0 +1,58 @@
+package com.jonoseba.reports.model;
+
+import com.jonoseba.applications.model.Application.ApplicationStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Number of applications in each status at the end of a report period, one column per status.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationStatusCounts {
+
+    @Column(name = "applications_status_pending")
+    private Long statusPending;
+
+    @Column(name = "applications_status_review")
+    private Long statusReview;
+
+    @Column(name = "applications_status_in_progress")
+    private Long statusInProgress;
+
+    @Column(name = "applications_status_approved")
+    private Long statusApproved;
+
+    @Column(name = "applications_status_rejected")
+    private Long statusRejected;
+
+    public static ApplicationStatusCounts of(Map<String, Long> byStatus) {
+        return ApplicationStatusCounts.builder()
+                .statusPending(byStatus.getOrDefault(ApplicationStatus.PENDING.name(), 0L))
+                .statusReview(byStatus.getOrDefault(ApplicationStatus.REVIEW.name(), 0L))
+                .statusInProgress(byStatus.getOrDefault(ApplicationStatus.IN_PROGRESS.name(), 0L))
+                .statusApproved(byStatus.getOrDefault(ApplicationStatus.APPROVED.name(), 0L))
+                .statusRejected(byStatus.getOrDefault(ApplicationStatus.REJECTED.name(), 0L))
+                .build();
+    }
+
+    public Map<String, Long> toMap() {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        byStatus.put(ApplicationStatus.PENDING.name(), statusPending);
+        byStatus.put(ApplicationStatus.REVIEW.name(), statusReview);
+        byStatus.put(ApplicationStatus.IN_PROGRESS.name(), statusInProgress);
+        byStatus.put(ApplicationStatus.APPROVED.name(), statusApproved);
+        byStatus.put(ApplicationStatus.REJECTED.name(), statusRejected);
+        return byStatus;
+    }
+}
@@ -0,0 +1,58 @@
+package com.jonoseba.reports.model;
+
+import com.jonoseba.complaints.model.Complaint.ComplaintStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Number of complaints in each status at the end of a report period, one column per status.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ComplaintStatusCounts {
+
+    @Column(name = "complaints_status_new")
+    private Long statusNew;
+
+    @Column(name = "complaints_status_assigned")
+    private Long statusAssigned;
+
+    @Column(name = "complaints_status_in_progress")
+    private Long statusInProgress;
+
+    @Column(name = "complaints_status_resolved")
+    private Long statusResolved;
+
+    @Column(name = "complaints_status_rejected")
+    private Long statusRejected;
+
+    public static ComplaintStatusCounts of(Map<String, Long> byStatus) {
+        return ComplaintStatusCounts.builder()
+                .statusNew(byStatus.getOrDefault(ComplaintStatus.NEW.name(), 0L))
+                .statusAssigned(byStatus.getOrDefault(ComplaintStatus.ASSIGNED.name(), 0L))
+                .statusInProgress(byStatus.getOrDefault(ComplaintStatus.IN_PROGRESS.name(), 0L))
+                .statusResolved(byStatus.getOrDefault(ComplaintStatus.RESOLVED.name(), 0L))
+                .statusRejected(byStatus.getOrDefault(ComplaintStatus.REJECTED.name(), 0L))
+                .build();
+    }
+
+    public Map<String, Long> toMap() {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        byStatus.put(ComplaintStatus.NEW.name(), statusNew);
+        byStatus.put(ComplaintStatus.ASSIGNED.name(), statusAssigned);
+        byStatus.put(ComplaintStatus.IN_PROGRESS.name(), statusInProgress);
+        byStatus.put(ComplaintStatus.RESOLVED.name(), statusResolved);
+        byStatus.put(ComplaintStatus.REJECTED.name(), statusRejected);
+        return byStatus;
+    }
+}
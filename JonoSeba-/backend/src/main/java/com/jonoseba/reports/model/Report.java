@@ -9,8 +9,14 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+/**
+ * Daily report: the day's activity and the status breakdown at the end of the day. One row per
+ * date; {@link ReportRollup} aggregates them by week and month.
+ */
 @Entity
-@Table(name = "reports")
+@Table(name = "reports", uniqueConstraints = @UniqueConstraint(
+        name = "uk_reports_report_date", columnNames = "report_date"
+))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -33,11 +39,41 @@ public class Report {
     @Column(name = "complaints_total", nullable = false)
     private Long complaintsTotal;
 
-    @Column(name = "applications_by_status", columnDefinition = "TEXT")
-    private String applicationsByStatus;
+    @Embedded
+    private ApplicationStatusCounts applicationsByStatus;
 
-    @Column(name = "complaints_by_status", columnDefinition = "TEXT")
-    private String complaintsByStatus;
+    @Embedded
+    private ComplaintStatusCounts complaintsByStatus;
+
+    @Column(name = "applications_created", nullable = false)
+    private Long applicationsCreated;
+
+    @Column(name = "applications_approved", nullable = false)
+    private Long applicationsApproved;
+
+    @Column(name = "applications_rejected", nullable = false)
+    private Long applicationsRejected;
+
+    /**
+     * Mean seconds from submission to approval over the applications approved that day, or null if none were.
+     */
+    @Column(name = "applications_avg_resolution_seconds")
+    private Long applicationsAvgResolutionSeconds;
+
+    @Column(name = "complaints_created", nullable = false)
+    private Long complaintsCreated;
+
+    @Column(name = "complaints_resolved", nullable = false)
+    private Long complaintsResolved;
+
+    @Column(name = "complaints_rejected", nullable = false)
+    private Long complaintsRejected;
+
+    /**
+     * Mean seconds from filing to resolution over the complaints resolved that day, or null if none were.
+     */
+    @Column(name = "complaints_avg_resolution_seconds")
+    private Long complaintsAvgResolutionSeconds;
 
     @PrePersist
     protected void onCreate() {
@@ -0,0 +1,106 @@
+package com.jonoseba.reports.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Daily {@link Report}s summed over an ISO week or a calendar month. Activity counts are sums,
+ * resolution times are averages weighted by the number of resolutions, and the status breakdown
+ * is the one at the end of the last reported day. The unique key also serves range scans by
+ * (period, period_start).
+ */
+@Entity
+@Table(name = "report_rollups", uniqueConstraints = @UniqueConstraint(
+        name = "uk_report_rollups_key", columnNames = {"period", "period_start"}
+))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Period period;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    /**
+     * Number of daily reports rolled up; less than the period's length while it is in progress.
+     */
+    @Column(name = "days_reported", nullable = false)
+    private Integer daysReported;
+
+    @Column(name = "applications_total", nullable = false)
+    private Long applicationsTotal;
+
+    @Column(name = "complaints_total", nullable = false)
+    private Long complaintsTotal;
+
+    @Embedded
+    private ApplicationStatusCounts applicationsByStatus;
+
+    @Embedded
+    private ComplaintStatusCounts complaintsByStatus;
+
+    @Column(name = "applications_created", nullable = false)
+    private Long applicationsCreated;
+
+    @Column(name = "applications_approved", nullable = false)
+    private Long applicationsApproved;
+
+    @Column(name = "applications_rejected", nullable = false)
+    private Long applicationsRejected;
+
+    @Column(name = "applications_avg_resolution_seconds")
+    private Long applicationsAvgResolutionSeconds;
+
+    @Column(name = "complaints_created", nullable = false)
+    private Long complaintsCreated;
+
+    @Column(name = "complaints_resolved", nullable = false)
+    private Long complaintsResolved;
+
+    @Column(name = "complaints_rejected", nullable = false)
+    private Long complaintsRejected;
+
+    @Column(name = "complaints_avg_resolution_seconds")
+    private Long complaintsAvgResolutionSeconds;
+
+    public enum Period {
+        WEEK(ChronoUnit.WEEKS), MONTH(ChronoUnit.MONTHS);
+
+        private final ChronoUnit unit;
+
+        Period(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public LocalDate startOf(LocalDate day) {
+            return this == WEEK
+                    ? day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    : day.withDayOfMonth(1);
+        }
+
+        public LocalDate next(LocalDate periodStart) {
+            return periodStart.plus(1, unit);
+        }
+
+        public long periodsBetween(LocalDate from, LocalDate to) {
+            return unit.between(from, to);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.jonoseba.reports.model;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the append-only update log, written in the same transaction as the update.
+ * Creations have no {@code fromStatus}; updates that keep the status, e.g. a reassignment or a new
+ * note, have equal from and to statuses. Rows are never updated; daily reports are computed from
+ * a range scan on {@code occurred_at}, so their cost follows the day's activity, not table size.
+ */
+@Entity
+@Table(name = "status_transitions", indexes = {
+        @Index(name = "idx_status_transitions_occurred_at", columnList = "occurred_at"),
+        @Index(name = "uk_status_transitions_entity_seq", columnList = "entity_type, entity_id, seq", unique = true)
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatusTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private StatusTransitionEvent.EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    /**
+     * Position of the entry in the entity's history, starting at 1.
+     */
+    @Column(nullable = false)
+    private Integer seq;
+
+    @Column(name = "from_status", length = 20)
+    private String fromStatus;
+
+    @Column(name = "to_status", nullable = false, length = 20)
+    private String toStatus;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    /**
+     * Progress note (complaints) or remarks (applications) as left by the update.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String note;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    /**
+     * Seconds between the entity's creation and this transition; only set when it closes the entity.
+     */
+    @Column(name = "open_seconds")
+    private Long openSeconds;
+}
@@ -2,8 +2,25 @@ package com.jonoseba.reports.repository;
 
 import com.jonoseba.reports.model.Report;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
+
+    List<Report> findByReportDate(LocalDate reportDate);
+
+    /**
+     * Reports in {@code [from, to]}, both inclusive, oldest first; a range scan on the report_date key.
+     */
+    List<Report> findByReportDateBetweenOrderByReportDate(LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM Report r WHERE r.reportDate = :reportDate")
+    int deleteByReportDate(@Param("reportDate") LocalDate reportDate);
 }
@@ -0,0 +1,21 @@
+package com.jonoseba.reports.repository;
+
+import com.jonoseba.reports.model.ReportRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReportRollupRepository extends JpaRepository<ReportRollup, Long> {
+
+    Optional<ReportRollup> findByPeriodAndPeriodStart(ReportRollup.Period period, LocalDate periodStart);
+
+    /**
+     * Rollups starting in {@code [from, to]}, both inclusive, oldest first.
+     */
+    List<ReportRollup> findByPeriodAndPeriodStartBetweenOrderByPeriodStart(
+            ReportRollup.Period period, LocalDate from, LocalDate to);
+}
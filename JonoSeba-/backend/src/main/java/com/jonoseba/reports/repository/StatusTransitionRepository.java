@@ -0,0 +1,57 @@
+package com.jonoseba.reports.repository;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.reports.model.StatusTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StatusTransitionRepository extends JpaRepository<StatusTransition, Long> {
+
+    /**
+     * Transitions in {@code [from, to)} grouped by entity type and status pair, leaving out updates
+     * that kept the status. The result size is bounded by the number of status pairs however many
+     * transitions fall in the range.
+     */
+    @Query("SELECT t.entityType AS entityType, t.fromStatus AS fromStatus, t.toStatus AS toStatus, "
+            + "COUNT(t) AS total, COUNT(t.openSeconds) AS timed, COALESCE(SUM(t.openSeconds), 0) AS openSeconds "
+            + "FROM StatusTransition t "
+            + "WHERE t.occurredAt >= :from AND t.occurredAt < :to "
+            + "AND (t.fromStatus IS NULL OR t.fromStatus <> t.toStatus) "
+            + "GROUP BY t.entityType, t.fromStatus, t.toStatus")
+    List<TransitionCount> summarize(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Transitions at or after {@code from}, grouped like {@link #summarize}; used to rewind the
+     * current status counters to an earlier point in time.
+     */
+    @Query("SELECT t.entityType AS entityType, t.fromStatus AS fromStatus, t.toStatus AS toStatus, "
+            + "COUNT(t) AS total, COUNT(t.openSeconds) AS timed, COALESCE(SUM(t.openSeconds), 0) AS openSeconds "
+            + "FROM StatusTransition t "
+            + "WHERE t.occurredAt >= :from "
+            + "AND (t.fromStatus IS NULL OR t.fromStatus <> t.toStatus) "
+            + "GROUP BY t.entityType, t.fromStatus, t.toStatus")
+    List<TransitionCount> summarizeSince(@Param("from") LocalDateTime from);
+
+    interface TransitionCount {
+        StatusTransitionEvent.EntityType getEntityType();
+
+        String getFromStatus();
+
+        String getToStatus();
+
+        long getTotal();
+
+        /**
+         * Number of transitions in the group that recorded how long the entity was open.
+         */
+        long getTimed();
+
+        long getOpenSeconds();
+    }
+}
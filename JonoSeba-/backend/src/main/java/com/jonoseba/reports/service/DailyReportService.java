@@ -0,0 +1,195 @@
+package com.jonoseba.reports.service;
+
+import com.jonoseba.applications.model.Application;
+import com.jonoseba.common.event.StatusTransitionEvent.EntityType;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.dashboard.service.StatusCounterService;
+import com.jonoseba.reports.model.ApplicationStatusCounts;
+import com.jonoseba.reports.model.ComplaintStatusCounts;
+import com.jonoseba.reports.model.Report;
+import com.jonoseba.reports.repository.ReportRepository;
+import com.jonoseba.reports.repository.StatusTransitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Computes daily {@link Report}s from the {@code status_transitions} log. A day's activity
+ * (created, resolved, rejected, time to resolution) comes from that day's transitions, and the
+ * end-of-day status breakdown is the current status counters rewound by the transitions since,
+ * so the cost follows activity rather than the size of the applications and complaints tables.
+ * Storing a report also refreshes the weekly and monthly rollups through {@link ReportService}.
+ */
+@Slf4j
+@Service
+public class DailyReportService {
+
+    private final StatusTransitionRepository statusTransitionRepository;
+    private final StatusCounterService statusCounterService;
+    private final ReportRepository reportRepository;
+    private final ReportService reportService;
+    private final long maxBackfillDays;
+
+    public DailyReportService(StatusTransitionRepository statusTransitionRepository,
+                              StatusCounterService statusCounterService,
+                              ReportRepository reportRepository,
+                              ReportService reportService,
+                              @Value("${reports.backfill.max-days:366}") long maxBackfillDays) {
+        this.statusTransitionRepository = statusTransitionRepository;
+        this.statusCounterService = statusCounterService;
+        this.reportRepository = reportRepository;
+        this.reportService = reportService;
+        this.maxBackfillDays = maxBackfillDays;
+    }
+
+    /**
+     * Builds the report for one day without storing it.
+     */
+    @Transactional(readOnly = true)
+    public Report compute(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+
+        Activity applications = new Activity(
+                Application.ApplicationStatus.APPROVED.name(), Application.ApplicationStatus.REJECTED.name());
+        Activity complaints = new Activity(
+                Complaint.ComplaintStatus.RESOLVED.name(), Complaint.ComplaintStatus.REJECTED.name());
+        for (StatusTransitionRepository.TransitionCount row : statusTransitionRepository.summarize(start, end)) {
+            (row.getEntityType() == EntityType.COMPLAINT ? complaints : applications).add(row);
+        }
+
+        Map<String, Long> appByStatus = statuses(Application.ApplicationStatus.values(),
+                statusCounterService.globalCounts(EntityType.APPLICATION));
+        Map<String, Long> complaintByStatus = statuses(Complaint.ComplaintStatus.values(),
+                statusCounterService.globalCounts(EntityType.COMPLAINT));
+        for (StatusTransitionRepository.TransitionCount row : statusTransitionRepository.summarizeSince(end)) {
+            rewind(row.getEntityType() == EntityType.COMPLAINT ? complaintByStatus : appByStatus, row);
+        }
+        // Counters and log can only disagree after drift the nightly reconciliation has not fixed yet
+        appByStatus.replaceAll((status, total) -> Math.max(0, total));
+        complaintByStatus.replaceAll((status, total) -> Math.max(0, total));
+
+        Report report = Report.builder()
+                .reportDate(day)
+                .applicationsTotal(appByStatus.values().stream().mapToLong(Long::longValue).sum())
+                .complaintsTotal(complaintByStatus.values().stream().mapToLong(Long::longValue).sum())
+                .applicationsByStatus(ApplicationStatusCounts.of(appByStatus))
+                .complaintsByStatus(ComplaintStatusCounts.of(complaintByStatus))
+                .applicationsCreated(applications.created)
+                .applicationsApproved(applications.resolved)
+                .applicationsRejected(applications.rejected)
+                .applicationsAvgResolutionSeconds(applications.averageResolutionSeconds())
+                .complaintsCreated(complaints.created)
+                .complaintsResolved(complaints.resolved)
+                .complaintsRejected(complaints.rejected)
+                .complaintsAvgResolutionSeconds(complaints.averageResolutionSeconds())
+                .build();
+        log.info("Daily report {} => applications: {}, complaints: {}", day, appByStatus, complaintByStatus);
+        return report;
+    }
+
+    /**
+     * Stores a report, replacing any earlier report for the same date, and refreshes the weekly
+     * and monthly rollups containing it.
+     */
+    @Transactional
+    public Report store(Report report) {
+        Report saved = save(report);
+        reportService.refreshRollups(List.of(saved.getReportDate()));
+        return saved;
+    }
+
+    /**
+     * Recomputes and stores the reports for every day in {@code [from, to]}.
+     *
+     * @return number of reports written
+     * @throws IllegalArgumentException if the range is empty, reaches today or later, or spans
+     *                                  more than the configured maximum number of days
+     */
+    @Transactional
+    public int backfill(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (!to.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Reports can only be backfilled for past dates");
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > maxBackfillDays) {
+            throw new IllegalArgumentException("Requested range spans " + days + " days; at most "
+                    + maxBackfillDays + " are allowed");
+        }
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            save(compute(day));
+            dates.add(day);
+        }
+        reportService.refreshRollups(dates);
+        log.info("Backfilled {} daily reports for [{}, {}]", days, from, to);
+        return (int) days;
+    }
+
+    private Report save(Report report) {
+        reportRepository.deleteByReportDate(report.getReportDate());
+        return reportRepository.save(report);
+    }
+
+    private static Map<String, Long> statuses(Enum<?>[] values, Map<String, Long> counts) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (Enum<?> status : values) {
+            byStatus.put(status.name(), counts.getOrDefault(status.name(), 0L));
+        }
+        return byStatus;
+    }
+
+    /**
+     * Undoes a group of transitions: the status entered loses them, the status left regains them.
+     */
+    private static void rewind(Map<String, Long> byStatus, StatusTransitionRepository.TransitionCount row) {
+        byStatus.computeIfPresent(row.getToStatus(), (status, total) -> total - row.getTotal());
+        if (row.getFromStatus() != null) {
+            byStatus.computeIfPresent(row.getFromStatus(), (status, total) -> total + row.getTotal());
+        }
+    }
+
+    /**
+     * One entity type's activity during the day.
+     */
+    private static final class Activity {
+
+        private final String resolvedStatus;
+        private final String rejectedStatus;
+        private long created;
+        private long resolved;
+        private long rejected;
+        private long timedResolutions;
+        private long resolutionSeconds;
+
+        private Activity(String resolvedStatus, String rejectedStatus) {
+            this.resolvedStatus = resolvedStatus;
+            this.rejectedStatus = rejectedStatus;
+        }
+
+        private void add(StatusTransitionRepository.TransitionCount row) {
+            if (row.getFromStatus() == null) {
+                created += row.getTotal();
+            } else if (row.getToStatus().equals(resolvedStatus)) {
+                resolved += row.getTotal();
+                timedResolutions += row.getTimed();
+                resolutionSeconds += row.getOpenSeconds();
+            } else if (row.getToStatus().equals(rejectedStatus)) {
+                rejected += row.getTotal();
+            }
+        }
+
+        private Long averageResolutionSeconds() {
+            return timedResolutions > 0 ? resolutionSeconds / timedResolutions : null;
+        }
+    }
+}
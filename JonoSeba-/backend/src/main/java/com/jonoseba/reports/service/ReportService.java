@@ -0,0 +1,166 @@
+package com.jonoseba.reports.service;
+
+import com.jonoseba.reports.dto.ReportResponse;
+import com.jonoseba.reports.model.ApplicationStatusCounts;
+import com.jonoseba.reports.model.ComplaintStatusCounts;
+import com.jonoseba.reports.model.Report;
+import com.jonoseba.reports.model.ReportRollup;
+import com.jonoseba.reports.model.ReportRollup.Period;
+import com.jonoseba.reports.repository.ReportRepository;
+import com.jonoseba.reports.repository.ReportRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Serves daily reports and their weekly and monthly {@link ReportRollup}s over date ranges.
+ * Rollups are recomputed from the daily reports of their period whenever one of those reports
+ * is stored, so a range query reads one typed row per period.
+ */
+@Slf4j
+@Service
+public class ReportService {
+
+    private static final String DAY = "DAY";
+
+    private final ReportRepository reportRepository;
+    private final ReportRollupRepository reportRollupRepository;
+    private final long maxPeriods;
+
+    public ReportService(ReportRepository reportRepository,
+                         ReportRollupRepository reportRollupRepository,
+                         @Value("${reports.query.max-periods:1100}") long maxPeriods) {
+        this.reportRepository = reportRepository;
+        this.reportRollupRepository = reportRollupRepository;
+        this.maxPeriods = maxPeriods;
+    }
+
+    /**
+     * Reports for the days, ISO weeks or months overlapping {@code [from, to]}, oldest first.
+     * Periods without any stored daily report are omitted.
+     *
+     * @throws IllegalArgumentException if the granularity is unknown, the range is empty or it
+     *                                  spans more than the configured maximum number of periods
+     */
+    @Transactional(readOnly = true)
+    public List<ReportResponse> getReports(String granularity, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        String name = granularity == null ? DAY : granularity.toUpperCase();
+        if (DAY.equals(name)) {
+            checkPeriods(ChronoUnit.DAYS.between(from, to) + 1, name);
+            return reportRepository.findByReportDateBetweenOrderByReportDate(from, to).stream()
+                    .map(ReportResponse::fromEntity)
+                    .toList();
+        }
+
+        Period period = parsePeriod(name);
+        LocalDate start = period.startOf(from);
+        LocalDate end = period.startOf(to);
+        checkPeriods(period.periodsBetween(start, end) + 1, name);
+        return reportRollupRepository.findByPeriodAndPeriodStartBetweenOrderByPeriodStart(period, start, end).stream()
+                .map(ReportResponse::fromEntity)
+                .toList();
+    }
+
+    /**
+     * Recomputes the weekly and monthly rollups containing any of the given days.
+     */
+    @Transactional
+    public void refreshRollups(Collection<LocalDate> days) {
+        Set<LocalDate> weeks = new TreeSet<>();
+        Set<LocalDate> months = new TreeSet<>();
+        for (LocalDate day : days) {
+            weeks.add(Period.WEEK.startOf(day));
+            months.add(Period.MONTH.startOf(day));
+        }
+        weeks.forEach(start -> refreshRollup(Period.WEEK, start));
+        months.forEach(start -> refreshRollup(Period.MONTH, start));
+        log.debug("Refreshed {} weekly and {} monthly report rollups", weeks.size(), months.size());
+    }
+
+    private void refreshRollup(Period period, LocalDate start) {
+        List<Report> reports = reportRepository.findByReportDateBetweenOrderByReportDate(
+                start, period.next(start).minusDays(1));
+        Optional<ReportRollup> existing = reportRollupRepository.findByPeriodAndPeriodStart(period, start);
+        if (reports.isEmpty()) {
+            existing.ifPresent(reportRollupRepository::delete);
+            return;
+        }
+
+        Report last = reports.get(reports.size() - 1);
+        ReportRollup rollup = existing.orElseGet(() -> ReportRollup.builder().period(period).periodStart(start).build());
+        rollup.setDaysReported(reports.size());
+        rollup.setApplicationsTotal(last.getApplicationsTotal());
+        rollup.setComplaintsTotal(last.getComplaintsTotal());
+        // Copied rather than shared: an embeddable instance must belong to a single entity
+        rollup.setApplicationsByStatus(last.getApplicationsByStatus() != null
+                ? ApplicationStatusCounts.of(last.getApplicationsByStatus().toMap()) : null);
+        rollup.setComplaintsByStatus(last.getComplaintsByStatus() != null
+                ? ComplaintStatusCounts.of(last.getComplaintsByStatus().toMap()) : null);
+        rollup.setApplicationsCreated(sum(reports, Report::getApplicationsCreated));
+        rollup.setApplicationsApproved(sum(reports, Report::getApplicationsApproved));
+        rollup.setApplicationsRejected(sum(reports, Report::getApplicationsRejected));
+        rollup.setApplicationsAvgResolutionSeconds(
+                weightedAverage(reports, Report::getApplicationsAvgResolutionSeconds, Report::getApplicationsApproved));
+        rollup.setComplaintsCreated(sum(reports, Report::getComplaintsCreated));
+        rollup.setComplaintsResolved(sum(reports, Report::getComplaintsResolved));
+        rollup.setComplaintsRejected(sum(reports, Report::getComplaintsRejected));
+        rollup.setComplaintsAvgResolutionSeconds(
+                weightedAverage(reports, Report::getComplaintsAvgResolutionSeconds, Report::getComplaintsResolved));
+        reportRollupRepository.save(rollup);
+    }
+
+    private void checkPeriods(long periods, String granularity) {
+        if (periods > maxPeriods) {
+            throw new IllegalArgumentException("Requested range spans more than " + maxPeriods + " "
+                    + granularity + " periods");
+        }
+    }
+
+    private static Period parsePeriod(String name) {
+        try {
+            return Period.valueOf(name);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid granularity value: " + name);
+        }
+    }
+
+    private static long sum(List<Report> reports, Function<Report, Long> value) {
+        long total = 0;
+        for (Report report : reports) {
+            total += orZero(value.apply(report));
+        }
+        return total;
+    }
+
+    /**
+     * Mean of the daily averages weighted by the number of resolutions behind each, or null if no
+     * day had any.
+     */
+    private static Long weightedAverage(List<Report> reports, Function<Report, Long> average,
+                                        Function<Report, Long> weight) {
+        long weightedTotal = 0;
+        long totalWeight = 0;
+        for (Report report : reports) {
+            Long dayAverage = average.apply(report);
+            if (dayAverage != null) {
+                long dayWeight = orZero(weight.apply(report));
+                weightedTotal += dayAverage * dayWeight;
+                totalWeight += dayWeight;
+            }
+        }
+        return totalWeight > 0 ? weightedTotal / totalWeight : null;
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,168 @@
+package com.jonoseba.reports.service;
+
+import com.jonoseba.applications.model.Application;
+import com.jonoseba.applications.repository.ApplicationRepository;
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.common.event.StatusTransitionEvent.EntityType;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.reports.dto.TimelineEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Appends every complaint and application update published by their services to the
+ * {@code status_transitions} log, in the same transaction as the update, and reads an entity's
+ * history back as its timeline. Transitions that close an entity also record how long it was
+ * open, so resolution times never need the source tables.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatusTransitionLog {
+
+    private static final Set<String> CLOSING_COMPLAINT_STATUSES =
+            Set.of(Complaint.ComplaintStatus.RESOLVED.name(), Complaint.ComplaintStatus.REJECTED.name());
+    private static final Set<String> CLOSING_APPLICATION_STATUSES =
+            Set.of(Application.ApplicationStatus.APPROVED.name(), Application.ApplicationStatus.REJECTED.name());
+
+    private static final String APPEND_SQL = "INSERT INTO status_transitions "
+            + "(entity_type, entity_id, seq, from_status, to_status, assignee_id, note, occurred_at, open_seconds) "
+            + "SELECT ?, ?, COALESCE(MAX(seq), 0) + 1, ?, ?, ?, ?, ?, ? FROM status_transitions "
+            + "WHERE entity_type = ? AND entity_id = ?";
+    private static final String TIMELINE_SQL = "SELECT seq, to_status, assignee_id, note, occurred_at "
+            + "FROM status_transitions WHERE entity_type = ? AND entity_id = ? ORDER BY seq";
+
+    private final ComplaintRepository complaintRepository;
+    private final ApplicationRepository applicationRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Appends the update as the entity's next entry, or queues it when published from
+     * {@link #batch}. The entity's own row is locked first, so concurrent updates of one entity
+     * take their seq one after the other instead of reading the same maximum; the lock is held by
+     * the update anyway once it is flushed.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    @SuppressWarnings("unchecked")
+    public void onStatusTransition(StatusTransitionEvent event) {
+        Source source = source(event);
+        Long openSeconds = event.statusChanged() && isClosing(event.entityType(), event.toStatus())
+                && source.createdAt() != null ? secondsBetween(source.createdAt(), event.occurredAt()) : null;
+        String type = event.entityType().name();
+        Append append = new Append(event.entityType(), event.entityId(), new Object[]{type, event.entityId(),
+                event.fromStatus(), event.toStatus(), event.assigneeId(), source.note(),
+                Timestamp.valueOf(event.occurredAt()), openSeconds, type, event.entityId()});
+
+        List<Append> queued = (List<Append>) TransactionSynchronizationManager.getResource(this);
+        if (queued != null) {
+            queued.add(append);
+            return;
+        }
+        lock(event.entityType(), List.of(event.entityId()));
+        jdbcTemplate.update(APPEND_SQL, append.params());
+    }
+
+    /**
+     * Runs work publishing many updates, such as a bulk status change, and appends them with one
+     * JDBC batch once it returns instead of one insert each. The entities' rows are locked in id
+     * order first. Updates published by a nested call are written by the outermost one.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void batch(Runnable work) {
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            work.run();
+            return;
+        }
+        List<Append> queued = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, queued);
+        try {
+            work.run();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(this);
+        }
+        if (queued.isEmpty()) {
+            return;
+        }
+        for (EntityType entityType : EntityType.values()) {
+            lock(entityType, queued.stream()
+                    .filter(append -> append.entityType() == entityType)
+                    .map(Append::entityId)
+                    .collect(Collectors.toCollection(TreeSet::new)));
+        }
+        // Statements run in order, so an entity updated twice still gets consecutive seqs
+        jdbcTemplate.batchUpdate(APPEND_SQL, queued.stream().map(Append::params).toList());
+    }
+
+    /**
+     * Every recorded update of the entity, oldest first. Entities seeded from the source tables
+     * only have their creation and latest status change.
+     */
+    @Transactional(readOnly = true)
+    public List<TimelineEntry> timeline(EntityType entityType, Long entityId) {
+        return jdbcTemplate.query(TIMELINE_SQL, (rs, rowNum) -> TimelineEntry.builder()
+                .seq(rs.getInt("seq"))
+                .status(rs.getString("to_status"))
+                .assigneeId(rs.getObject("assignee_id", Long.class))
+                .note(rs.getString("note"))
+                .occurredAt(rs.getTimestamp("occurred_at").toLocalDateTime())
+                .build(), entityType.name(), entityId);
+    }
+
+    private static boolean isClosing(EntityType entityType, String status) {
+        return entityType == EntityType.COMPLAINT
+                ? CLOSING_COMPLAINT_STATUSES.contains(status)
+                : CLOSING_APPLICATION_STATUSES.contains(status);
+    }
+
+    /**
+     * Looks the entity up by id; it was just saved by the publishing service, so this is normally
+     * served from the persistence context without a query.
+     */
+    private Source source(StatusTransitionEvent event) {
+        return event.entityType() == EntityType.COMPLAINT
+                ? complaintRepository.findById(event.entityId())
+                        .map(complaint -> new Source(complaint.getCreatedAt(), complaint.getProgressNote()))
+                        .orElse(Source.NONE)
+                : applicationRepository.findById(event.entityId())
+                        .map(application -> new Source(application.getCreatedAt(), application.getRemarks()))
+                        .orElse(Source.NONE);
+    }
+
+    private void lock(EntityType entityType, Collection<Long> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        String table = entityType == EntityType.COMPLAINT ? "complaints" : "applications";
+        jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE id IN ("
+                + String.join(", ", Collections.nCopies(entityIds.size(), "?")) + ") ORDER BY id FOR UPDATE",
+                Long.class, entityIds.toArray());
+    }
+
+    private static long secondsBetween(LocalDateTime from, LocalDateTime to) {
+        return Math.max(0, Duration.between(from, to).getSeconds());
+    }
+
+    private record Append(EntityType entityType, Long entityId, Object[] params) {
+    }
+
+    private record Source(LocalDateTime createdAt, String note) {
+        static final Source NONE = new Source(null, null);
+    }
+}
@@ -0,0 +1,98 @@
+package com.jonoseba.scheduling;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queues each new complaint for assignment once its creating transaction commits and assigns
+ * queued complaints in micro-batches on a single worker thread: the worker waits for the first
+ * complaint, then collects more for up to the batch window or until the batch is full, and
+ * assigns the batch in one transaction.
+ * <p>
+ * The queue is in memory and bounded. Complaints it drops when full, loses on shutdown or fails
+ * to assign are picked up by the scheduled sweep in {@link ScheduledJobs#autoAssignComplaints()}.
+ */
+@Slf4j
+@Component
+public class AssignmentQueue {
+
+    private final ComplaintAssignmentService complaintAssignmentService;
+    private final BlockingQueue<Long> queue;
+    private final int batchSize;
+    private final Duration batchWindow;
+    private Thread worker;
+
+    public AssignmentQueue(ComplaintAssignmentService complaintAssignmentService,
+                           @Value("${assignment.queue.capacity:10000}") int capacity,
+                           @Value("${assignment.queue.batch-size:50}") int batchSize,
+                           @Value("${assignment.queue.batch-window:50ms}") Duration batchWindow) {
+        this.complaintAssignmentService = complaintAssignmentService;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.batchWindow = batchWindow;
+    }
+
+    @TransactionalEventListener
+    public void onStatusTransition(StatusTransitionEvent event) {
+        if (event.entityType() != StatusTransitionEvent.EntityType.COMPLAINT
+                || !event.isCreation() || event.assigneeId() != null) {
+            return;
+        }
+        if (!queue.offer(event.entityId())) {
+            log.warn("Assignment queue full; complaint {} left for the sweep", event.entityId());
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        worker = Thread.ofVirtual().name("complaint-assignment").start(this::drain);
+    }
+
+    @PreDestroy
+    void stop() {
+        worker.interrupt();
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Long> batch;
+            try {
+                batch = nextBatch();
+            } catch (InterruptedException ex) {
+                return;
+            }
+            try {
+                int assigned = complaintAssignmentService.assign(batch);
+                log.debug("Assigned {} of {} queued complaints", assigned, batch.size());
+            } catch (RuntimeException ex) {
+                log.error("Failed to assign complaints {}; leaving them for the sweep", batch, ex);
+            }
+        }
+    }
+
+    private List<Long> nextBatch() throws InterruptedException {
+        List<Long> batch = new ArrayList<>(batchSize);
+        batch.add(queue.take());
+        long deadline = System.nanoTime() + batchWindow.toNanos();
+        while (batch.size() < batchSize) {
+            Long next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+}
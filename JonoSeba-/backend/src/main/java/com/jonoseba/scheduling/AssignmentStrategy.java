@@ -0,0 +1,19 @@
+package com.jonoseba.scheduling;
+
+import com.jonoseba.complaints.model.Complaint;
+
+/**
+ * Chooses the officer for a NEW complaint during auto-assignment. Implementations read the
+ * {@link OfficerIndex} and must decide in O(log n) in the number of officers; the index is
+ * updated from the resulting status transition, so a strategy keeps no state of its own.
+ * <p>
+ * Select one with {@code assignment.strategy}, or declare another {@code AssignmentStrategy} bean.
+ */
+public interface AssignmentStrategy {
+
+    /**
+     * Officer id to assign the complaint to, or null when no officer is eligible; the complaint
+     * then stays NEW and is retried by the next sweep.
+     */
+    Long select(Complaint complaint);
+}
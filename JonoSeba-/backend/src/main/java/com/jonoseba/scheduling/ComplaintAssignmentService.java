@@ -0,0 +1,184 @@
+package com.jonoseba.scheduling;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.reports.service.StatusTransitionLog;
+import com.jonoseba.users.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Assigns NEW complaints without an assignee, oldest first, to the officer chosen by the
+ * configured {@link AssignmentStrategy}. The complaints are locked while they are assigned, so
+ * the event-driven {@link AssignmentQueue} and the scheduled sweep never assign the same
+ * complaint twice.
+ * <p>
+ * The sweep walks the backlog in keyset-ordered chunks of {@code assignment.sweep.chunk-size}
+ * with one short transaction per chunk, and stops after {@code assignment.sweep.max-per-run}
+ * complaints; the rest is left for the next run. Assignment rows, their status transition log
+ * entries and citizen notifications are written with one JDBC batch each per chunk.
+ */
+@Slf4j
+@Service
+public class ComplaintAssignmentService {
+
+    private static final String ASSIGN_SQL =
+            "UPDATE complaints SET assigned_to = ?, status = 'ASSIGNED', updated_at = ? WHERE id = ?";
+    private static final LocalDateTime START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ComplaintRepository complaintRepository;
+    private final UserRepository userRepository;
+    private final AssignmentStrategy assignmentStrategy;
+    private final OfficerIndex officerIndex;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatusTransitionLog statusTransitionLog;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+    private final int maxPerRun;
+
+    public ComplaintAssignmentService(ComplaintRepository complaintRepository,
+                                      UserRepository userRepository,
+                                      AssignmentStrategy assignmentStrategy,
+                                      OfficerIndex officerIndex,
+                                      NotificationService notificationService,
+                                      ApplicationEventPublisher eventPublisher,
+                                      StatusTransitionLog statusTransitionLog,
+                                      JdbcTemplate jdbcTemplate,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${assignment.sweep.chunk-size:200}") int chunkSize,
+                                      @Value("${assignment.sweep.max-per-run:5000}") int maxPerRun) {
+        this.complaintRepository = complaintRepository;
+        this.userRepository = userRepository;
+        this.assignmentStrategy = assignmentStrategy;
+        this.officerIndex = officerIndex;
+        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+        this.statusTransitionLog = statusTransitionLog;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxPerRun = maxPerRun;
+    }
+
+    /**
+     * Assigns those of the given complaints that are still NEW and unassigned.
+     *
+     * @return number of complaints assigned
+     */
+    @Transactional
+    public int assign(Collection<Long> complaintIds) {
+        if (complaintIds.isEmpty()) {
+            return 0;
+        }
+        List<Complaint> candidates = complaintRepository.findUnassignedForUpdate(
+                complaintIds, Complaint.ComplaintStatus.NEW);
+        return candidates.isEmpty() ? 0 : assignChunk(candidates);
+    }
+
+    /**
+     * Refreshes the officer index, then assigns NEW unassigned complaints, oldest first, looking
+     * at no more than the per-run limit.
+     *
+     * @return number of complaints assigned
+     */
+    public int assignAllUnassigned() {
+        officerIndex.rebuild();
+        if (officerIndex.isEmpty()) {
+            log.warn("No officers available for auto-assignment");
+            return 0;
+        }
+
+        int examined = 0;
+        int assigned = 0;
+        LocalDateTime cursorCreatedAt = START;
+        long cursorId = 0L;
+        while (examined < maxPerRun) {
+            PageRequest page = PageRequest.of(0, Math.min(chunkSize, maxPerRun - examined));
+            LocalDateTime afterCreatedAt = cursorCreatedAt;
+            long afterId = cursorId;
+            Chunk chunk = chunkTransaction.execute(status -> {
+                List<Complaint> rows = complaintRepository.findUnassignedAfterForUpdate(
+                        Complaint.ComplaintStatus.NEW, afterCreatedAt, afterId, page);
+                return rows.isEmpty() ? Chunk.EMPTY : new Chunk(rows.size(), assignChunk(rows), rows.get(rows.size() - 1));
+            });
+            examined += chunk.examined();
+            assigned += chunk.assigned();
+            if (chunk.examined() < page.getPageSize()) {
+                return assigned;
+            }
+            cursorCreatedAt = chunk.last().getCreatedAt();
+            cursorId = chunk.last().getId();
+        }
+        log.info("Assignment sweep reached its limit of {} complaints; the rest is left for the next run", maxPerRun);
+        return assigned;
+    }
+
+    /**
+     * Picks an officer for each locked, read-only complaint and writes the assignments in one JDBC
+     * batch. The entities are updated in memory only so listeners see the new state. Complaints no
+     * officer is eligible for stay NEW.
+     *
+     * @return number of complaints assigned
+     */
+    private int assignChunk(List<Complaint> complaints) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Complaint> assigned = new ArrayList<>(complaints.size());
+        List<Object[]> rows = new ArrayList<>(complaints.size());
+        statusTransitionLog.batch(() -> {
+            for (Complaint complaint : complaints) {
+                Long officerId = assignmentStrategy.select(complaint);
+                if (officerId == null) {
+                    log.debug("No eligible officer for complaint {} ({})", complaint.getId(), complaint.getCategory());
+                    continue;
+                }
+                complaint.setAssignedTo(userRepository.getReferenceById(officerId));
+                complaint.setStatus(Complaint.ComplaintStatus.ASSIGNED);
+                complaint.setUpdatedAt(now);
+                rows.add(new Object[]{officerId, now, complaint.getId()});
+                assigned.add(complaint);
+
+                // Published per decision so the officer index counts it before the next pick
+                eventPublisher.publishEvent(StatusTransitionEvent.of(
+                        StatusTransitionEvent.EntityType.COMPLAINT,
+                        complaint.getId(),
+                        complaint.getCitizen().getId(),
+                        null,
+                        officerId,
+                        Complaint.ComplaintStatus.NEW,
+                        Complaint.ComplaintStatus.ASSIGNED,
+                        complaint.getCategory(),
+                        null
+                ));
+            }
+        });
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(ASSIGN_SQL, rows);
+
+        // Notify citizens; written with the assignments and published once they commit
+        notificationService.sendComplaintAssignments(assigned);
+        return assigned.size();
+    }
+
+    private record Chunk(int examined, int assigned, Complaint last) {
+
+        private static final Chunk EMPTY = new Chunk(0, 0, null);
+    }
+}
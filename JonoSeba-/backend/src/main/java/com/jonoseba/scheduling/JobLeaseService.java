@@ -0,0 +1,130 @@
+package com.jonoseba.scheduling;
+
+import com.jonoseba.scheduling.repository.JobLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Database-backed leases that let exactly one node of a cluster run a scheduled job at a time.
+ * <p>
+ * A node takes a lease only once another node's lease has expired, so a node that crashes while
+ * holding it is taken over after at most one TTL. Every acquisition issues a higher fencing token; a job
+ * calls {@link #fence(Lease)} inside its writing transaction so that a node which lost its lease
+ * (e.g. after a long GC pause) fails instead of writing alongside the new holder.
+ * <p>
+ * Expiry is compared against each node's {@link Clock}, so the TTL must comfortably exceed the
+ * clock skew between nodes.
+ */
+@Slf4j
+@Service
+public class JobLeaseService {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TransactionTemplate newTransaction;
+    private final Clock clock;
+    private final String holderId;
+    private final Duration ttl;
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository,
+                           PlatformTransactionManager transactionManager,
+                           Clock clock,
+                           @Value("${scheduling.lease.holder-id:}") String holderId,
+                           @Value("${scheduling.lease.ttl:PT1M}") Duration ttl) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        // Lease changes commit on their own, never with the caller's transaction
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.holderId = StringUtils.hasText(holderId) ? holderId : defaultHolderId();
+        this.ttl = ttl;
+    }
+
+    /**
+     * Takes the lease on a job if no other node holds a live one.
+     */
+    public Optional<Lease> tryAcquire(String jobName) {
+        return newTransaction.execute(status -> {
+            LocalDateTime now = now();
+            jobLeaseRepository.insertIfAbsent(jobName, EPOCH);
+            if (jobLeaseRepository.acquire(jobName, holderId, now, now.plus(ttl)) == 0) {
+                return Optional.empty();
+            }
+            return Optional.of(new Lease(jobName, holderId, jobLeaseRepository.findToken(jobName)));
+        });
+    }
+
+    /**
+     * Extends a held lease by one TTL.
+     *
+     * @return false if the lease expired or was taken over
+     */
+    public boolean renew(Lease lease) {
+        return Boolean.TRUE.equals(newTransaction.execute(status -> extend(lease)));
+    }
+
+    /**
+     * Checks, within the caller's transaction, that the lease is still held and extends it. The
+     * lease row stays locked until that transaction ends, so no other node can take the lease
+     * over before the caller's writes commit.
+     *
+     * @throws LeaseLostException if the lease expired or was taken over
+     */
+    public void fence(Lease lease) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("fence() must be called inside the transaction it protects");
+        }
+        if (!extend(lease)) {
+            throw new LeaseLostException(lease);
+        }
+    }
+
+    public String getHolderId() {
+        return holderId;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private boolean extend(Lease lease) {
+        LocalDateTime now = now();
+        return jobLeaseRepository.renew(lease.jobName(), lease.holder(), lease.token(), now, now.plus(ttl)) == 1;
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private static String defaultHolderId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            host = "unknown-host";
+        }
+        // A restarted node must not resume the lease of its previous incarnation
+        return host + "/" + UUID.randomUUID();
+    }
+
+    /**
+     * A lease held by this node; {@code token} is its fencing token.
+     */
+    public record Lease(String jobName, String holder, long token) {
+    }
+}
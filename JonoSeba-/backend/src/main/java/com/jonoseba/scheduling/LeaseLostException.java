@@ -0,0 +1,11 @@
+package com.jonoseba.scheduling;
+
+/**
+ * Thrown when a job's lease expired or was taken over by another node before its writes committed.
+ */
+public class LeaseLostException extends RuntimeException {
+
+    public LeaseLostException(JobLeaseService.Lease lease) {
+        super("Lease on job '" + lease.jobName() + "' with token " + lease.token() + " is no longer held");
+    }
+}
@@ -0,0 +1,94 @@
+package com.jonoseba.scheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Wraps the body of a {@code @Scheduled} method so that only the node holding the job's lease
+ * runs it; on every other node the call returns immediately. While the job runs its lease is
+ * renewed every third of the TTL on a separate thread, so long runs are not taken over.
+ * <p>
+ * Publishes {@code jobs.lease.acquisitions} (result acquired/held-elsewhere) and
+ * {@code jobs.lease.renewals} (result renewed/lost/failed) counters tagged with the job name.
+ */
+@Slf4j
+@Component
+public class LeasedJobRunner {
+
+    private final JobLeaseService jobLeaseService;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService renewals =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("job-lease-renewal").factory());
+
+    public LeasedJobRunner(JobLeaseService jobLeaseService, MeterRegistry meterRegistry) {
+        this.jobLeaseService = jobLeaseService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs {@code job} if this node can take the lease on {@code jobName}. The lease is handed to
+     * the job so it can {@link JobLeaseService#fence fence} its writes. The lease is not released
+     * afterwards: it lapses one TTL after the last renewal, which stops other nodes whose clocks
+     * fire slightly later from running the same slot again.
+     *
+     * @return whether the job ran on this node
+     */
+    public boolean runIfLeaseHolder(String jobName, Consumer<JobLeaseService.Lease> job) {
+        JobLeaseService.Lease lease = jobLeaseService.tryAcquire(jobName).orElse(null);
+        if (lease == null) {
+            count("jobs.lease.acquisitions", jobName, "held-elsewhere");
+            log.debug("Skipping job {}: lease held by another node", jobName);
+            return false;
+        }
+        count("jobs.lease.acquisitions", jobName, "acquired");
+
+        long periodMillis = Math.max(1, jobLeaseService.getTtl().toMillis() / 3);
+        ScheduledFuture<?> renewal = renewals.scheduleAtFixedRate(
+                () -> renew(lease), periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        try {
+            job.accept(lease);
+        } finally {
+            renewal.cancel(false);
+        }
+        return true;
+    }
+
+    /**
+     * Runs {@code job} if this node can take the lease on {@code jobName}.
+     */
+    public boolean runIfLeaseHolder(String jobName, Runnable job) {
+        return runIfLeaseHolder(jobName, lease -> job.run());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewals.shutdownNow();
+    }
+
+    private void renew(JobLeaseService.Lease lease) {
+        try {
+            if (jobLeaseService.renew(lease)) {
+                count("jobs.lease.renewals", lease.jobName(), "renewed");
+            } else {
+                count("jobs.lease.renewals", lease.jobName(), "lost");
+                log.warn("Lost lease on job {} (token {}); fenced writes will be rejected",
+                        lease.jobName(), lease.token());
+            }
+        } catch (RuntimeException ex) {
+            count("jobs.lease.renewals", lease.jobName(), "failed");
+            log.error("Failed to renew lease on job {}", lease.jobName(), ex);
+        }
+    }
+
+    private void count(String name, String jobName, String result) {
+        meterRegistry.counter(name, "job", jobName, "result", result).increment();
+    }
+}
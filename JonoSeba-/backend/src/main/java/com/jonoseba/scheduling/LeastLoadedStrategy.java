@@ -0,0 +1,23 @@
+package com.jonoseba.scheduling;
+
+import com.jonoseba.complaints.model.Complaint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Assigns every complaint to the officer with the fewest open tasks, ignoring categories and
+ * jurisdictions; capacity caps still apply.
+ */
+@Component
+@ConditionalOnProperty(name = "assignment.strategy", havingValue = "least-loaded")
+@RequiredArgsConstructor
+public class LeastLoadedStrategy implements AssignmentStrategy {
+
+    private final OfficerIndex officerIndex;
+
+    @Override
+    public Long select(Complaint complaint) {
+        return officerIndex.leastLoaded();
+    }
+}
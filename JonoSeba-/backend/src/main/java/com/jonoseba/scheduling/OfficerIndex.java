@@ -0,0 +1,357 @@
+package com.jonoseba.scheduling;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.scheduling.model.OfficerProfile;
+import com.jonoseba.scheduling.repository.OfficerProfileRepository;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * In-memory index of the officers available for auto-assignment: their categories, jurisdiction,
+ * capacity cap and open (ASSIGNED + IN_PROGRESS) complaint count.
+ * <p>
+ * Officers under their cap are kept in ordered sets keyed by (category, jurisdiction), where an
+ * officer without categories or without a jurisdiction sits under a wildcard key. A lookup reads
+ * the head of at most four sets, and moving an officer after an assignment touches one set per
+ * category, so both stay O(log n) in the number of officers.
+ * <p>
+ * Open counts follow {@link StatusTransitionEvent}s as they are published and are reverted if the
+ * transaction rolls back; profile changes re-index one officer after commit. {@link #rebuild()}
+ * reloads everything from the database; it runs at startup, periodically and before every sweep,
+ * which also picks up new officers and changes made on other nodes.
+ */
+@Slf4j
+@Component
+public class OfficerIndex {
+
+    private static final Set<String> OPEN_STATUSES =
+            Set.of(Complaint.ComplaintStatus.ASSIGNED.name(), Complaint.ComplaintStatus.IN_PROGRESS.name());
+    private static final Comparator<Officer> LEAST_LOADED =
+            Comparator.comparingLong((Officer officer) -> officer.open).thenComparingLong(officer -> officer.id);
+
+    private final UserRepository userRepository;
+    private final OfficerProfileRepository officerProfileRepository;
+    private final ComplaintRepository complaintRepository;
+    private State state = new State();
+
+    public OfficerIndex(UserRepository userRepository,
+                        OfficerProfileRepository officerProfileRepository,
+                        ComplaintRepository complaintRepository) {
+        this.userRepository = userRepository;
+        this.officerProfileRepository = officerProfileRepository;
+        this.complaintRepository = complaintRepository;
+    }
+
+    /**
+     * Reloads all enabled officers, their profiles and open counts from the database.
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<Long, OfficerProfile> profiles = new HashMap<>();
+        for (OfficerProfile profile : officerProfileRepository.findAll()) {
+            profiles.put(profile.getOfficerId(), profile);
+        }
+        Map<Long, Long> openCounts = new HashMap<>();
+        for (ComplaintRepository.AssigneeCount row : complaintRepository.countGroupedByAssigneeForStatuses(
+                EnumSet.of(Complaint.ComplaintStatus.ASSIGNED, Complaint.ComplaintStatus.IN_PROGRESS))) {
+            openCounts.put(row.getAssigneeId(), row.getTotal());
+        }
+
+        List<OfficerSnapshot> officers = new ArrayList<>();
+        for (User officer : userRepository.findByRole(User.UserRole.OFFICER)) {
+            if (Boolean.TRUE.equals(officer.getEnabled())) {
+                officers.add(OfficerSnapshot.of(officer.getId(), profiles.get(officer.getId()),
+                        openCounts.getOrDefault(officer.getId(), 0L)));
+            }
+        }
+        load(officers);
+        log.debug("Officer index rebuilt with {} officers", officers.size());
+    }
+
+    /**
+     * Replaces the whole index with the given officers.
+     */
+    public void load(Collection<OfficerSnapshot> officers) {
+        State next = new State();
+        for (OfficerSnapshot officer : officers) {
+            next.add(new Officer(officer));
+        }
+        synchronized (this) {
+            state = next;
+        }
+    }
+
+    /**
+     * Least loaded officer under capacity, ties broken by officer id, or null if there is none.
+     */
+    public synchronized Long leastLoaded() {
+        return state.available.isEmpty() ? null : state.available.first().id;
+    }
+
+    /**
+     * Least loaded officer under capacity who handles the category and whose jurisdiction is
+     * named in the location text, or null if there is none. Officers without categories match
+     * every category; officers without a jurisdiction match every location.
+     * <p>
+     * The location text is split on commas; each part, and then each word in it, is looked up
+     * among the known jurisdictions, and the first hit is the complaint's jurisdiction.
+     */
+    public synchronized Long leastLoaded(String category, String locationText) {
+        String normalizedCategory = normalizeCategory(category);
+        String jurisdiction = state.jurisdictionOf(locationText);
+        Officer best = state.head(normalizedCategory, null);
+        best = better(best, state.head(null, null));
+        if (jurisdiction != null) {
+            best = better(best, state.head(normalizedCategory, jurisdiction));
+            best = better(best, state.head(null, jurisdiction));
+        }
+        return best == null ? null : best.id;
+    }
+
+    public synchronized boolean isEmpty() {
+        return state.officers.isEmpty();
+    }
+
+    /**
+     * Open complaints per indexed officer.
+     */
+    public synchronized Map<Long, Long> openCounts() {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Officer officer : state.officers.values()) {
+            counts.put(officer.id, officer.open);
+        }
+        return counts;
+    }
+
+    @EventListener
+    public void onStatusTransition(StatusTransitionEvent event) {
+        if (event.entityType() != StatusTransitionEvent.EntityType.COMPLAINT) {
+            return;
+        }
+        Long released = event.fromStatus() != null && OPEN_STATUSES.contains(event.fromStatus())
+                ? event.previousAssigneeId() : null;
+        Long taken = OPEN_STATUSES.contains(event.toStatus()) ? event.assigneeId() : null;
+        if (Objects.equals(released, taken)) {
+            return;
+        }
+        adjust(released, -1);
+        adjust(taken, 1);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        adjust(released, 1);
+                        adjust(taken, -1);
+                    }
+                }
+            });
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(OfficerProfileChangedEvent event) {
+        Long officerId = event.officerId();
+        User officer = userRepository.findById(officerId).orElse(null);
+        if (officer == null || officer.getRole() != User.UserRole.OFFICER || !Boolean.TRUE.equals(officer.getEnabled())) {
+            synchronized (this) {
+                state.remove(officerId);
+            }
+            return;
+        }
+        OfficerProfile profile = officerProfileRepository.findById(officerId).orElse(null);
+        long open = complaintRepository.countByAssignedToIdAndStatusIn(officerId,
+                EnumSet.of(Complaint.ComplaintStatus.ASSIGNED, Complaint.ComplaintStatus.IN_PROGRESS));
+        Officer updated = new Officer(OfficerSnapshot.of(officerId, profile, open));
+        synchronized (this) {
+            state.remove(officerId);
+            state.add(updated);
+        }
+    }
+
+    private synchronized void adjust(Long officerId, int delta) {
+        if (officerId != null) {
+            state.adjust(officerId, delta);
+        }
+    }
+
+    private static Officer better(Officer current, Officer candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || LEAST_LOADED.compare(candidate, current) < 0 ? candidate : current;
+    }
+
+    private static String normalizeCategory(String category) {
+        return category == null ? null : category.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Trimmed, lower-cased, with runs of whitespace collapsed to one space. Runs once per location
+     * part on every lookup, so it avoids regular expressions.
+     */
+    private static String normalizeJurisdiction(String jurisdiction) {
+        if (jurisdiction == null) {
+            return null;
+        }
+        StringBuilder normalized = new StringBuilder(jurisdiction.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < jurisdiction.length(); i++) {
+            char c = jurisdiction.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    normalized.append(' ');
+                    pendingSpace = false;
+                }
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Assignment-relevant state of one officer.
+     *
+     * @param categories categories handled; empty means every category
+     * @param jurisdiction area served, or null for every area
+     * @param capacity   maximum open complaints, or null for no cap
+     */
+    public record OfficerSnapshot(Long id, Set<String> categories, String jurisdiction, Integer capacity, long open) {
+
+        static OfficerSnapshot of(Long officerId, OfficerProfile profile, long open) {
+            if (profile == null) {
+                return new OfficerSnapshot(officerId, Set.of(), null, null, open);
+            }
+            return new OfficerSnapshot(officerId, profile.getCategories(), profile.getJurisdiction(),
+                    profile.getCapacity(), open);
+        }
+    }
+
+    private record Bucket(String category, String jurisdiction) {
+    }
+
+    private static final class Officer {
+
+        private final long id;
+        private final String jurisdiction;
+        private final Integer capacity;
+        private final List<Bucket> buckets = new ArrayList<>();
+        private long open;
+
+        private Officer(OfficerSnapshot snapshot) {
+            this.id = snapshot.id();
+            this.jurisdiction = normalizeJurisdiction(snapshot.jurisdiction());
+            this.capacity = snapshot.capacity();
+            this.open = snapshot.open();
+            if (snapshot.categories().isEmpty()) {
+                buckets.add(new Bucket(null, jurisdiction));
+            } else {
+                for (String category : snapshot.categories()) {
+                    buckets.add(new Bucket(normalizeCategory(category), jurisdiction));
+                }
+            }
+        }
+
+        private boolean underCapacity() {
+            return capacity == null || open < capacity;
+        }
+    }
+
+    /**
+     * Not thread-safe; every access holds the index's monitor.
+     */
+    private static final class State {
+
+        private final Map<Long, Officer> officers = new HashMap<>();
+        private final TreeSet<Officer> available = new TreeSet<>(LEAST_LOADED);
+        private final Map<Bucket, TreeSet<Officer>> buckets = new HashMap<>();
+        private final Map<String, Integer> jurisdictions = new HashMap<>();
+
+        private void add(Officer officer) {
+            officers.put(officer.id, officer);
+            if (officer.jurisdiction != null) {
+                jurisdictions.merge(officer.jurisdiction, 1, Integer::sum);
+            }
+            place(officer);
+        }
+
+        private void remove(Long officerId) {
+            Officer officer = officers.remove(officerId);
+            if (officer == null) {
+                return;
+            }
+            unplace(officer);
+            if (officer.jurisdiction != null) {
+                jurisdictions.computeIfPresent(officer.jurisdiction, (key, count) -> count == 1 ? null : count - 1);
+            }
+        }
+
+        private void adjust(Long officerId, int delta) {
+            Officer officer = officers.get(officerId);
+            if (officer == null) {
+                return;
+            }
+            // Ordered sets must not see the sort key change while the officer is in them
+            unplace(officer);
+            officer.open = Math.max(0, officer.open + delta);
+            place(officer);
+        }
+
+        private void place(Officer officer) {
+            if (!officer.underCapacity()) {
+                return;
+            }
+            available.add(officer);
+            for (Bucket bucket : officer.buckets) {
+                buckets.computeIfAbsent(bucket, key -> new TreeSet<>(LEAST_LOADED)).add(officer);
+            }
+        }
+
+        private void unplace(Officer officer) {
+            available.remove(officer);
+            for (Bucket bucket : officer.buckets) {
+                TreeSet<Officer> members = buckets.get(bucket);
+                if (members != null) {
+                    members.remove(officer);
+                }
+            }
+        }
+
+        private Officer head(String category, String jurisdiction) {
+            TreeSet<Officer> members = buckets.get(new Bucket(category, jurisdiction));
+            return members == null || members.isEmpty() ? null : members.first();
+        }
+
+        private String jurisdictionOf(String locationText) {
+            if (locationText == null || jurisdictions.isEmpty()) {
+                return null;
+            }
+            for (String part : locationText.split(",")) {
+                String normalized = normalizeJurisdiction(part);
+                if (jurisdictions.containsKey(normalized)) {
+                    return normalized;
+                }
+                for (String word : normalized.split(" ")) {
+                    if (jurisdictions.containsKey(word)) {
+                        return word;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.jonoseba.scheduling;
+
+/**
+ * Published when an officer's assignment profile is created or changed.
+ */
+public record OfficerProfileChangedEvent(Long officerId) {
+}
@@ -0,0 +1,69 @@
+package com.jonoseba.scheduling;
+
+import com.jonoseba.common.exception.ResourceNotFoundException;
+import com.jonoseba.scheduling.dto.OfficerProfileRequest;
+import com.jonoseba.scheduling.dto.OfficerProfileResponse;
+import com.jonoseba.scheduling.model.OfficerProfile;
+import com.jonoseba.scheduling.repository.OfficerProfileRepository;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+
+/**
+ * Reads and updates officers' assignment profiles; every update re-indexes the officer in the
+ * {@link OfficerIndex} once it commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class OfficerProfileService {
+
+    private final OfficerProfileRepository officerProfileRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public OfficerProfileResponse getProfile(Long officerId) {
+        ensureOfficer(officerId);
+        return officerProfileRepository.findById(officerId)
+                .map(OfficerProfileResponse::fromEntity)
+                .orElseGet(() -> OfficerProfileResponse.builder()
+                        .officerId(officerId)
+                        .categories(new HashSet<>())
+                        .build());
+    }
+
+    @Transactional
+    public OfficerProfileResponse updateProfile(Long officerId, OfficerProfileRequest request) {
+        ensureOfficer(officerId);
+        OfficerProfile profile = officerProfileRepository.findById(officerId)
+                .orElseGet(() -> OfficerProfile.builder().officerId(officerId).build());
+
+        profile.getCategories().clear();
+        if (request.getCategories() != null) {
+            request.getCategories().stream()
+                    .filter(category -> category != null && !category.isBlank())
+                    .map(String::trim)
+                    .forEach(profile.getCategories()::add);
+        }
+        String jurisdiction = request.getJurisdiction();
+        profile.setJurisdiction(jurisdiction == null || jurisdiction.isBlank() ? null : jurisdiction.trim());
+        profile.setCapacity(request.getCapacity());
+
+        OfficerProfile saved = officerProfileRepository.saveAndFlush(profile);
+        eventPublisher.publishEvent(new OfficerProfileChangedEvent(officerId));
+        return OfficerProfileResponse.fromEntity(saved);
+    }
+
+    private void ensureOfficer(Long officerId) {
+        User officer = userRepository.findById(officerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Officer not found with id: " + officerId));
+        if (officer.getRole() != User.UserRole.OFFICER) {
+            throw new ResourceNotFoundException("Officer not found with id: " + officerId);
+        }
+    }
+}
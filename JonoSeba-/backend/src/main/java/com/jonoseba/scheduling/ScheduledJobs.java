@@ -1,122 +1,85 @@
 package com.jonoseba.scheduling;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.jonoseba.applications.model.Application;
-import com.jonoseba.applications.repository.ApplicationRepository;
-import com.jonoseba.complaints.model.Complaint;
-import com.jonoseba.complaints.repository.ComplaintRepository;
-import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.dashboard.service.LiveDashboardService;
+import com.jonoseba.dashboard.service.StatusCounterService;
 import com.jonoseba.reports.model.Report;
-import com.jonoseba.reports.repository.ReportRepository;
-import com.jonoseba.users.model.User;
-import com.jonoseba.users.repository.UserRepository;
+import com.jonoseba.reports.service.DailyReportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScheduledJobs {
 
-    private final ComplaintRepository complaintRepository;
-    private final UserRepository userRepository;
-    private final NotificationService notificationService;
-    private final ApplicationRepository applicationRepository;
-    private final ReportRepository reportRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ComplaintAssignmentService complaintAssignmentService;
+    private final LeasedJobRunner leasedJobRunner;
+    private final OfficerIndex officerIndex;
+    private final JobLeaseService jobLeaseService;
+    private final DailyReportService dailyReportService;
+    private final StatusCounterService statusCounterService;
+    private final LiveDashboardService liveDashboardService;
 
     /**
-     * Runs every 2 minutes. Assigns NEW complaints without assignee to officers in round-robin
-     * based on the least number of open tasks (ASSIGNED + IN_PROGRESS).
+     * Safety net for event-driven assignment. New complaints are normally assigned within
+     * milliseconds by {@link AssignmentQueue}; this sweep picks up any NEW complaint still
+     * without an assignee, e.g. one dropped from a full queue or lost on restart.
+     * Only the node holding the sweep's lease runs it.
      */
-    @Transactional
-    @Scheduled(fixedDelay = 120_000, initialDelay = 20_000)
+    @Scheduled(fixedDelayString = "${assignment.sweep.interval:PT10M}", initialDelay = 20_000)
     public void autoAssignComplaints() {
-        List<Complaint> unassigned = complaintRepository.findByStatusAndAssignedToIsNull(Complaint.ComplaintStatus.NEW);
-        if (unassigned.isEmpty()) {
-            return;
-        }
-
-        List<User> officers = userRepository.findByRole(User.UserRole.OFFICER);
-        if (officers.isEmpty()) {
-            log.warn("No officers available for auto-assignment");
-            return;
-        }
-
-        // Precompute open task counts per officer (ASSIGNED + IN_PROGRESS)
-        Map<Long, Long> openCounts = new HashMap<>();
-        for (User officer : officers) {
-            long open = complaintRepository.countByAssignedToAndStatus(officer, Complaint.ComplaintStatus.ASSIGNED)
-                    + complaintRepository.countByAssignedToAndStatus(officer, Complaint.ComplaintStatus.IN_PROGRESS);
-            openCounts.put(officer.getId(), open);
-        }
-
-        // Sort complaints by creation time to process oldest first
-        unassigned.sort(Comparator.comparing(Complaint::getCreatedAt));
-
-        for (Complaint complaint : unassigned) {
-            // Pick officer with least open tasks; tie-breaker by officer id
-            User selected = officers.stream()
-                    .min(Comparator.comparing((User o) -> openCounts.getOrDefault(o.getId(), 0L))
-                            .thenComparing(User::getId))
-                    .orElse(null);
-
-            if (selected == null) {
-                break;
+        leasedJobRunner.runIfLeaseHolder("complaint-assignment-sweep", () -> {
+            int assigned = complaintAssignmentService.assignAllUnassigned();
+            if (assigned > 0) {
+                log.info("Assignment sweep assigned {} complaints missed by the assignment queue", assigned);
             }
+        });
+    }
 
-            // Assign complaint
-            complaint.setAssignedTo(selected);
-            complaint.setStatus(Complaint.ComplaintStatus.ASSIGNED);
-            complaintRepository.save(complaint);
-
-            // Update count to keep round-robin balanced
-            openCounts.put(selected.getId(), openCounts.getOrDefault(selected.getId(), 0L) + 1);
-
-            // Notify citizen
-            notificationService.sendComplaintAssignment(complaint);
-        }
+    /**
+     * Runs on startup and then periodically on every node. Reloads the officer index used by
+     * auto-assignment, picking up new officers and assignments made on other nodes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${assignment.index.refresh-interval:PT5M}",
+            initialDelayString = "${assignment.index.refresh-interval:PT5M}")
+    public void refreshOfficerIndex() {
+        officerIndex.rebuild();
     }
 
     /**
-     * Daily report at 23:59. Logs totals and stores in Report table.
+     * Daily report at 00:05 for the day that just ended, computed from that day's entries in the
+     * status transition log. Only the node holding the report's lease writes it, fenced so a node
+     * that lost the lease mid-run cannot overwrite a newer report.
      */
     @Transactional
-    @Scheduled(cron = "0 59 23 * * *")
+    @Scheduled(cron = "0 5 0 * * *")
     public void dailyReport() {
-        long applicationsTotal = applicationRepository.count();
-        long complaintsTotal = complaintRepository.count();
-
-        Map<String, Long> appByStatus = new HashMap<>();
-        for (Application.ApplicationStatus status : Application.ApplicationStatus.values()) {
-            appByStatus.put(status.name(), applicationRepository.countByStatus(status));
-        }
-
-        Map<String, Long> complaintByStatus = new HashMap<>();
-        for (Complaint.ComplaintStatus status : Complaint.ComplaintStatus.values()) {
-            complaintByStatus.put(status.name(), complaintRepository.countByStatus(status));
-        }
+        leasedJobRunner.runIfLeaseHolder("daily-report", this::writeDailyReport);
+    }
 
-        log.info("Daily report {} => applications: {}, complaints: {}", LocalDate.now(), appByStatus, complaintByStatus);
+    private void writeDailyReport(JobLeaseService.Lease lease) {
+        Report report = dailyReportService.compute(LocalDate.now().minusDays(1));
+        jobLeaseService.fence(lease);
+        dailyReportService.store(report);
+    }
 
-        try {
-            Report report = Report.builder()
-                    .applicationsTotal(applicationsTotal)
-                    .complaintsTotal(complaintsTotal)
-                    .applicationsByStatus(objectMapper.writeValueAsString(appByStatus))
-                    .complaintsByStatus(objectMapper.writeValueAsString(complaintByStatus))
-                    .build();
-            reportRepository.save(report);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize report JSON", e);
-        }
+    /**
+     * Runs on startup and nightly at 03:30. Recomputes the status counters from the source
+     * tables and logs any drift it had to correct, then resyncs live dashboard subscribers.
+     * The recount runs on the lease holder only; every node resyncs its own subscribers.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 3 * * *")
+    public void reconcileStatusCounters() {
+        leasedJobRunner.runIfLeaseHolder("status-counter-reconcile", statusCounterService::reconcile);
+        liveDashboardService.reload();
     }
 }
@@ -0,0 +1,24 @@
+package com.jonoseba.scheduling;
+
+import com.jonoseba.complaints.model.Complaint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Assigns a complaint to the least loaded officer under capacity who handles its category and
+ * whose jurisdiction matches its location. Officers without categories or jurisdiction count as
+ * matching anything, so with no profiles configured this behaves like {@link LeastLoadedStrategy}.
+ */
+@Component
+@ConditionalOnProperty(name = "assignment.strategy", havingValue = "skill-match", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SkillMatchStrategy implements AssignmentStrategy {
+
+    private final OfficerIndex officerIndex;
+
+    @Override
+    public Long select(Complaint complaint) {
+        return officerIndex.leastLoaded(complaint.getCategory(), complaint.getLocationText());
+    }
+}
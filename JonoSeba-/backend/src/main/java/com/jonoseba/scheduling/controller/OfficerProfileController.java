@@ -0,0 +1,35 @@
+package com.jonoseba.scheduling.controller;
+
+import com.jonoseba.common.dto.ApiResponse;
+import com.jonoseba.scheduling.OfficerProfileService;
+import com.jonoseba.scheduling.dto.OfficerProfileRequest;
+import com.jonoseba.scheduling.dto.OfficerProfileResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/officers/{officerId}/assignment-profile")
+@RequiredArgsConstructor
+public class OfficerProfileController {
+
+    private final OfficerProfileService officerProfileService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<OfficerProfileResponse>> getProfile(@PathVariable Long officerId) {
+        return ResponseEntity.ok(ApiResponse.success("Assignment profile fetched",
+                officerProfileService.getProfile(officerId)));
+    }
+
+    @PutMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<OfficerProfileResponse>> updateProfile(
+            @PathVariable Long officerId,
+            @Valid @RequestBody OfficerProfileRequest request) {
+        return ResponseEntity.ok(ApiResponse.success("Assignment profile updated",
+                officerProfileService.updateProfile(officerId, request)));
+    }
+}
@@ -0,0 +1,28 @@
+package com.jonoseba.scheduling.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfficerProfileRequest {
+
+    /**
+     * Complaint categories the officer handles; empty or absent means every category.
+     */
+    private Set<@Size(max = 100, message = "Category must be at most 100 characters") String> categories;
+
+    @Size(max = 100, message = "Jurisdiction must be at most 100 characters")
+    private String jurisdiction;
+
+    @Min(value = 0, message = "Capacity must not be negative")
+    private Integer capacity;
+}
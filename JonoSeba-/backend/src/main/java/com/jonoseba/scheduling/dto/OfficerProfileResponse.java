@@ -0,0 +1,33 @@
+package com.jonoseba.scheduling.dto;
+
+import com.jonoseba.scheduling.model.OfficerProfile;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfficerProfileResponse {
+    private Long officerId;
+    private Set<String> categories;
+    private String jurisdiction;
+    private Integer capacity;
+    private LocalDateTime updatedAt;
+
+    public static OfficerProfileResponse fromEntity(OfficerProfile profile) {
+        return OfficerProfileResponse.builder()
+                .officerId(profile.getOfficerId())
+                .categories(new TreeSet<>(profile.getCategories()))
+                .jurisdiction(profile.getJurisdiction())
+                .capacity(profile.getCapacity())
+                .updatedAt(profile.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.jonoseba.scheduling.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Assignment settings of one officer. Officers without a profile, or with an empty category set
+ * and no jurisdiction, take complaints of any category from anywhere without a cap.
+ */
+@Entity
+@Table(name = "officer_profiles")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfficerProfile {
+
+    @Id
+    @Column(name = "officer_id")
+    private Long officerId;
+
+    /**
+     * Complaint categories the officer handles; empty means every category.
+     */
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "officer_profile_categories", joinColumns = @JoinColumn(name = "officer_id"))
+    @Column(name = "category", nullable = false, length = 100)
+    private Set<String> categories = new HashSet<>();
+
+    /**
+     * Area matched against complaint locations, e.g. "mirpur"; null means every area.
+     */
+    @Column(length = 100)
+    private String jurisdiction;
+
+    /**
+     * Maximum open (ASSIGNED + IN_PROGRESS) complaints; null means no cap.
+     */
+    private Integer capacity;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,46 @@
+package com.jonoseba.scheduling.repository;
+
+import com.jonoseba.scheduling.model.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * Creates the lease row for a job on first use as already expired; a no-op when it exists.
+     * Works on MySQL and on H2 running in MySQL mode.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_leases (name, holder, token, acquired_at, expires_at) "
+            + "VALUES (:name, '', 0, :epoch, :epoch) ON DUPLICATE KEY UPDATE name = name",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("name") String name, @Param("epoch") LocalDateTime epoch);
+
+    /**
+     * Takes the lease if it expired or already belongs to {@code holder}, issuing the next fencing
+     * token. Returns 0 when another holder's lease is still live.
+     */
+    @Modifying
+    @Query("UPDATE JobLease l SET l.holder = :holder, l.token = l.token + 1, l.acquiredAt = :now, "
+            + "l.expiresAt = :expiresAt WHERE l.name = :name AND (l.expiresAt <= :now OR l.holder = :holder)")
+    int acquire(@Param("name") String name, @Param("holder") String holder,
+                @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Extends a lease that is still held under the given token. Returns 0 once it was lost.
+     */
+    @Modifying
+    @Query("UPDATE JobLease l SET l.expiresAt = :expiresAt WHERE l.name = :name AND l.holder = :holder "
+            + "AND l.token = :token AND l.expiresAt > :now")
+    int renew(@Param("name") String name, @Param("holder") String holder, @Param("token") long token,
+              @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Query("SELECT l.token FROM JobLease l WHERE l.name = :name")
+    Long findToken(@Param("name") String name);
+}
@@ -0,0 +1,21 @@
+package com.jonoseba.scheduling.repository;
+
+import com.jonoseba.scheduling.model.OfficerProfile;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OfficerProfileRepository extends JpaRepository<OfficerProfile, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = "categories")
+    List<OfficerProfile> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "categories")
+    Optional<OfficerProfile> findById(Long officerId);
+}
@@ -0,0 +1,37 @@
+package com.jonoseba.search.controller;
+
+import com.jonoseba.common.dto.ApiResponse;
+import com.jonoseba.search.dto.SearchResult;
+import com.jonoseba.search.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * GET /api/admin/search - Complaints and applications ranked by relevance to free text
+     * e.g. ?q=broken+streetlight&type=COMPLAINT&status=NEW&limit=20; type and status are optional
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<SearchResult>>> search(
+            @RequestParam("q") String query,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        List<SearchResult> results = searchService.search(query, type, status, limit);
+        return ResponseEntity.ok(ApiResponse.success("Search results fetched", results));
+    }
+}
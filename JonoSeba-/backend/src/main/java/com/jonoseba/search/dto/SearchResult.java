@@ -0,0 +1,27 @@
+package com.jonoseba.search.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jonoseba.applications.dto.ApplicationResponse;
+import com.jonoseba.common.event.StatusTransitionEvent.EntityType;
+import com.jonoseba.complaints.dto.ComplaintResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One search match; exactly one of {@code complaint} and {@code application} is set, according
+ * to {@code entityType}. Scores are only comparable within one response.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchResult {
+    private EntityType entityType;
+    private Long id;
+    private double score;
+    private ComplaintResponse complaint;
+    private ApplicationResponse application;
+}
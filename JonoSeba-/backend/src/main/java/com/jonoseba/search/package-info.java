@@ -0,0 +1,4 @@
+/**
+ * Full-text search over complaints and applications.
+ */
+package com.jonoseba.search;
@@ -0,0 +1,183 @@
+package com.jonoseba.search.service;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.common.event.StatusTransitionEvent.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index for databases without full-text support, chiefly the H2 test
+ * database. Each term maps to the documents containing it and the term's frequency there;
+ * queries are scored with BM25 over the postings of their terms only.
+ * <p>
+ * Searchable text never changes after creation, so new entities are indexed after their creating
+ * transaction commits and later transitions only update the stored status. {@link #rebuild()}
+ * reloads everything from the database on startup.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.index", havingValue = "memory")
+public class InMemorySearchIndex implements SearchIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{M}\\p{N}]+");
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final String COMPLAINT_SQL =
+            "SELECT id, status, description, category, location_text FROM complaints";
+    private static final String APPLICATION_SQL =
+            "SELECT id, status, title, description FROM applications";
+
+    private final JdbcTemplate jdbcTemplate;
+    private State state = new State();
+
+    public InMemorySearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reloads every complaint and application from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        State next = new State();
+        jdbcTemplate.query(COMPLAINT_SQL, complaintLoader(next));
+        jdbcTemplate.query(APPLICATION_SQL, applicationLoader(next));
+        synchronized (this) {
+            state = next;
+        }
+        log.debug("Search index rebuilt with {} documents", next.documents.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusTransition(StatusTransitionEvent event) {
+        if (!event.statusChanged()) {
+            return;
+        }
+        Key key = new Key(event.entityType(), event.entityId());
+        if (event.isCreation()) {
+            State loaded = new State();
+            if (event.entityType() == EntityType.COMPLAINT) {
+                jdbcTemplate.query(COMPLAINT_SQL + " WHERE id = ?", complaintLoader(loaded), event.entityId());
+            } else {
+                jdbcTemplate.query(APPLICATION_SQL + " WHERE id = ?", applicationLoader(loaded), event.entityId());
+            }
+            Document document = loaded.documents.get(key);
+            if (document != null) {
+                synchronized (this) {
+                    state.add(key, document);
+                }
+            }
+            return;
+        }
+        synchronized (this) {
+            Document document = state.documents.get(key);
+            if (document != null) {
+                document.status = event.toStatus();
+            }
+        }
+    }
+
+    @Override
+    public synchronized List<Hit> search(String text, EntityType entityType, String status, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(text));
+        Map<Key, Double> scores = new HashMap<>();
+        double averageLength = state.documents.isEmpty() ? 0 : (double) state.totalLength / state.documents.size();
+        for (String term : terms) {
+            Map<Key, Integer> postings = state.postings.get(term);
+            if (postings == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (state.documents.size() - postings.size() + 0.5) / (postings.size() + 0.5));
+            postings.forEach((key, frequency) -> {
+                Document document = state.documents.get(key);
+                if ((entityType != null && key.entityType() != entityType)
+                        || (status != null && !status.equals(document.status))) {
+                    return;
+                }
+                double norm = K1 * (1 - B + B * document.length / averageLength);
+                scores.merge(key, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+            });
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Key, Double>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().id(), Comparator.reverseOrder()))
+                .limit(limit)
+                .map(entry -> new Hit(entry.getKey().entityType(), entry.getKey().id(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * Lower-cased runs of letters, marks and digits, so Bengali text splits on spaces and
+     * punctuation just like Latin text.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static RowCallbackHandler complaintLoader(State state) {
+        return rs -> state.add(new Key(EntityType.COMPLAINT, rs.getLong("id")), new Document(rs.getString("status"),
+                rs.getString("description"), rs.getString("category"), rs.getString("location_text")));
+    }
+
+    private static RowCallbackHandler applicationLoader(State state) {
+        return rs -> state.add(new Key(EntityType.APPLICATION, rs.getLong("id")), new Document(rs.getString("status"),
+                rs.getString("title"), rs.getString("description")));
+    }
+
+    private record Key(EntityType entityType, Long id) {
+    }
+
+    private static final class Document {
+        private final Map<String, Integer> frequencies = new HashMap<>();
+        private final int length;
+        private String status;
+
+        private Document(String status, String... fields) {
+            this.status = status;
+            int tokens = 0;
+            for (String field : fields) {
+                for (String token : tokenize(field)) {
+                    frequencies.merge(token, 1, Integer::sum);
+                    tokens++;
+                }
+            }
+            this.length = tokens;
+        }
+    }
+
+    private static final class State {
+        private final Map<Key, Document> documents = new HashMap<>();
+        private final Map<String, Map<Key, Integer>> postings = new HashMap<>();
+        private long totalLength;
+
+        private void add(Key key, Document document) {
+            Document previous = documents.put(key, document);
+            if (previous != null) {
+                totalLength -= previous.length;
+                previous.frequencies.keySet().forEach(term -> postings.get(term).remove(key));
+            }
+            totalLength += document.length;
+            document.frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, ignored -> new HashMap<>()).put(key, frequency));
+        }
+    }
+}
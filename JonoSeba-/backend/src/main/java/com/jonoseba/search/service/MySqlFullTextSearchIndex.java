@@ -0,0 +1,53 @@
+package com.jonoseba.search.service;
+
+import com.jonoseba.common.event.StatusTransitionEvent.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Searches the FULLTEXT indexes created by {@code db/vendor/mysql/V9__fulltext_indexes.sql}.
+ * InnoDB maintains them on every insert and update, so there is nothing to keep in sync here.
+ * The MATCH column lists must be exactly those of the indexes.
+ */
+@Component
+@ConditionalOnProperty(name = "search.index", havingValue = "mysql", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MySqlFullTextSearchIndex implements SearchIndex {
+
+    private static final String COMPLAINT_MATCH = "MATCH (description, category, location_text) "
+            + "AGAINST (? IN NATURAL LANGUAGE MODE)";
+    private static final String APPLICATION_MATCH = "MATCH (title, description) "
+            + "AGAINST (? IN NATURAL LANGUAGE MODE)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Hit> search(String text, EntityType entityType, String status, int limit) {
+        List<Hit> hits = new ArrayList<>();
+        if (entityType == null || entityType == EntityType.COMPLAINT) {
+            hits.addAll(search("complaints", COMPLAINT_MATCH, EntityType.COMPLAINT, text, status, limit));
+        }
+        if (entityType == null || entityType == EntityType.APPLICATION) {
+            hits.addAll(search("applications", APPLICATION_MATCH, EntityType.APPLICATION, text, status, limit));
+        }
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    private List<Hit> search(String table, String match, EntityType entityType, String text, String status,
+                             int limit) {
+        RowMapper<Hit> hit = (rs, rowNum) -> new Hit(entityType, rs.getLong("id"), rs.getDouble("score"));
+        String sql = "SELECT id, " + match + " AS score FROM " + table + " WHERE " + match
+                + (status != null ? " AND status = ?" : "") + " ORDER BY score DESC, id DESC LIMIT ?";
+        return status != null
+                ? jdbcTemplate.query(sql, hit, text, text, status, limit)
+                : jdbcTemplate.query(sql, hit, text, text, limit);
+    }
+}
@@ -0,0 +1,24 @@
+package com.jonoseba.search.service;
+
+import com.jonoseba.common.event.StatusTransitionEvent.EntityType;
+
+import java.util.List;
+
+/**
+ * Relevance-ranked full-text lookup over complaint description, category and location and over
+ * application title and description. Implementations return ids only; {@link SearchService} loads
+ * the matching rows.
+ */
+public interface SearchIndex {
+
+    /**
+     * Best matches for the free text, highest score first.
+     *
+     * @param entityType restricts the search to one entity type, or {@code null} for both
+     * @param status     restricts the search to entities in this status name, or {@code null} for any
+     */
+    List<Hit> search(String text, EntityType entityType, String status, int limit);
+
+    record Hit(EntityType entityType, Long id, double score) {
+    }
+}
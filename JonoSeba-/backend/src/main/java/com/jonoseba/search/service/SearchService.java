@@ -0,0 +1,125 @@
+package com.jonoseba.search.service;
+
+import com.jonoseba.applications.dto.ApplicationResponse;
+import com.jonoseba.applications.model.Application;
+import com.jonoseba.applications.repository.ApplicationRepository;
+import com.jonoseba.common.event.StatusTransitionEvent.EntityType;
+import com.jonoseba.complaints.dto.ComplaintResponse;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.search.dto.SearchResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked search over complaints and applications. The {@link SearchIndex} picks the ids; their
+ * rows are then loaded with one projection query per entity type and returned in rank order.
+ */
+@Service
+public class SearchService {
+
+    private final SearchIndex searchIndex;
+    private final ComplaintRepository complaintRepository;
+    private final ApplicationRepository applicationRepository;
+    private final int defaultResults;
+    private final int maxResults;
+
+    public SearchService(SearchIndex searchIndex,
+                         ComplaintRepository complaintRepository,
+                         ApplicationRepository applicationRepository,
+                         @Value("${search.default-results:20}") int defaultResults,
+                         @Value("${search.max-results:100}") int maxResults) {
+        this.searchIndex = searchIndex;
+        this.complaintRepository = complaintRepository;
+        this.applicationRepository = applicationRepository;
+        this.defaultResults = defaultResults;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Complaints and applications best matching the text, highest score first.
+     *
+     * @param type   COMPLAINT or APPLICATION, or {@code null} for both
+     * @param status status name to filter by; without a type it applies to whichever entity type has it
+     * @throws IllegalArgumentException if the text is blank or a parameter is out of range
+     */
+    @Transactional(readOnly = true)
+    public List<SearchResult> search(String text, String type, String status, Integer limit) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search text must not be empty");
+        }
+        int size = limit != null ? limit : defaultResults;
+        if (size < 1 || size > maxResults) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxResults);
+        }
+        EntityType entityType = parseType(type);
+        String statusName = parseStatus(status, entityType);
+
+        List<SearchIndex.Hit> hits = searchIndex.search(text, entityType, statusName, size);
+        Map<Long, ComplaintResponse> complaints = load(hits, EntityType.COMPLAINT,
+                complaintRepository::findResponsesByIdIn, ComplaintResponse::getId);
+        Map<Long, ApplicationResponse> applications = load(hits, EntityType.APPLICATION,
+                applicationRepository::findResponsesByIdIn, ApplicationResponse::getId);
+
+        List<SearchResult> results = new ArrayList<>(hits.size());
+        for (SearchIndex.Hit hit : hits) {
+            ComplaintResponse complaint = hit.entityType() == EntityType.COMPLAINT ? complaints.get(hit.id()) : null;
+            ApplicationResponse application =
+                    hit.entityType() == EntityType.APPLICATION ? applications.get(hit.id()) : null;
+            // Skips rows deleted since they were indexed
+            if (complaint != null || application != null) {
+                results.add(SearchResult.builder()
+                        .entityType(hit.entityType())
+                        .id(hit.id())
+                        .score(hit.score())
+                        .complaint(complaint)
+                        .application(application)
+                        .build());
+            }
+        }
+        return results;
+    }
+
+    private static <T> Map<Long, T> load(List<SearchIndex.Hit> hits, EntityType entityType,
+                                         Function<Collection<Long>, List<T>> finder, Function<T, Long> id) {
+        List<Long> ids = hits.stream()
+                .filter(hit -> hit.entityType() == entityType)
+                .map(SearchIndex.Hit::id)
+                .toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return finder.apply(ids).stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    private static EntityType parseType(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        try {
+            return EntityType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid type value: " + type);
+        }
+    }
+
+    private static String parseStatus(String status, EntityType entityType) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        String name = status.toUpperCase();
+        boolean complaintStatus = entityType != EntityType.APPLICATION
+                && Arrays.stream(Complaint.ComplaintStatus.values()).anyMatch(value -> value.name().equals(name));
+        boolean applicationStatus = entityType != EntityType.COMPLAINT
+                && Arrays.stream(Application.ApplicationStatus.values()).anyMatch(value -> value.name().equals(name));
+        if (!complaintStatus && !applicationStatus) {
+            throw new IllegalArgumentException("Invalid status value: " + status);
+        }
+        return name;
+    }
+}
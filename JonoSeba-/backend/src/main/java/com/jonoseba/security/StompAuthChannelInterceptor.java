@@ -0,0 +1,95 @@
+package com.jonoseba.security;
+
+import com.jonoseba.users.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Principal;
+
+/**
+ * Authenticates STOMP sessions with the same JWT as the REST API and guards the live dashboard
+ * topics. The token is read from the {@code Authorization} header of the CONNECT frame and the
+ * resulting principal is kept for the rest of the session. Sessions connecting without a token
+ * stay anonymous and may only subscribe outside {@code /topic/dashboard/}: the admin topic
+ * requires the ADMIN role and an officer topic may only be subscribed to by that officer.
+ * Pattern subscriptions are refused altogether.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    static final String DASHBOARD_PREFIX = "/topic/dashboard/";
+    static final String ADMIN_DESTINATION = DASHBOARD_PREFIX + "admin";
+    static final String OFFICER_PREFIX = DASHBOARD_PREFIX + "officer/";
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String bearerToken = accessor.getFirstNativeHeader("Authorization");
+            if (StringUtils.hasText(bearerToken)) {
+                accessor.setUser(authenticate(bearerToken));
+            }
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            authorizeSubscription(accessor.getDestination(), accessor.getUser());
+        }
+        return message;
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String bearerToken) {
+        String jwt = bearerToken.startsWith("Bearer ") ? bearerToken.substring(7) : null;
+        if (jwt == null || !jwtService.validateToken(jwt)) {
+            throw new BadCredentialsException("Invalid or expired token");
+        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(jwtService.extractUsername(jwt));
+        if (!userDetails.isEnabled() || !jwtService.validateToken(jwt, userDetails)) {
+            throw new BadCredentialsException("Invalid or expired token");
+        }
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    private static void authorizeSubscription(String destination, Principal user) {
+        if (destination == null) {
+            return;
+        }
+        // The simple broker matches subscriptions as Ant patterns, which could reach the dashboard topics
+        if (destination.contains("*") || destination.contains("?") || destination.contains("{")) {
+            throw new AccessDeniedException("Pattern subscriptions are not allowed: " + destination);
+        }
+        if (!destination.startsWith(DASHBOARD_PREFIX)) {
+            return;
+        }
+        AuthenticatedUser currentUser = user instanceof UsernamePasswordAuthenticationToken authentication
+                && authentication.getPrincipal() instanceof AuthenticatedUser principal ? principal : null;
+        if (currentUser == null) {
+            throw new AccessDeniedException("Authentication required for " + destination);
+        }
+        if (ADMIN_DESTINATION.equals(destination)) {
+            if (currentUser.getRole() == User.UserRole.ADMIN) {
+                return;
+            }
+        } else if (destination.equals(OFFICER_PREFIX + currentUser.getId())) {
+            return;
+        }
+        throw new AccessDeniedException("Not allowed to subscribe to " + destination);
+    }
+}
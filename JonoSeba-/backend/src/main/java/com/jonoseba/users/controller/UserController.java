@@ -1,6 +1,9 @@
 package com.jonoseba.users.controller;
 
 import com.jonoseba.common.dto.ApiResponse;
+import com.jonoseba.dashboard.service.DashboardCache;
+import com.jonoseba.security.AuthenticatedUser;
+import com.jonoseba.security.CurrentUser;
 import com.jonoseba.users.dto.UserProfileDTO;
 import com.jonoseba.users.dto.UpdateProfileRequest;
 import com.jonoseba.users.model.User;
@@ -9,8 +12,6 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 @Slf4j
@@ -20,16 +21,14 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserRepository userRepository;
+    private final DashboardCache dashboardCache;
 
     /**
      * Get current user profile
      */
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<UserProfileDTO>> getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-        
-        User user = userRepository.findByEmail(email)
+    public ResponseEntity<ApiResponse<UserProfileDTO>> getCurrentUser(@CurrentUser AuthenticatedUser currentUser) {
+        User user = userRepository.findById(currentUser.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
         
         UserProfileDTO profile = UserProfileDTO.builder()
@@ -50,12 +49,10 @@ public class UserController {
      */
     @PutMapping("/me")
     public ResponseEntity<ApiResponse<UserProfileDTO>> updateCurrentUser(
-            @Valid @RequestBody UpdateProfileRequest request) {
-        
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
+            @Valid @RequestBody UpdateProfileRequest request,
+            @CurrentUser AuthenticatedUser currentUser) {
         
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findById(currentUser.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
         
         // Update fields if provided
@@ -70,6 +67,7 @@ public class UserController {
         }
         
         User updatedUser = userRepository.save(user);
+        dashboardCache.evictUserAfterCommit(updatedUser.getId());
         
         UserProfileDTO profile = UserProfileDTO.builder()
                 .id(updatedUser.getId())
@@ -81,7 +79,7 @@ public class UserController {
                 .createdAt(updatedUser.getCreatedAt())
                 .build();
         
-        log.info("Profile updated for user: {}", email);
+        log.info("Profile updated for user: {}", currentUser.getEmail());
         
         return ResponseEntity.ok(ApiResponse.success("Profile updated successfully", profile));
     }
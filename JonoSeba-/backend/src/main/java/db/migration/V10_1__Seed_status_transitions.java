@@ -0,0 +1,73 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Seeds the {@code status_transitions} log from the complaints and applications that existed
+ * before it, so daily reports and timelines cover them. Source rows only record creation and
+ * their latest update, so each entity gets its creation (seq 1) and, unless it is still in its
+ * initial status, one transition into its current status at its last update (seq 2) carrying the
+ * current assignee and note. Transitions into a closing status record how long the entity was open.
+ * <p>
+ * Runs as a migration so it finishes before the application takes traffic: live updates then
+ * always append after the seeded entries. The sources are read in keyset-ordered chunks, each
+ * written with one JDBC batch.
+ */
+public class V10_1__Seed_status_transitions extends BaseJavaMigration {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String INSERT_SQL = "INSERT INTO status_transitions "
+            + "(entity_type, entity_id, seq, from_status, to_status, assignee_id, note, occurred_at, open_seconds) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        seed(jdbcTemplate, "COMPLAINT", "NEW", Set.of("RESOLVED", "REJECTED"),
+                "SELECT id, status, assigned_to AS assignee_id, progress_note AS note, created_at, updated_at "
+                        + "FROM complaints WHERE id > ? ORDER BY id LIMIT " + CHUNK_SIZE);
+        seed(jdbcTemplate, "APPLICATION", "PENDING", Set.of("APPROVED", "REJECTED"),
+                "SELECT id, status, NULL AS assignee_id, remarks AS note, created_at, updated_at "
+                        + "FROM applications WHERE id > ? ORDER BY id LIMIT " + CHUNK_SIZE);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, String entityType, String initialStatus,
+                             Set<String> closingStatuses, String chunkSql) {
+        long lastId = 0;
+        while (true) {
+            List<Object[]> rows = new ArrayList<>();
+            List<Long> ids = jdbcTemplate.query(chunkSql, (rs, rowNum) -> {
+                long id = rs.getLong("id");
+                String status = rs.getString("status");
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                rows.add(new Object[]{entityType, id, 1, null, initialStatus, null, null, createdAt, null});
+                if (!initialStatus.equals(status)) {
+                    Timestamp changedAt = rs.getTimestamp("updated_at") != null ? rs.getTimestamp("updated_at") : createdAt;
+                    Long openSeconds = closingStatuses.contains(status)
+                            ? Math.max(0, Duration.between(createdAt.toInstant(), changedAt.toInstant()).getSeconds())
+                            : null;
+                    rows.add(new Object[]{entityType, id, 2, initialStatus, status, rs.getObject("assignee_id"),
+                            rs.getString("note"), changedAt, openSeconds});
+                }
+                return id;
+            }, lastId);
+            if (ids.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            if (ids.size() < CHUNK_SIZE) {
+                return;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fills the {@code status_rollups} hourly and daily buckets from the complaints and applications
+ * that existed before them, so trends show history from the first deployment on. Source rows only
+ * record creation and their latest update, so each entity counts its initial status in the bucket
+ * of its creation and, unless still in it, its current status in the bucket of its last update.
+ * <p>
+ * Runs as a migration so it finishes before the application takes traffic: live status changes
+ * then always add to the backfilled buckets instead of being mistaken for existing history. The
+ * sources are read in keyset-ordered chunks and the buckets written with one JDBC batch.
+ */
+public class V10_2__Backfill_status_rollups extends BaseJavaMigration {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String NO_CATEGORY = "";
+    private static final long NO_SERVICE = 0L;
+    private static final Map<String, ChronoUnit> GRANULARITIES = Map.of("HOUR", ChronoUnit.HOURS, "DAY", ChronoUnit.DAYS);
+    private static final String INSERT_SQL = "INSERT INTO status_rollups "
+            + "(entity_type, granularity, bucket_start, status, category, service_id, total) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        Map<Bucket, Long> buckets = new HashMap<>();
+        count(jdbcTemplate, buckets, "COMPLAINT", "NEW",
+                "SELECT id, status, category, NULL AS service_id, created_at, updated_at "
+                        + "FROM complaints WHERE id > ? ORDER BY id LIMIT " + CHUNK_SIZE);
+        count(jdbcTemplate, buckets, "APPLICATION", "PENDING",
+                "SELECT id, status, NULL AS category, service_id, created_at, updated_at "
+                        + "FROM applications WHERE id > ? ORDER BY id LIMIT " + CHUNK_SIZE);
+
+        List<Object[]> rows = new ArrayList<>(buckets.size());
+        buckets.forEach((bucket, total) -> rows.add(new Object[]{bucket.entityType(), bucket.granularity(),
+                Timestamp.valueOf(bucket.bucketStart()), bucket.status(), bucket.category(), bucket.serviceId(), total}));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+
+    private static void count(JdbcTemplate jdbcTemplate, Map<Bucket, Long> buckets, String entityType,
+                              String initialStatus, String chunkSql) {
+        long lastId = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.query(chunkSql, (rs, rowNum) -> {
+                String status = rs.getString("status");
+                String category = rs.getString("category") != null ? rs.getString("category") : NO_CATEGORY;
+                long serviceId = rs.getObject("service_id") != null ? rs.getLong("service_id") : NO_SERVICE;
+                add(buckets, entityType, initialStatus, category, serviceId, rs.getTimestamp("created_at"));
+                Timestamp updatedAt = rs.getTimestamp("updated_at");
+                if (!initialStatus.equals(status) && updatedAt != null) {
+                    add(buckets, entityType, status, category, serviceId, updatedAt);
+                }
+                return rs.getLong("id");
+            }, lastId);
+            if (ids.size() < CHUNK_SIZE) {
+                return;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private static void add(Map<Bucket, Long> buckets, String entityType, String status, String category,
+                            long serviceId, Timestamp time) {
+        LocalDateTime localTime = time.toLocalDateTime();
+        GRANULARITIES.forEach((granularity, unit) -> buckets.merge(
+                new Bucket(entityType, granularity, localTime.truncatedTo(unit), status, category, serviceId),
+                1L, Long::sum));
+    }
+
+    private record Bucket(String entityType, String granularity, LocalDateTime bucketStart,
+                          String status, String category, long serviceId) {
+    }
+}
@@ -0,0 +1,85 @@
+package db.migration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Copies the status breakdowns of existing reports from the JSON text columns, objects of status
+ * name to count, into the typed columns added in version 5, before version 6 drops the JSON
+ * columns. A status maps to the column named after it, e.g. {@code PENDING} in
+ * {@code applications_by_status} to {@code applications_status_pending}; statuses missing from a
+ * report, or whole reports whose JSON is missing or unreadable, are left null.
+ * <p>
+ * Written in Java because MySQL's JSON functions have no equivalent in the H2 test database.
+ */
+public class V5_1__Report_status_breakdown_columns extends BaseJavaMigration {
+
+    private static final TypeReference<Map<String, Long>> COUNTS = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+
+        List<String> columns = jdbcTemplate.query("SELECT * FROM reports WHERE 1 = 0", rs -> {
+            ResultSetMetaData metaData = rs.getMetaData();
+            List<String> typed = new ArrayList<>();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                String column = metaData.getColumnLabel(i).toLowerCase(Locale.ROOT);
+                if (column.startsWith("applications_status_") || column.startsWith("complaints_status_")) {
+                    typed.add(column);
+                }
+            }
+            return typed;
+        });
+
+        List<Object[]> rows = jdbcTemplate.query(
+                "SELECT id, applications_by_status, complaints_by_status FROM reports", (rs, rowNum) -> {
+                    Map<String, Long> applications = parse(rs.getString("applications_by_status"));
+                    Map<String, Long> complaints = parse(rs.getString("complaints_by_status"));
+                    Object[] row = new Object[columns.size() + 1];
+                    for (int i = 0; i < columns.size(); i++) {
+                        String column = columns.get(i);
+                        row[i] = column.startsWith("applications_")
+                                ? applications.get(column.substring("applications_status_".length()))
+                                : complaints.get(column.substring("complaints_status_".length()));
+                    }
+                    row[columns.size()] = rs.getLong("id");
+                    return row;
+                });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE reports SET " + String.join(" = ?, ", columns) + " = ? WHERE id = ?", rows);
+        }
+    }
+
+    /**
+     * Counts keyed by lower-case status name, as in the column names.
+     */
+    private Map<String, Long> parse(String json) {
+        if (json == null || json.isBlank()) {
+            return Map.of();
+        }
+        try {
+            Map<String, Long> counts = new HashMap<>();
+            objectMapper.readValue(json, COUNTS).forEach((status, count) ->
+                    counts.put(status.toLowerCase(Locale.ROOT), count));
+            return counts;
+        } catch (JsonProcessingException ex) {
+            return Map.of();
+        }
+    }
+}
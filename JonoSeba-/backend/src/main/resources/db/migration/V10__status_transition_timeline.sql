@@ -0,0 +1,16 @@
+-- Turns status_transitions into the full update history read back as complaint and application
+-- timelines: every update is logged, not only status changes, numbered per entity by seq and
+-- carrying the assignee and note given with it. Version 9 is the MySQL-only full-text migration
+-- in db/vendor/mysql.
+--
+-- status_transitions is created in version 5 of the same release and only written by the running
+-- application, so it has no rows yet and seq can be added as NOT NULL. Version 10.1 then seeds it
+-- from the existing complaints and applications.
+ALTER TABLE status_transitions ADD (
+    seq         INT    NOT NULL,
+    assignee_id BIGINT,
+    note        TEXT
+);
+
+-- Keeps seq unique per entity and serves timeline reads in seq order
+CREATE UNIQUE INDEX uk_status_transitions_entity_seq ON status_transitions (entity_type, entity_id, seq);
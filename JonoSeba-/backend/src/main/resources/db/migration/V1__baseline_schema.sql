@@ -0,0 +1,84 @@
+-- Schema exactly as Hibernate's ddl-auto created it for the entities of the last release without
+-- Flyway, constraint names included. Existing databases are baselined at this version
+-- (spring.flyway.baseline-on-migrate), so this script only runs on empty ones; everything added
+-- since belongs in later versions, which run on both.
+
+CREATE TABLE users (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    full_name     VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    phone         VARCHAR(255) NOT NULL,
+    password_hash VARCHAR(255) NOT NULL,
+    role          ENUM ('CITIZEN','ADMIN','OFFICER') NOT NULL,
+    address       VARCHAR(500),
+    enabled       BIT          NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UK_6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE services (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    name          VARCHAR(255) NOT NULL,
+    description   TEXT         NOT NULL,
+    required_docs TEXT,
+    active        BIT          NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE applications (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    citizen_id    BIGINT       NOT NULL,
+    service_id    BIGINT       NOT NULL,
+    title         VARCHAR(255) NOT NULL,
+    description   TEXT         NOT NULL,
+    status        ENUM ('PENDING','REVIEW','IN_PROGRESS','APPROVED','REJECTED') NOT NULL,
+    remarks       TEXT,
+    document_urls JSON,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FKr23l9pqqw2mpjwd519ybl8dsy FOREIGN KEY (citizen_id) REFERENCES users (id),
+    CONSTRAINT FKermkyam0qf3xp52roxp9v87nd FOREIGN KEY (service_id) REFERENCES services (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE complaints (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    citizen_id    BIGINT       NOT NULL,
+    subject       VARCHAR(255) NOT NULL,
+    category      VARCHAR(255) NOT NULL,
+    description   TEXT         NOT NULL,
+    photo_url     VARCHAR(255),
+    location_text VARCHAR(255),
+    progress_note TEXT,
+    status        ENUM ('NEW','ASSIGNED','IN_PROGRESS','RESOLVED','REJECTED') NOT NULL,
+    assigned_to   BIGINT,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FKes1g07iyxfav5p0a91a5jyeu2 FOREIGN KEY (citizen_id) REFERENCES users (id),
+    CONSTRAINT FKtbebct93sorv29mk2se5jn6rs FOREIGN KEY (assigned_to) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE notifications (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    type       VARCHAR(255) NOT NULL,
+    message    TEXT         NOT NULL,
+    read_flag  BIT          NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FK9y21adhxn0ayjhfocscqox7bh FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+-- The status breakdowns are JSON objects of status name to count, as text
+CREATE TABLE reports (
+    id                     BIGINT      NOT NULL AUTO_INCREMENT,
+    report_date            DATE        NOT NULL,
+    applications_total     BIGINT      NOT NULL,
+    complaints_total       BIGINT      NOT NULL,
+    applications_by_status TEXT,
+    complaints_by_status   TEXT,
+    created_at             DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
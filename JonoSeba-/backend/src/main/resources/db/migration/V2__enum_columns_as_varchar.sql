@@ -0,0 +1,8 @@
+-- Enum-typed entity fields were created as MySQL ENUM columns, whose value lists Hibernate kept
+-- up to date through ddl-auto. Now that the schema only changes through migrations, store them as
+-- plain strings so that adding an enum constant needs no ALTER TABLE. Tables added by later
+-- versions use strings from the start.
+
+ALTER TABLE users MODIFY role VARCHAR(20) NOT NULL;
+ALTER TABLE applications MODIFY status VARCHAR(20) NOT NULL;
+ALTER TABLE complaints MODIFY status VARCHAR(20) NOT NULL;
@@ -0,0 +1,27 @@
+-- Read models behind the dashboards: per-scope status counts maintained on every transition, and
+-- hourly and daily status rollups for the trend charts.
+
+CREATE TABLE status_counters (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    entity_type VARCHAR(20) NOT NULL,
+    scope       VARCHAR(20) NOT NULL,
+    scope_id    BIGINT      NOT NULL,
+    status      VARCHAR(20) NOT NULL,
+    total       BIGINT      NOT NULL,
+    updated_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_status_counters_key UNIQUE (entity_type, scope, scope_id, status)
+) ENGINE = InnoDB;
+
+CREATE TABLE status_rollups (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    entity_type  VARCHAR(20)  NOT NULL,
+    granularity  VARCHAR(10)  NOT NULL,
+    bucket_start DATETIME(6)  NOT NULL,
+    status       VARCHAR(20)  NOT NULL,
+    category     VARCHAR(255) NOT NULL,
+    service_id   BIGINT       NOT NULL,
+    total        BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_status_rollups_key UNIQUE (entity_type, granularity, bucket_start, status, category, service_id)
+) ENGINE = InnoDB;
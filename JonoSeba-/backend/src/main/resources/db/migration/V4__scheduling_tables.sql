@@ -0,0 +1,26 @@
+-- Leases that let one instance at a time run each scheduled job, and the officers' assignment
+-- profiles read by the assignment engine.
+
+CREATE TABLE job_leases (
+    name        VARCHAR(100) NOT NULL,
+    holder      VARCHAR(200) NOT NULL,
+    token       BIGINT       NOT NULL,
+    acquired_at DATETIME(6)  NOT NULL,
+    expires_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE officer_profiles (
+    officer_id   BIGINT       NOT NULL,
+    jurisdiction VARCHAR(100),
+    capacity     INTEGER,
+    updated_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (officer_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE officer_profile_categories (
+    officer_id BIGINT       NOT NULL,
+    category   VARCHAR(100) NOT NULL,
+    PRIMARY KEY (officer_id, category),
+    CONSTRAINT fk_officer_profile_categories_profile FOREIGN KEY (officer_id) REFERENCES officer_profiles (officer_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,67 @@
+-- Daily reports computed from the status transition log: typed status breakdown columns next to
+-- the JSON text ones (copied over in version 5.1, then dropped in version 6), the day's activity,
+-- and weekly and monthly rollups.
+
+CREATE TABLE status_transitions (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    entity_type  VARCHAR(20) NOT NULL,
+    entity_id    BIGINT      NOT NULL,
+    from_status  VARCHAR(20),
+    to_status    VARCHAR(20) NOT NULL,
+    occurred_at  DATETIME(6) NOT NULL,
+    open_seconds BIGINT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_status_transitions_occurred_at ON status_transitions (occurred_at);
+
+-- Activity was not recorded before the transition log, so existing reports show none
+ALTER TABLE reports ADD (
+    applications_status_pending         BIGINT,
+    applications_status_review          BIGINT,
+    applications_status_in_progress     BIGINT,
+    applications_status_approved        BIGINT,
+    applications_status_rejected        BIGINT,
+    complaints_status_new               BIGINT,
+    complaints_status_assigned          BIGINT,
+    complaints_status_in_progress       BIGINT,
+    complaints_status_resolved          BIGINT,
+    complaints_status_rejected          BIGINT,
+    applications_created                BIGINT NOT NULL DEFAULT 0,
+    applications_approved               BIGINT NOT NULL DEFAULT 0,
+    applications_rejected               BIGINT NOT NULL DEFAULT 0,
+    applications_avg_resolution_seconds BIGINT,
+    complaints_created                  BIGINT NOT NULL DEFAULT 0,
+    complaints_resolved                 BIGINT NOT NULL DEFAULT 0,
+    complaints_rejected                 BIGINT NOT NULL DEFAULT 0,
+    complaints_avg_resolution_seconds   BIGINT
+);
+
+CREATE TABLE report_rollups (
+    id                                  BIGINT      NOT NULL AUTO_INCREMENT,
+    period                              VARCHAR(10) NOT NULL,
+    period_start                        DATE        NOT NULL,
+    days_reported                       INTEGER     NOT NULL,
+    applications_total                  BIGINT      NOT NULL,
+    complaints_total                    BIGINT      NOT NULL,
+    applications_status_pending         BIGINT,
+    applications_status_review          BIGINT,
+    applications_status_in_progress     BIGINT,
+    applications_status_approved        BIGINT,
+    applications_status_rejected        BIGINT,
+    complaints_status_new               BIGINT,
+    complaints_status_assigned          BIGINT,
+    complaints_status_in_progress       BIGINT,
+    complaints_status_resolved          BIGINT,
+    complaints_status_rejected          BIGINT,
+    applications_created                BIGINT      NOT NULL,
+    applications_approved               BIGINT      NOT NULL,
+    applications_rejected               BIGINT      NOT NULL,
+    applications_avg_resolution_seconds BIGINT,
+    complaints_created                  BIGINT      NOT NULL,
+    complaints_resolved                 BIGINT      NOT NULL,
+    complaints_rejected                 BIGINT      NOT NULL,
+    complaints_avg_resolution_seconds   BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_report_rollups_key UNIQUE (period, period_start)
+) ENGINE = InnoDB;
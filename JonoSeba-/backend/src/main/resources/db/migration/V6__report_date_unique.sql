@@ -0,0 +1,11 @@
+-- Reports are now upserted once per day. The nightly job used to insert a row on every instance,
+-- so keep only the latest report of each day before making the date unique, and drop the JSON
+-- text breakdowns that the typed columns replace.
+
+DELETE FROM reports
+WHERE id NOT IN (SELECT id FROM (SELECT MAX(id) AS id FROM reports GROUP BY report_date) latest);
+
+ALTER TABLE reports ADD CONSTRAINT uk_reports_report_date UNIQUE (report_date);
+
+ALTER TABLE reports DROP COLUMN applications_by_status;
+ALTER TABLE reports DROP COLUMN complaints_by_status;
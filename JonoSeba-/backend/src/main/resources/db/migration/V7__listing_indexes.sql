@@ -0,0 +1,11 @@
+-- Indexes matching the ORDER BY of the newest-first listings, so a page is read from the index
+-- instead of sorting every matching row: a user's recent notifications and the complaint keyset
+-- pages, unfiltered or filtered by one column.
+
+CREATE INDEX idx_notifications_user_created ON notifications (user_id, created_at DESC);
+
+CREATE INDEX idx_complaints_created ON complaints (created_at, id);
+CREATE INDEX idx_complaints_status_created ON complaints (status, created_at, id);
+CREATE INDEX idx_complaints_category_created ON complaints (category, created_at, id);
+CREATE INDEX idx_complaints_citizen_created ON complaints (citizen_id, created_at, id);
+CREATE INDEX idx_complaints_assignee_created ON complaints (assigned_to, created_at, id);
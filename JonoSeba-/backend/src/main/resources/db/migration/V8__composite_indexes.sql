@@ -0,0 +1,23 @@
+-- Composite indexes for the repository query shapes that so far ran on single-column
+-- foreign-key indexes at best. Trailing updated_at columns make the ETag data-version
+-- queries (COUNT and MAX(updated_at) per scope) index-only.
+
+-- countByAssignedToAndStatus, countByAssignedToIdAndStatusIn, per-assignee GROUP BY status
+CREATE INDEX idx_complaints_assignee_status ON complaints (assigned_to, status, updated_at);
+
+-- countByCitizenAndStatus, per-citizen GROUP BY status
+CREATE INDEX idx_complaints_citizen_status ON complaints (citizen_id, status, updated_at);
+
+-- findByStatusAndAssignedToIsNull and the assignment sweep's keyset walk, oldest first
+CREATE INDEX idx_complaints_status_unassigned ON complaints (status, assigned_to, created_at, id);
+
+-- countByCitizenAndStatus, per-citizen GROUP BY status
+CREATE INDEX idx_applications_citizen_status ON applications (citizen_id, status, updated_at);
+
+-- Application lists, newest first, unfiltered or by citizen or status
+CREATE INDEX idx_applications_created ON applications (created_at, id);
+CREATE INDEX idx_applications_citizen_created ON applications (citizen_id, created_at, id);
+CREATE INDEX idx_applications_status_created ON applications (status, created_at, id);
+
+-- findByUserIdAndReadFlagFalse and the unread count of a user's notification version
+CREATE INDEX idx_notifications_user_read ON notifications (user_id, read_flag);
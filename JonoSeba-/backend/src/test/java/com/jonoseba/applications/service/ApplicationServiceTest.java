@@ -6,6 +6,7 @@ import com.jonoseba.applications.model.Application;
 import com.jonoseba.applications.repository.ApplicationRepository;
 import com.jonoseba.common.exception.ResourceNotFoundException;
 import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.reports.dto.TimelineEntry;
 import com.jonoseba.services.model.Service;
 import com.jonoseba.services.repository.ServiceRepository;
 import com.jonoseba.users.model.User;
@@ -239,6 +240,28 @@ class ApplicationServiceTest {
         verify(notificationService, times(2)).sendApplicationStatusChange(any(Application.class));
     }
 
+    @Test
+    @DisplayName("Timeline should list every status update with its remarks, oldest first")
+    void testTimeline() {
+        Authentication adminAuth = createAuthentication("admin@example.com", "ROLE_ADMIN");
+        applicationService.updateStatus(testApplication.getId(), ApplicationStatusUpdateRequest.builder()
+                .status(Application.ApplicationStatus.IN_PROGRESS).remarks("Started processing").build(), adminAuth);
+        applicationService.updateStatus(testApplication.getId(), ApplicationStatusUpdateRequest.builder()
+                .status(Application.ApplicationStatus.APPROVED).remarks("Approved").build(), adminAuth);
+
+        Authentication citizenAuth = createAuthentication("citizen@example.com", "ROLE_CITIZEN");
+        List<TimelineEntry> timeline = applicationService.getTimeline(
+                testApplication.getId(), citizenUser.getId(), citizenAuth);
+
+        assertEquals(List.of(1, 2), timeline.stream().map(TimelineEntry::getSeq).toList());
+        assertEquals(List.of("IN_PROGRESS", "APPROVED"), timeline.stream().map(TimelineEntry::getStatus).toList());
+        assertEquals(List.of("Started processing", "Approved"), timeline.stream().map(TimelineEntry::getNote).toList());
+        assertThrows(AccessDeniedException.class,
+                () -> applicationService.getTimeline(testApplication.getId(), adminUser.getId(), citizenAuth));
+        assertThrows(ResourceNotFoundException.class,
+                () -> applicationService.getTimeline(99999L, citizenUser.getId(), adminAuth));
+    }
+
     /**
      * Helper method to create Authentication with specified role
      */
@@ -0,0 +1,169 @@
+package com.jonoseba.common;
+
+import com.jonoseba.applications.model.Application;
+import com.jonoseba.applications.repository.ApplicationRepository;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.security.AuthenticatedUser;
+import com.jonoseba.services.model.Service;
+import com.jonoseba.services.repository.ServiceRepository;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the statement budget of list endpoints using @SpringBootTest with H2 database
+ * Tests that listing many rows owned by different users costs a fixed number of statements, not one per row
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("List Query Budget Tests")
+@Transactional
+class ListQueryBudgetTest {
+
+    /**
+     * One statement for the ETag's data version and one for the list itself.
+     */
+    private static final long QUERY_BUDGET = 2;
+    private static final int ROWS_PER_CITIZEN = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    private AuthenticatedUser citizen;
+    private AuthenticatedUser officer;
+    private AuthenticatedUser admin;
+
+    @BeforeEach
+    void setUp() {
+        List<User> citizens = new ArrayList<>();
+        List<User> officers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            citizens.add(saveUser("citizen" + i + "@example.com", User.UserRole.CITIZEN));
+            officers.add(saveUser("officer" + i + "@example.com", User.UserRole.OFFICER));
+        }
+        List<Service> services = List.of(saveService("Birth Certificate"), saveService("Trade License"));
+
+        for (int i = 0; i < citizens.size() * ROWS_PER_CITIZEN; i++) {
+            User owner = citizens.get(i % citizens.size());
+            complaintRepository.save(Complaint.builder()
+                    .citizen(owner)
+                    .assignedTo(i % 2 == 0 ? officers.get(0) : officers.get(i % officers.size()))
+                    .subject("Complaint " + i)
+                    .category("ROAD_DAMAGE")
+                    .description("Complaint description")
+                    .status(Complaint.ComplaintStatus.ASSIGNED)
+                    .build());
+            applicationRepository.save(Application.builder()
+                    .citizen(owner)
+                    .service(services.get(i % services.size()))
+                    .status(Application.ApplicationStatus.PENDING)
+                    .title("Application " + i)
+                    .description("Application description")
+                    .build());
+        }
+
+        citizen = AuthenticatedUser.from(citizens.get(0));
+        officer = AuthenticatedUser.from(officers.get(0));
+        admin = AuthenticatedUser.from(saveUser("admin@example.com", User.UserRole.ADMIN));
+    }
+
+    @Test
+    @DisplayName("Complaint lists should stay within the statement budget")
+    void testComplaintListsWithinBudget() throws Exception {
+        assertWithinBudget("/api/complaints", admin, 9);
+        assertWithinBudget("/api/complaints/me", citizen, ROWS_PER_CITIZEN);
+        assertWithinBudget("/api/complaints/assigned", officer, 6);
+    }
+
+    @Test
+    @DisplayName("Application lists should stay within the statement budget")
+    void testApplicationListsWithinBudget() throws Exception {
+        assertWithinBudget("/api/applications", admin, 9);
+        assertWithinBudget("/api/applications/me", citizen, ROWS_PER_CITIZEN);
+    }
+
+    /**
+     * Requests the list with a cold persistence context and checks both its size, so the data is
+     * really mapped, and the number of JDBC statements Hibernate prepared while serving it.
+     */
+    private void assertWithinBudget(String path, AuthenticatedUser principal, int expectedRows) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        String listPath = path.startsWith("/api/complaints") ? "$.data.items.length()" : "$.data.length()";
+        mockMvc.perform(get(path).with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(listPath).value(expectedRows));
+
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= QUERY_BUDGET,
+                path + " prepared " + statements + " statements, budget is " + QUERY_BUDGET);
+    }
+
+    private User saveUser(String email, User.UserRole role) {
+        return userRepository.save(User.builder()
+                .fullName("User " + email)
+                .email(email)
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567890")
+                .role(role)
+                .enabled(true)
+                .build());
+    }
+
+    private Service saveService(String name) {
+        return serviceRepository.save(Service.builder()
+                .name(name)
+                .description(name + " service")
+                .active(true)
+                .build());
+    }
+}
@@ -0,0 +1,149 @@
+package com.jonoseba.common;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the Flyway schema using @SpringBootTest with H2 database in MySQL mode
+ * Tests that the migrations applied cleanly, that they upgrade a database created by the former ddl-auto
+ * to the same schema, and that the hot repository queries are planned on their composite indexes
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Schema Migration Tests")
+class SchemaMigrationTest {
+
+    private static final String COLUMNS_SQL = "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, IS_NULLABLE "
+            + "FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME <> 'flyway_schema_history' "
+            + "ORDER BY TABLE_NAME, COLUMN_NAME";
+    // Indexes by their columns, since H2 names the ones backing keys and constraints per database
+    private static final String INDEXES_SQL = "SELECT i.TABLE_NAME, i.INDEX_TYPE_NAME, "
+            + "LISTAGG(c.COLUMN_NAME, ',') WITHIN GROUP (ORDER BY c.ORDINAL_POSITION) AS COLUMNS "
+            + "FROM INFORMATION_SCHEMA.INDEXES i JOIN INFORMATION_SCHEMA.INDEX_COLUMNS c "
+            + "ON c.INDEX_SCHEMA = i.INDEX_SCHEMA AND c.INDEX_NAME = i.INDEX_NAME "
+            + "WHERE i.TABLE_SCHEMA = 'PUBLIC' AND i.TABLE_NAME <> 'flyway_schema_history' "
+            + "GROUP BY i.TABLE_NAME, i.INDEX_NAME, i.INDEX_TYPE_NAME ORDER BY 1, 3, 2";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    @DisplayName("Should apply every migration successfully")
+    void testMigrationsApplied() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" "
+                        + "WHERE \"version\" IS NOT NULL AND \"success\" = TRUE ORDER BY \"installed_rank\"",
+                String.class);
+        // Version 9 is MySQL-only
+        assertEquals(List.of("1", "2", "3", "4", "5", "5.1", "6", "7", "8", "10", "10.1", "10.2"), versions);
+    }
+
+    @Test
+    @DisplayName("Should baseline a database created by ddl-auto and migrate it to the current schema")
+    void testUpgradeFromDdlAutoSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:upgrade-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=MySQL", "sa", "");
+        JdbcTemplate upgraded = new JdbcTemplate(dataSource);
+        // The schema the last release without Flyway left behind, with some data and no history table
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql")).execute(dataSource);
+        upgraded.update("INSERT INTO users (full_name, email, phone, password_hash, role, enabled, created_at) "
+                + "VALUES ('Citizen User', 'citizen@example.com', '+8801234567890', 'hash', 'CITIZEN', TRUE, NOW())");
+        upgraded.update("INSERT INTO complaints (citizen_id, subject, category, description, status, created_at) "
+                + "VALUES (1, 'Broken road', 'ROAD_DAMAGE', 'Pothole', 'NEW', NOW())");
+        upgraded.update("INSERT INTO complaints (citizen_id, subject, category, description, status, progress_note, "
+                + "created_at, updated_at) VALUES (1, 'Streetlight', 'ELECTRICITY', 'Dark street', 'RESOLVED', "
+                + "'Bulb replaced', TIMESTAMP '2024-05-01 08:00:00', TIMESTAMP '2024-05-01 13:00:00')");
+        for (int i = 0; i < 2; i++) {
+            upgraded.update("INSERT INTO reports (report_date, applications_total, complaints_total, "
+                    + "applications_by_status, complaints_by_status, created_at) VALUES (DATE '2024-05-01', 4, ?, "
+                    + "'{\"PENDING\":3,\"APPROVED\":1}', ?, NOW())", i, "{\"NEW\":" + i + "}");
+        }
+        upgraded.update("INSERT INTO reports (report_date, applications_total, complaints_total, created_at) "
+                + "VALUES (DATE '2024-05-02', 0, 0, NOW())");
+
+        Flyway.configure().configuration(flyway.getConfiguration()).dataSource(dataSource).load().migrate();
+
+        assertEquals(List.of("1"), upgraded.queryForList("SELECT \"version\" FROM \"flyway_schema_history\" "
+                + "WHERE \"type\" = 'BASELINE'", String.class));
+        List<Map<String, Object>> expectedColumns = jdbcTemplate.queryForList(COLUMNS_SQL);
+        assertEquals(expectedColumns, upgraded.queryForList(COLUMNS_SQL));
+        assertEquals(jdbcTemplate.queryForList(INDEXES_SQL), upgraded.queryForList(INDEXES_SQL));
+        assertEquals("NEW", upgraded.queryForObject("SELECT status FROM complaints WHERE id = 1", String.class));
+        // Existing complaints are seeded into the transition log: creation, then their current status
+        assertEquals(List.of("1|null|NEW|null|null", "2|null|NEW|null|null", "2|NEW|RESOLVED|Bulb replaced|18000"),
+                upgraded.queryForList("SELECT CONCAT(entity_id, '|', COALESCE(from_status, 'null'), '|', to_status, "
+                        + "'|', COALESCE(note, 'null'), '|', COALESCE(CAST(open_seconds AS VARCHAR), 'null')) "
+                        + "FROM status_transitions WHERE entity_type = 'COMPLAINT' ORDER BY entity_id, seq", String.class));
+        // and into the trend rollups: creation in NEW, then the current status at the last update
+        assertEquals(List.of("ELECTRICITY|NEW|2024-05-01 08:00:00|1", "ELECTRICITY|RESOLVED|2024-05-01 13:00:00|1"),
+                upgraded.queryForList("SELECT CONCAT(category, '|', status, '|', FORMATDATETIME(bucket_start, "
+                        + "'yyyy-MM-dd HH:mm:ss'), '|', total) FROM status_rollups WHERE entity_type = 'COMPLAINT' "
+                        + "AND granularity = 'HOUR' AND category = 'ELECTRICITY' ORDER BY bucket_start", String.class));
+        // Only the latest report of the day is kept, with its JSON breakdowns in the typed columns
+        Map<String, Object> report = upgraded.queryForMap("SELECT * FROM reports WHERE report_date = DATE '2024-05-01'");
+        assertEquals(1L, report.get("COMPLAINTS_TOTAL"));
+        assertEquals(3L, report.get("APPLICATIONS_STATUS_PENDING"));
+        assertEquals(1L, report.get("APPLICATIONS_STATUS_APPROVED"));
+        assertNull(report.get("APPLICATIONS_STATUS_REVIEW"));
+        assertEquals(1L, report.get("COMPLAINTS_STATUS_NEW"));
+        assertEquals(0L, report.get("COMPLAINTS_CREATED"));
+        assertNull(upgraded.queryForObject("SELECT applications_status_pending FROM reports "
+                + "WHERE report_date = DATE '2024-05-02'", Long.class));
+    }
+
+    @Test
+    @DisplayName("Should plan per-scope status counts on the scope and status indexes")
+    void testStatusCountsUseCompositeIndexes() {
+        assertUsesIndex("idx_complaints_assignee_status",
+                "SELECT COUNT(*) FROM complaints WHERE assigned_to = 1 AND status = 'ASSIGNED'");
+        assertUsesIndex("idx_complaints_assignee_status",
+                "SELECT status, COUNT(*) FROM complaints WHERE assigned_to = 1 GROUP BY status");
+        assertUsesIndex("idx_complaints_citizen_status",
+                "SELECT COUNT(*) FROM complaints WHERE citizen_id = 1 AND status = 'NEW'");
+        assertUsesIndex("idx_applications_citizen_status",
+                "SELECT COUNT(*) FROM applications WHERE citizen_id = 1 AND status = 'PENDING'");
+        assertUsesIndex("idx_notifications_user_read",
+                "SELECT id FROM notifications WHERE user_id = 1 AND read_flag = FALSE");
+    }
+
+    @Test
+    @DisplayName("Should plan the unassigned backlog sweep on the status and assignee index")
+    void testUnassignedSweepUsesCompositeIndex() {
+        assertUsesIndex("idx_complaints_status_unassigned",
+                "SELECT id FROM complaints WHERE status = 'NEW' AND assigned_to IS NULL "
+                        + "AND (created_at > TIMESTAMP '2024-05-01 00:00:00' "
+                        + "OR (created_at = TIMESTAMP '2024-05-01 00:00:00' AND id > 0)) "
+                        + "ORDER BY created_at, id LIMIT 200");
+    }
+
+    @Test
+    @DisplayName("Should read a status timeline on the entity and seq index")
+    void testTimelineUsesEntitySeqIndex() {
+        assertUsesIndex("uk_status_transitions_entity_seq",
+                "SELECT seq, to_status, note FROM status_transitions "
+                        + "WHERE entity_type = 'COMPLAINT' AND entity_id = 1 ORDER BY seq");
+    }
+
+    private void assertUsesIndex(String index, String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertNotNull(plan);
+        assertTrue(plan.toLowerCase().contains("public." + index + ":"), "Expected " + index + " in plan:\n" + plan);
+    }
+}
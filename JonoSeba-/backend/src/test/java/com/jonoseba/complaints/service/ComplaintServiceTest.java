@@ -0,0 +1,263 @@
+package com.jonoseba.complaints.service;
+
+import com.jonoseba.common.dto.CursorPage;
+import com.jonoseba.complaints.dto.ComplaintBulkStatusResult;
+import com.jonoseba.complaints.dto.ComplaintBulkStatusUpdateRequest;
+import com.jonoseba.complaints.dto.ComplaintFilter;
+import com.jonoseba.complaints.dto.ComplaintResponse;
+import com.jonoseba.complaints.dto.ComplaintStatusUpdateRequest;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.reports.dto.TimelineEntry;
+import com.jonoseba.security.AuthenticatedUser;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Integration tests for ComplaintService using @SpringBootTest with H2 database
+ * Tests keyset-paginated complaint listings and their filters, bulk status updates and timelines
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ComplaintService Tests")
+@Transactional
+class ComplaintServiceTest {
+
+    private static final LocalDateTime MAY_1 = LocalDate.of(2024, 5, 1).atTime(9, 0);
+
+    @Autowired
+    private ComplaintService complaintService;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    private User citizen;
+    private User officer;
+    private Authentication adminAuth;
+    private Authentication officerAuth;
+    private AuthenticatedUser adminUser;
+    private AuthenticatedUser officerUser;
+
+    @BeforeEach
+    void setUp() {
+        citizen = user("Citizen User", "citizen@example.com", User.UserRole.CITIZEN);
+        officer = user("Officer User", "officer@example.com", User.UserRole.OFFICER);
+        adminAuth = new UsernamePasswordAuthenticationToken(
+                "admin@example.com", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        officerAuth = new UsernamePasswordAuthenticationToken(
+                "officer@example.com", null, List.of(new SimpleGrantedAuthority("ROLE_OFFICER")));
+        adminUser = new AuthenticatedUser(0L, "admin@example.com", User.UserRole.ADMIN, true, null);
+        officerUser = AuthenticatedUser.from(officer);
+    }
+
+    @Test
+    @DisplayName("Should page through all complaints newest first without gaps or repeats")
+    void testKeysetPaging() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            // Two complaints per timestamp, so ties are broken by id
+            ids.add(complaint("ROAD_DAMAGE", Complaint.ComplaintStatus.NEW, null, MAY_1.plusHours(i / 2)).getId());
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<ComplaintResponse> page = complaintService.getAllComplaints(
+                    ComplaintFilter.builder().limit(2).cursor(cursor).build(), adminAuth);
+            page.getItems().forEach(response -> seen.add(response.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(List.of(ids.get(4), ids.get(3), ids.get(2), ids.get(1), ids.get(0)), seen);
+    }
+
+    @Test
+    @DisplayName("Should filter by status, category, assignee and inclusive creation dates")
+    void testFilters() {
+        Complaint assigned = complaint("ROAD_DAMAGE", Complaint.ComplaintStatus.ASSIGNED, officer, MAY_1);
+        Complaint water = complaint("WATER_SUPPLY", Complaint.ComplaintStatus.NEW, null, MAY_1.plusDays(1));
+        Complaint older = complaint("ROAD_DAMAGE", Complaint.ComplaintStatus.NEW, null, MAY_1.minusDays(10));
+
+        assertEquals(List.of(assigned.getId()), ids(ComplaintFilter.builder().status("assigned").build()));
+        assertEquals(List.of(assigned.getId(), older.getId()),
+                ids(ComplaintFilter.builder().category("ROAD_DAMAGE").build()));
+        assertEquals(List.of(assigned.getId()), ids(ComplaintFilter.builder().assigneeId(officer.getId()).build()));
+        assertEquals(List.of(water.getId(), assigned.getId()), ids(ComplaintFilter.builder()
+                .from(MAY_1.toLocalDate()).to(MAY_1.toLocalDate().plusDays(1)).build()));
+
+        CursorPage<ComplaintResponse> mine = complaintService.getMyComplaints(citizen.getId(),
+                ComplaintFilter.builder().status("NEW").build());
+        assertEquals(2, mine.getItems().size());
+        assertNull(mine.getNextCursor());
+
+        // An officer only ever sees their own complaints
+        CursorPage<ComplaintResponse> officers = complaintService.getAssignedComplaints(officer.getId(),
+                ComplaintFilter.builder().assigneeId(citizen.getId()).build(), officerAuth);
+        assertEquals(List.of(assigned.getId()), officers.getItems().stream().map(ComplaintResponse::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid cursors, page sizes, statuses and ranges")
+    void testInvalidQueries() {
+        assertThrows(IllegalArgumentException.class,
+                () -> complaintService.getAllComplaints(ComplaintFilter.builder().cursor("not-a-cursor").build(), adminAuth));
+        assertThrows(IllegalArgumentException.class,
+                () -> complaintService.getAllComplaints(ComplaintFilter.builder().limit(0).build(), adminAuth));
+        assertThrows(IllegalArgumentException.class,
+                () -> complaintService.getAllComplaints(ComplaintFilter.builder().limit(201).build(), adminAuth));
+        assertThrows(IllegalArgumentException.class,
+                () -> complaintService.getAllComplaints(ComplaintFilter.builder().status("UNKNOWN").build(), adminAuth));
+        assertThrows(IllegalArgumentException.class,
+                () -> complaintService.getAllComplaints(ComplaintFilter.builder()
+                        .from(MAY_1.toLocalDate()).to(MAY_1.toLocalDate().minusDays(1)).build(), adminAuth));
+    }
+
+    @Test
+    @DisplayName("Should bulk-update the caller's complaints and report the others per item")
+    void testBulkUpdateStatus() {
+        Complaint mine = complaint("ROAD_DAMAGE", Complaint.ComplaintStatus.ASSIGNED, officer, MAY_1);
+        Complaint unassigned = complaint("ROAD_DAMAGE", Complaint.ComplaintStatus.NEW, null, MAY_1);
+        long missing = unassigned.getId() + 1000;
+
+        List<ComplaintBulkStatusResult> results = complaintService.bulkUpdateStatus(
+                ComplaintBulkStatusUpdateRequest.builder()
+                        .ids(List.of(mine.getId(), unassigned.getId(), missing, mine.getId()))
+                        .status(Complaint.ComplaintStatus.RESOLVED)
+                        .progressNote("Road repaired")
+                        .build(), officerUser);
+
+        assertEquals(List.of(mine.getId(), unassigned.getId(), missing),
+                results.stream().map(ComplaintBulkStatusResult::getId).toList());
+        assertEquals(ComplaintBulkStatusResult.Outcome.UPDATED, results.get(0).getOutcome());
+        assertEquals(Complaint.ComplaintStatus.RESOLVED, results.get(0).getComplaint().getStatus());
+        assertEquals(ComplaintBulkStatusResult.Outcome.FORBIDDEN, results.get(1).getOutcome());
+        assertEquals(ComplaintBulkStatusResult.Outcome.NOT_FOUND, results.get(2).getOutcome());
+
+        assertEquals("RESOLVED|Road repaired", jdbcTemplate.queryForObject(
+                "SELECT CONCAT(status, '|', progress_note) FROM complaints WHERE id = ?", String.class, mine.getId()));
+        assertEquals("NEW", jdbcTemplate.queryForObject(
+                "SELECT status FROM complaints WHERE id = ?", String.class, unassigned.getId()));
+        // Published transitions reach the in-transaction listeners as with single updates
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM status_transitions "
+                + "WHERE entity_id = ? AND to_status = 'RESOLVED'", Integer.class, mine.getId()));
+        List<TimelineEntry> timeline = complaintService.getTimeline(mine.getId(), adminUser);
+        assertEquals(1, timeline.size());
+        assertEquals("Road repaired", timeline.get(0).getNote());
+        verify(notificationService).sendComplaintStatusChanges(argThat(complaints -> complaints.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should reject bulk updates by citizens and over the size limit")
+    void testBulkUpdateStatusLimits() {
+        ComplaintBulkStatusUpdateRequest request = ComplaintBulkStatusUpdateRequest.builder()
+                .ids(List.of(1L))
+                .status(Complaint.ComplaintStatus.RESOLVED)
+                .build();
+        assertThrows(AccessDeniedException.class, () -> complaintService.bulkUpdateStatus(request, AuthenticatedUser.from(citizen)));
+
+        request.setIds(LongStream.rangeClosed(1, 201).boxed().toList());
+        assertThrows(IllegalArgumentException.class, () -> complaintService.bulkUpdateStatus(request, adminUser));
+        request.setIds(Collections.singletonList(null));
+        assertThrows(IllegalArgumentException.class, () -> complaintService.bulkUpdateStatus(request, adminUser));
+    }
+
+    @Test
+    @DisplayName("Should record every update in the complaint's timeline")
+    void testTimeline() {
+        Long id = complaint("ROAD_DAMAGE", Complaint.ComplaintStatus.NEW, null, MAY_1).getId();
+        complaintService.updateStatus(id, ComplaintStatusUpdateRequest.builder()
+                .status(Complaint.ComplaintStatus.NEW).build(), adminUser);
+        complaintService.updateStatus(id, ComplaintStatusUpdateRequest.builder()
+                .status(Complaint.ComplaintStatus.IN_PROGRESS).progressNote("Crew on site").build(), adminUser);
+        complaintService.bulkUpdateStatus(ComplaintBulkStatusUpdateRequest.builder()
+                .ids(List.of(id)).status(Complaint.ComplaintStatus.RESOLVED).progressNote("Road repaired").build(),
+                adminUser);
+
+        List<TimelineEntry> timeline = complaintService.getTimeline(id, adminUser);
+
+        assertEquals(List.of(1, 2, 3), timeline.stream().map(TimelineEntry::getSeq).toList());
+        assertEquals(List.of("NEW", "IN_PROGRESS", "RESOLVED"), timeline.stream().map(TimelineEntry::getStatus).toList());
+        assertEquals(Arrays.asList(null, "Crew on site", "Road repaired"),
+                timeline.stream().map(TimelineEntry::getNote).toList());
+        assertEquals(3, complaintService.getTimeline(id, AuthenticatedUser.from(citizen)).size());
+        // Not assigned to the officer
+        assertThrows(AccessDeniedException.class, () -> complaintService.getTimeline(id, officerUser));
+    }
+
+    private List<Long> ids(ComplaintFilter filter) {
+        return complaintService.getAllComplaints(filter, adminAuth).getItems().stream()
+                .map(ComplaintResponse::getId)
+                .toList();
+    }
+
+    private User user(String name, String email, User.UserRole role) {
+        return userRepository.save(User.builder()
+                .fullName(name)
+                .email(email)
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567890")
+                .role(role)
+                .enabled(true)
+                .build());
+    }
+
+    /**
+     * Saves a complaint and moves its creation time, which entity callbacks would overwrite.
+     */
+    private Complaint complaint(String category, Complaint.ComplaintStatus status, User assignee, LocalDateTime createdAt) {
+        Complaint complaint = complaintRepository.save(Complaint.builder()
+                .citizen(citizen)
+                .subject("Complaint")
+                .category(category)
+                .description("Complaint description")
+                .status(status)
+                .assignedTo(assignee)
+                .build());
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE complaints SET created_at = ? WHERE id = ?", createdAt, complaint.getId());
+        entityManager.clear();
+        return complaint;
+    }
+}
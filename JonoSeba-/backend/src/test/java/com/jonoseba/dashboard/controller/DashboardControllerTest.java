@@ -0,0 +1,173 @@
+package com.jonoseba.dashboard.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jonoseba.auth.dto.RegisterRequest;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.dashboard.service.DashboardCache;
+import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.security.AuthenticatedUser;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for conditional GET support on dashboard and list endpoints
+ * Tests that matching If-None-Match headers get 304 and that data changes produce a new ETag
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Dashboard ETag Tests")
+@Transactional
+class DashboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    private User citizen;
+    private AuthenticatedUser principal;
+
+    @BeforeEach
+    void setUp() {
+        citizen = userRepository.save(User.builder()
+                .fullName("Citizen User")
+                .email("citizen@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567890")
+                .role(User.UserRole.CITIZEN)
+                .enabled(true)
+                .build());
+        principal = AuthenticatedUser.from(citizen);
+        saveComplaint();
+        dashboardCache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 when the citizen dashboard is unchanged")
+    void testCitizenDashboardNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/dashboard/citizen").with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andExpect(jsonPath("$.data.complaintsTotal").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        mockMvc.perform(get("/api/dashboard/citizen").with(user(principal)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should return a fresh body and ETag after the citizen's data changes")
+    void testCitizenDashboardChangedAfterWrite() throws Exception {
+        String eTag = mockMvc.perform(get("/api/dashboard/citizen").with(user(principal)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        saveComplaint();
+        // The fixture bypasses the services, which would evict the cached dashboard after commit
+        dashboardCache.invalidateAll();
+
+        String newETag = mockMvc.perform(get("/api/dashboard/citizen").with(user(principal)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.complaintsTotal").value(2))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+    }
+
+    @Test
+    @DisplayName("Should return the new user count on a conditional admin dashboard GET after a registration")
+    void testAdminDashboardChangedAfterRegistration() throws Exception {
+        AuthenticatedUser admin = AuthenticatedUser.from(userRepository.save(User.builder()
+                .fullName("Admin User")
+                .email("admin@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567891")
+                .role(User.UserRole.ADMIN)
+                .enabled(true)
+                .build()));
+        String eTag = mockMvc.perform(get("/api/dashboard/admin").with(user(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalUsers").value(2))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(RegisterRequest.builder()
+                                .fullName("New Citizen")
+                                .email("new.citizen@example.com")
+                                .password("SecurePass123")
+                                .phone("+8801234567892")
+                                .build())))
+                .andExpect(status().isCreated());
+
+        // Registration evicts nothing, so the cached dashboard must not be served with the new ETag
+        String newETag = mockMvc.perform(get("/api/dashboard/admin").with(user(admin)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalUsers").value(3))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+
+        mockMvc.perform(get("/api/dashboard/admin").with(user(admin)).header(HttpHeaders.IF_NONE_MATCH, newETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for an unchanged complaint list")
+    void testMyComplaintsNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/complaints/me").with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        mockMvc.perform(get("/api/complaints/me").with(user(principal)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    private void saveComplaint() {
+        complaintRepository.save(Complaint.builder()
+                .citizen(citizen)
+                .subject("Complaint")
+                .category("ROAD_DAMAGE")
+                .description("Complaint description")
+                .status(Complaint.ComplaintStatus.NEW)
+                .build());
+    }
+}
@@ -0,0 +1,89 @@
+package com.jonoseba.dashboard.service;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.users.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DashboardCache
+ * Tests role/user keying, write-driven invalidation and exported metrics
+ */
+@DisplayName("DashboardCache Tests")
+class DashboardCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DashboardCache dashboardCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dashboardCache = new DashboardCache(meterRegistry, 100, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads for the same user from cache")
+    void testHitForSameUser() {
+        Object first = load(DashboardCache.View.CITIZEN, User.UserRole.CITIZEN, 1L);
+        Object second = load(DashboardCache.View.CITIZEN, User.UserRole.CITIZEN, 1L);
+        load(DashboardCache.View.CITIZEN, User.UserRole.CITIZEN, 2L);
+
+        assertSame(first, second);
+        assertEquals(2, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "dashboard").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should evict only the users touched by a complaint transition")
+    void testComplaintTransitionEvictsAffectedUsers() {
+        load(DashboardCache.View.CITIZEN, User.UserRole.CITIZEN, 1L);
+        load(DashboardCache.View.OFFICER, User.UserRole.OFFICER, 2L);
+        load(DashboardCache.View.OFFICER, User.UserRole.OFFICER, 3L);
+        load(DashboardCache.View.SUMMARY, User.UserRole.ADMIN, 4L);
+        load(DashboardCache.View.SUMMARY, User.UserRole.OFFICER, 3L);
+        assertEquals(5, loads.get());
+
+        dashboardCache.onStatusTransition(new StatusTransitionEvent(
+                StatusTransitionEvent.EntityType.COMPLAINT, 10L, 1L, null, 2L, "NEW", "ASSIGNED", "ROAD_DAMAGE", null, null));
+
+        load(DashboardCache.View.CITIZEN, User.UserRole.CITIZEN, 1L);   // citizen evicted
+        load(DashboardCache.View.OFFICER, User.UserRole.OFFICER, 2L);   // new assignee evicted
+        load(DashboardCache.View.SUMMARY, User.UserRole.ADMIN, 4L);     // admin summaries evicted
+        assertEquals(8, loads.get());
+
+        load(DashboardCache.View.OFFICER, User.UserRole.OFFICER, 3L);   // untouched officer kept
+        load(DashboardCache.View.SUMMARY, User.UserRole.OFFICER, 3L);
+        assertEquals(8, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict officer summaries on application transitions")
+    void testApplicationTransitionEvictsOfficerSummaries() {
+        load(DashboardCache.View.SUMMARY, User.UserRole.OFFICER, 3L);
+        load(DashboardCache.View.OFFICER, User.UserRole.OFFICER, 3L);
+
+        dashboardCache.onStatusTransition(new StatusTransitionEvent(
+                StatusTransitionEvent.EntityType.APPLICATION, 10L, 1L, null, null, "PENDING", "REVIEW", null, 5L, null));
+
+        load(DashboardCache.View.SUMMARY, User.UserRole.OFFICER, 3L);
+        load(DashboardCache.View.OFFICER, User.UserRole.OFFICER, 3L);
+        assertEquals(3, loads.get());
+    }
+
+    private Object load(DashboardCache.View view, User.UserRole role, Long userId) {
+        return dashboardCache.get(view, role, userId, () -> {
+            loads.incrementAndGet();
+            return new Object();
+        });
+    }
+}
@@ -0,0 +1,140 @@
+package com.jonoseba.dashboard.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DashboardQueryRunner
+ * Tests transaction-per-mode, concurrent execution, deadline cancellation and timing metrics
+ */
+@DisplayName("DashboardQueryRunner Tests")
+class DashboardQueryRunnerTest {
+
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private DashboardQueryRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (runner != null) {
+            runner.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Sequential mode should run every query in one transaction")
+    void testSequentialSharesTransaction() {
+        runner = new DashboardQueryRunner(transactionManager, meterRegistry,
+                DashboardQueryRunner.Mode.SEQUENTIAL, Duration.ofSeconds(5));
+
+        DashboardQueryRunner.FanOut queries = runner.fanOut("citizen");
+        Supplier<Integer> first = queries.submit(() -> 1);
+        Supplier<String> second = queries.submit(() -> "two");
+        queries.join();
+
+        assertEquals(1, first.get());
+        assertEquals("two", second.get());
+        verify(transactionManager, times(1)).getTransaction(any());
+        assertEquals(1, meterRegistry.get("dashboard.queries").tag("mode", "sequential").timer().count());
+    }
+
+    @Test
+    @DisplayName("Parallel mode should run queries concurrently, each in its own transaction")
+    void testParallelRunsConcurrently() {
+        runner = new DashboardQueryRunner(transactionManager, meterRegistry,
+                DashboardQueryRunner.Mode.PARALLEL, Duration.ofSeconds(5));
+        // Each query waits for all three to start, so this only completes when they overlap
+        CountDownLatch started = new CountDownLatch(3);
+
+        DashboardQueryRunner.FanOut queries = runner.fanOut("admin");
+        Supplier<Long> first = queries.submit(() -> awaitSiblings(started, 1L));
+        Supplier<Long> second = queries.submit(() -> awaitSiblings(started, 2L));
+        Supplier<Long> third = queries.submit(() -> awaitSiblings(started, 3L));
+        queries.join();
+
+        assertEquals(6L, first.get() + second.get() + third.get());
+        verify(transactionManager, times(3)).getTransaction(any());
+        assertEquals(1, meterRegistry.get("dashboard.queries").tag("view", "admin").tag("mode", "parallel").timer().count());
+    }
+
+    @Test
+    @DisplayName("Parallel mode should cancel outstanding queries at the deadline")
+    void testParallelDeadlineCancelsQueries() throws InterruptedException {
+        runner = new DashboardQueryRunner(transactionManager, meterRegistry,
+                DashboardQueryRunner.Mode.PARALLEL, Duration.ofMillis(200));
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        DashboardQueryRunner.FanOut queries = runner.fanOut("officer");
+        queries.submit(() -> 1);
+        queries.submit(() -> {
+            try {
+                Thread.sleep(Duration.ofSeconds(30));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 2;
+        });
+
+        assertThrows(QueryTimeoutException.class, queries::join);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Parallel mode should surface the first failure and cancel siblings")
+    void testParallelFailureCancelsSiblings() throws InterruptedException {
+        runner = new DashboardQueryRunner(transactionManager, meterRegistry,
+                DashboardQueryRunner.Mode.PARALLEL, Duration.ofSeconds(30));
+        CountDownLatch siblingStarted = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        DashboardQueryRunner.FanOut queries = runner.fanOut("summary");
+        queries.submit(() -> {
+            // Fail only once the sibling is running, so cancelling it has to interrupt it
+            siblingStarted.await(5, TimeUnit.SECONDS);
+            throw new IllegalArgumentException("boom");
+        });
+        queries.submit(() -> {
+            siblingStarted.countDown();
+            try {
+                Thread.sleep(Duration.ofSeconds(30));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 2;
+        });
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, queries::join);
+        assertEquals("boom", error.getMessage());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    private static long awaitSiblings(CountDownLatch started, long value) throws InterruptedException {
+        started.countDown();
+        if (!started.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Queries did not run concurrently");
+        }
+        return value;
+    }
+}
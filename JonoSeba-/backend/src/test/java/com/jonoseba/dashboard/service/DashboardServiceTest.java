@@ -0,0 +1,234 @@
+package com.jonoseba.dashboard.service;
+
+import com.jonoseba.applications.model.Application;
+import com.jonoseba.applications.repository.ApplicationRepository;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.dashboard.dto.AdminDashboardResponse;
+import com.jonoseba.dashboard.dto.CitizenDashboardResponse;
+import com.jonoseba.dashboard.dto.DashboardSummaryResponse;
+import com.jonoseba.dashboard.dto.OfficerDashboardResponse;
+import com.jonoseba.notifications.model.Notification;
+import com.jonoseba.notifications.repository.NotificationRepository;
+import com.jonoseba.services.model.Service;
+import com.jonoseba.services.repository.ServiceRepository;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for DashboardService using @SpringBootTest with H2 database
+ * Tests that grouped status counts match the per-status totals for every dashboard variant
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("DashboardService Tests")
+@Transactional
+class DashboardServiceTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private StatusCounterService statusCounterService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    private User admin;
+    private User officer;
+    private User citizen;
+    private User otherCitizen;
+    private Service service;
+
+    @BeforeEach
+    void setUp() {
+        admin = saveUser("Admin User", "admin@example.com", User.UserRole.ADMIN);
+        officer = saveUser("Officer User", "officer@example.com", User.UserRole.OFFICER);
+        citizen = saveUser("Citizen User", "citizen@example.com", User.UserRole.CITIZEN);
+        otherCitizen = saveUser("Other Citizen", "other@example.com", User.UserRole.CITIZEN);
+
+        service = serviceRepository.save(Service.builder()
+                .name("Birth Certificate")
+                .description("Birth certificate issuance")
+                .active(true)
+                .build());
+
+        saveApplication(citizen, Application.ApplicationStatus.PENDING);
+        saveApplication(citizen, Application.ApplicationStatus.PENDING);
+        saveApplication(citizen, Application.ApplicationStatus.APPROVED);
+        saveApplication(otherCitizen, Application.ApplicationStatus.REVIEW);
+
+        saveComplaint(citizen, null, Complaint.ComplaintStatus.NEW);
+        saveComplaint(citizen, officer, Complaint.ComplaintStatus.ASSIGNED);
+        saveComplaint(citizen, officer, Complaint.ComplaintStatus.RESOLVED);
+        saveComplaint(otherCitizen, officer, Complaint.ComplaintStatus.IN_PROGRESS);
+        saveComplaint(otherCitizen, null, Complaint.ComplaintStatus.REJECTED);
+
+        // Fixtures bypass the services, so rebuild the counters read by admin/officer dashboards
+        statusCounterService.reconcile();
+        dashboardCache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Citizen dashboard should count only the citizen's own records")
+    void testCitizenDashboardCounts() {
+        CitizenDashboardResponse response = dashboardService.getCitizenDashboard(citizen);
+
+        assertEquals(3L, response.getApplicationsTotal());
+        assertEquals(2L, response.getApplicationsPending());
+        assertEquals(3L, response.getComplaintsTotal());
+        assertEquals(2L, response.getComplaintsOpen()); // NEW + ASSIGNED
+    }
+
+    @Test
+    @DisplayName("Citizen dashboard should hydrate only the recent notifications it shows")
+    void testRecentNotificationsHydrationIsBounded() {
+        saveNotifications(citizen, 10);
+        assertEquals(5, notificationsHydratedForCitizenDashboard());
+
+        saveNotifications(citizen, 200);
+        assertEquals(5, notificationsHydratedForCitizenDashboard());
+    }
+
+    @Test
+    @DisplayName("Admin dashboard should report every status, including empty ones")
+    void testAdminDashboardCounts() {
+        AdminDashboardResponse response = dashboardService.getAdminDashboard();
+
+        assertEquals(4L, response.getApplicationsTotal());
+        assertEquals(Application.ApplicationStatus.values().length, response.getApplicationsByStatus().size());
+        assertEquals(2L, response.getApplicationsByStatus().get("PENDING"));
+        assertEquals(0L, response.getApplicationsByStatus().get("REJECTED"));
+
+        assertEquals(5L, response.getComplaintsTotal());
+        assertEquals(Complaint.ComplaintStatus.values().length, response.getComplaintsByStatus().size());
+        assertEquals(1L, response.getComplaintsByStatus().get("IN_PROGRESS"));
+
+        assertEquals(4L, response.getTotalUsers());
+        assertEquals(1L, response.getTotalOfficers());
+        assertEquals(2L, response.getTotalCitizens());
+    }
+
+    @Test
+    @DisplayName("Officer dashboard should break down only assigned complaints")
+    void testOfficerDashboardCounts() {
+        OfficerDashboardResponse response = dashboardService.getOfficerDashboard(officer);
+
+        assertEquals(3L, response.getTotalAssigned());
+        assertEquals(1L, response.getInProgress());
+        assertEquals(1L, response.getResolved());
+        assertEquals(0L, response.getRejected());
+        assertEquals(3, response.getComplaintsAssignedByStatus().size());
+        assertFalse(response.getComplaintsAssignedByStatus().containsKey("REJECTED"));
+        assertEquals(3, response.getRecentAssignedComplaints().size());
+    }
+
+    @Test
+    @DisplayName("Summary should be scoped by role")
+    void testDashboardSummaryByRole() {
+        DashboardSummaryResponse citizenSummary = dashboardService.getDashboardSummary(citizen);
+        assertEquals(3L, citizenSummary.getTotalApplications());
+        assertEquals(2L, citizenSummary.getApplicationsByStatus().getPending());
+        assertEquals(3L, citizenSummary.getTotalComplaints());
+        assertEquals(1L, citizenSummary.getComplaintsByStatus().getNewCount());
+
+        DashboardSummaryResponse officerSummary = dashboardService.getDashboardSummary(officer);
+        assertEquals(4L, officerSummary.getTotalApplications());
+        assertEquals(3L, officerSummary.getTotalComplaints());
+        assertEquals(0L, officerSummary.getComplaintsByStatus().getNewCount());
+        assertEquals(1L, officerSummary.getComplaintsByStatus().getAssigned());
+
+        DashboardSummaryResponse adminSummary = dashboardService.getDashboardSummary(admin);
+        assertEquals(4L, adminSummary.getTotalApplications());
+        assertEquals(1L, adminSummary.getApplicationsByStatus().getInReview());
+        assertEquals(5L, adminSummary.getTotalComplaints());
+        assertEquals(1L, adminSummary.getComplaintsByStatus().getRejected());
+    }
+
+    private long notificationsHydratedForCitizenDashboard() {
+        // Start from an empty persistence context so every returned row is actually loaded
+        entityManager.flush();
+        entityManager.clear();
+        dashboardCache.invalidateAll();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        CitizenDashboardResponse response = dashboardService.getCitizenDashboard(citizen);
+        assertEquals(5, response.getRecentNotifications().size());
+        return statistics.getEntityStatistics(Notification.class.getName()).getLoadCount();
+    }
+
+    private void saveNotifications(User owner, int count) {
+        for (int i = 0; i < count; i++) {
+            notificationRepository.save(Notification.builder()
+                    .user(owner)
+                    .type("INFO")
+                    .message("Notification " + i)
+                    .build());
+        }
+    }
+
+    private User saveUser(String name, String email, User.UserRole role) {
+        return userRepository.save(User.builder()
+                .fullName(name)
+                .email(email)
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567890")
+                .role(role)
+                .enabled(true)
+                .build());
+    }
+
+    private void saveApplication(User owner, Application.ApplicationStatus status) {
+        applicationRepository.save(Application.builder()
+                .citizen(owner)
+                .service(service)
+                .title("Application")
+                .description("Application description")
+                .status(status)
+                .build());
+    }
+
+    private void saveComplaint(User owner, User assignee, Complaint.ComplaintStatus status) {
+        complaintRepository.save(Complaint.builder()
+                .citizen(owner)
+                .assignedTo(assignee)
+                .subject("Complaint")
+                .category("ROAD_DAMAGE")
+                .description("Complaint description")
+                .status(status)
+                .build());
+    }
+}
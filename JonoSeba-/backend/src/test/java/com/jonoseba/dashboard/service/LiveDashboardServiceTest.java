@@ -0,0 +1,111 @@
+package com.jonoseba.dashboard.service;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.common.event.StatusTransitionEvent.EntityType;
+import com.jonoseba.dashboard.dto.DashboardLiveMessage;
+import com.jonoseba.notifications.publisher.NotificationPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LiveDashboardService
+ * Tests per-topic deltas, sequence numbering and snapshot consistency
+ */
+@DisplayName("LiveDashboardService Tests")
+class LiveDashboardServiceTest {
+
+    private StatusCounterService statusCounterService;
+    private NotificationPublisher notificationPublisher;
+    private LiveDashboardService liveDashboardService;
+
+    @BeforeEach
+    void setUp() {
+        statusCounterService = mock(StatusCounterService.class);
+        notificationPublisher = mock(NotificationPublisher.class);
+        when(statusCounterService.globalCounts(EntityType.COMPLAINT)).thenAnswer(i -> new HashMap<>(Map.of("NEW", 2L)));
+        when(statusCounterService.globalCounts(EntityType.APPLICATION)).thenAnswer(i -> new HashMap<>(Map.of("PENDING", 1L)));
+        when(statusCounterService.officerCounts(7L)).thenAnswer(i -> new HashMap<>(Map.of("ASSIGNED", 1L)));
+        liveDashboardService = new LiveDashboardService(statusCounterService, notificationPublisher);
+    }
+
+    @Test
+    @DisplayName("Should not publish for topics nobody has loaded")
+    void testNoPublishBeforeSnapshot() {
+        liveDashboardService.onStatusTransition(complaint(null, 7L, "NEW", "ASSIGNED"));
+
+        verifyNoInteractions(notificationPublisher);
+    }
+
+    @Test
+    @DisplayName("Should publish sequenced deltas consistent with the snapshot")
+    void testDeltasFollowSnapshot() {
+        DashboardLiveMessage snapshot = liveDashboardService.snapshot(LiveDashboardService.ADMIN_TOPIC);
+        assertEquals(0L, snapshot.getSeq());
+        assertEquals(2L, snapshot.getCounts().get("COMPLAINT").get("NEW"));
+
+        liveDashboardService.onStatusTransition(complaint(null, 7L, "NEW", "ASSIGNED"));
+        liveDashboardService.onStatusTransition(complaint(7L, 7L, "ASSIGNED", "IN_PROGRESS"));
+
+        List<DashboardLiveMessage> deltas = published(LiveDashboardService.ADMIN_TOPIC, 2);
+        assertEquals(1L, deltas.get(0).getSeq());
+        assertEquals(Map.of("NEW", -1L, "ASSIGNED", 1L), deltas.get(0).getChanges());
+        assertEquals(2L, deltas.get(1).getSeq());
+
+        DashboardLiveMessage after = liveDashboardService.snapshot(LiveDashboardService.ADMIN_TOPIC);
+        assertEquals(2L, after.getSeq());
+        assertEquals(1L, after.getCounts().get("COMPLAINT").get("NEW"));
+        assertEquals(0L, after.getCounts().get("COMPLAINT").get("ASSIGNED"));
+        assertEquals(1L, after.getCounts().get("COMPLAINT").get("IN_PROGRESS"));
+    }
+
+    @Test
+    @DisplayName("Should send reassignments to both officers and skip the admin topic")
+    void testReassignmentUpdatesBothOfficers() {
+        when(statusCounterService.officerCounts(8L)).thenAnswer(i -> new HashMap<>());
+        liveDashboardService.snapshot(LiveDashboardService.ADMIN_TOPIC);
+        liveDashboardService.snapshot(LiveDashboardService.officerTopic(7L));
+        liveDashboardService.snapshot(LiveDashboardService.officerTopic(8L));
+
+        liveDashboardService.onStatusTransition(complaint(7L, 8L, "ASSIGNED", "ASSIGNED"));
+
+        assertEquals(Map.of("ASSIGNED", -1L), published(LiveDashboardService.officerTopic(7L), 1).get(0).getChanges());
+        assertEquals(Map.of("ASSIGNED", 1L), published(LiveDashboardService.officerTopic(8L), 1).get(0).getChanges());
+        verify(notificationPublisher, never()).publishDashboard(eq(LiveDashboardService.ADMIN_TOPIC), any());
+    }
+
+    @Test
+    @DisplayName("Should publish a fresh snapshot with the next sequence number on reload")
+    void testReloadPublishesSnapshot() {
+        liveDashboardService.snapshot(LiveDashboardService.ADMIN_TOPIC);
+        liveDashboardService.onStatusTransition(complaint(null, null, null, "NEW"));
+
+        liveDashboardService.reload();
+
+        List<DashboardLiveMessage> messages = published(LiveDashboardService.ADMIN_TOPIC, 2);
+        assertEquals(DashboardLiveMessage.SNAPSHOT, messages.get(1).getType());
+        assertEquals(2L, messages.get(1).getSeq());
+        assertEquals(2L, messages.get(1).getCounts().get("COMPLAINT").get("NEW"));
+    }
+
+    private List<DashboardLiveMessage> published(String topic, int times) {
+        ArgumentCaptor<DashboardLiveMessage> captor = ArgumentCaptor.forClass(DashboardLiveMessage.class);
+        verify(notificationPublisher, times(times)).publishDashboard(eq(topic), captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static StatusTransitionEvent complaint(Long previousAssigneeId, Long assigneeId, String from, String to) {
+        return new StatusTransitionEvent(EntityType.COMPLAINT, 1L, 1L, previousAssigneeId, assigneeId,
+                from, to, "ROAD_DAMAGE", null, null);
+    }
+}
@@ -0,0 +1,129 @@
+package com.jonoseba.dashboard.service;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.complaints.dto.ComplaintAssignRequest;
+import com.jonoseba.complaints.dto.ComplaintStatusUpdateRequest;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.complaints.service.ComplaintService;
+import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.security.AuthenticatedUser;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for StatusCounterService using @SpringBootTest with H2 database
+ * Tests incremental maintenance from status transitions and drift reconciliation
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("StatusCounterService Tests")
+@Transactional
+class StatusCounterServiceTest {
+
+    @Autowired
+    private StatusCounterService statusCounterService;
+
+    @Autowired
+    private ComplaintService complaintService;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    private User officer;
+    private User citizen;
+    private AuthenticatedUser admin;
+
+    @BeforeEach
+    void setUp() {
+        officer = userRepository.save(User.builder()
+                .fullName("Officer User")
+                .email("officer@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567891")
+                .role(User.UserRole.OFFICER)
+                .enabled(true)
+                .build());
+
+        citizen = userRepository.save(User.builder()
+                .fullName("Citizen User")
+                .email("citizen@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567892")
+                .role(User.UserRole.CITIZEN)
+                .enabled(true)
+                .build());
+
+        admin = new AuthenticatedUser(0L, "admin@example.com", User.UserRole.ADMIN, true, null);
+    }
+
+    @Test
+    @DisplayName("Should rebuild counters from source tables and report drift once")
+    void testReconcileCorrectsDrift() {
+        saveComplaint(Complaint.ComplaintStatus.NEW);
+        saveComplaint(Complaint.ComplaintStatus.NEW);
+        saveComplaint(Complaint.ComplaintStatus.RESOLVED);
+
+        assertTrue(statusCounterService.reconcile() > 0);
+
+        Map<String, Long> global = statusCounterService.globalCounts(StatusTransitionEvent.EntityType.COMPLAINT);
+        assertEquals(2L, global.get("NEW"));
+        assertEquals(1L, global.get("RESOLVED"));
+
+        // A second pass over unchanged data finds nothing to correct
+        assertEquals(0, statusCounterService.reconcile());
+    }
+
+    @Test
+    @DisplayName("Should move counts between statuses and scopes on assignment and status change")
+    void testTransitionsMaintainCounters() {
+        Complaint complaint = saveComplaint(Complaint.ComplaintStatus.NEW);
+        statusCounterService.reconcile();
+
+        complaintService.assignComplaint(complaint.getId(),
+                ComplaintAssignRequest.builder().assignToOfficerId(officer.getId()).build(), admin);
+
+        Map<String, Long> global = statusCounterService.globalCounts(StatusTransitionEvent.EntityType.COMPLAINT);
+        assertEquals(0L, global.get("NEW"));
+        assertEquals(1L, global.get("ASSIGNED"));
+        assertEquals(1L, statusCounterService.officerCounts(officer.getId()).get("ASSIGNED"));
+
+        complaintService.updateStatus(complaint.getId(),
+                ComplaintStatusUpdateRequest.builder().status(Complaint.ComplaintStatus.RESOLVED).build(), admin);
+
+        Map<String, Long> officerCounts = statusCounterService.officerCounts(officer.getId());
+        assertEquals(0L, officerCounts.get("ASSIGNED"));
+        assertEquals(1L, officerCounts.get("RESOLVED"));
+
+        // Incremental maintenance agrees with a full rebuild
+        assertEquals(0, statusCounterService.reconcile());
+    }
+
+    private Complaint saveComplaint(Complaint.ComplaintStatus status) {
+        return complaintRepository.save(Complaint.builder()
+                .citizen(citizen)
+                .subject("Complaint")
+                .category("ROAD_DAMAGE")
+                .description("Complaint description")
+                .status(status)
+                .build());
+    }
+}
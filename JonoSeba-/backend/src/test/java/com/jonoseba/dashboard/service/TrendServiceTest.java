@@ -0,0 +1,133 @@
+package com.jonoseba.dashboard.service;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.dashboard.dto.TrendResponse;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for TrendService using @SpringBootTest with H2 database
+ * Tests incremental hourly/daily buckets, category filtering, range limits and backfill
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("TrendService Tests")
+@Transactional
+class TrendServiceTest {
+
+    private static final LocalDateTime DAY = LocalDate.of(2024, 5, 1).atStartOfDay();
+
+    @Autowired
+    private TrendService trendService;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("Should count status entries per hour and per day")
+    void testTransitionsFillHourlyAndDailyBuckets() {
+        transition("NEW", "ROAD_DAMAGE", DAY.plusHours(9).plusMinutes(5));
+        transition("NEW", "GARBAGE", DAY.plusHours(9).plusMinutes(50));
+        transition("RESOLVED", "ROAD_DAMAGE", DAY.plusHours(14));
+        transition("NEW", "ROAD_DAMAGE", DAY.plusDays(1).plusHours(1));
+
+        TrendResponse hourly = trendService.getTrend("complaint", "hour", DAY, DAY.plusDays(1), null, null);
+        assertEquals(24, hourly.getPoints().size());
+        assertEquals(2L, hourly.getPoints().get(9).getByStatus().get("NEW"));
+        assertEquals(1L, hourly.getPoints().get(14).getByStatus().get("RESOLVED"));
+        assertEquals(0L, hourly.getPoints().get(10).getTotal());
+        assertEquals(Complaint.ComplaintStatus.values().length, hourly.getPoints().get(0).getByStatus().size());
+
+        TrendResponse daily = trendService.getTrend("COMPLAINT", "DAY", DAY, DAY.plusDays(2), null, null);
+        assertEquals(2, daily.getPoints().size());
+        assertEquals(3L, daily.getPoints().get(0).getTotal());
+        assertEquals(1L, daily.getPoints().get(1).getTotal());
+
+        TrendResponse roadDamage = trendService.getTrend("COMPLAINT", "DAY", DAY, DAY.plusDays(1), "ROAD_DAMAGE", null);
+        assertEquals(1L, roadDamage.getPoints().get(0).getByStatus().get("NEW"));
+        assertEquals(1L, roadDamage.getPoints().get(0).getByStatus().get("RESOLVED"));
+    }
+
+    @Test
+    @DisplayName("Should widen the range to whole buckets")
+    void testRangeIsBucketAligned() {
+        TrendResponse response = trendService.getTrend("APPLICATION", "HOUR",
+                DAY.plusMinutes(30), DAY.plusHours(2).plusMinutes(1), null, null);
+
+        assertEquals(DAY, response.getFrom());
+        assertEquals(DAY.plusHours(3), response.getTo());
+        assertEquals(3, response.getPoints().size());
+    }
+
+    @Test
+    @DisplayName("Should reject ranges spanning too many buckets or bad parameters")
+    void testRangeLimits() {
+        assertThrows(IllegalArgumentException.class,
+                () -> trendService.getTrend("COMPLAINT", "HOUR", DAY, DAY.plusDays(60), null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> trendService.getTrend("COMPLAINT", "DAY", DAY, DAY, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> trendService.getTrend("REPORT", "DAY", DAY, DAY.plusDays(1), null, null));
+    }
+
+    @Test
+    @DisplayName("Should backfill buckets from existing complaints")
+    void testBackfill() {
+        User citizen = userRepository.save(User.builder()
+                .fullName("Citizen User")
+                .email("citizen@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567890")
+                .role(User.UserRole.CITIZEN)
+                .enabled(true)
+                .build());
+        saveComplaint(citizen, Complaint.ComplaintStatus.NEW);
+        saveComplaint(citizen, Complaint.ComplaintStatus.RESOLVED);
+
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        trendService.backfill(today, today.plusDays(1));
+        // A second run over the same range replaces the buckets rather than adding to them
+        trendService.backfill(today, today.plusDays(1));
+
+        TrendResponse daily = trendService.getTrend("COMPLAINT", "DAY", today, today.plusDays(1), null, null);
+        assertEquals(2L, daily.getPoints().get(0).getByStatus().get("NEW"));
+        assertEquals(1L, daily.getPoints().get(0).getByStatus().get("RESOLVED"));
+
+        int hour = LocalTime.now().getHour();
+        TrendResponse hourly = trendService.getTrend("COMPLAINT", "HOUR", today, today.plusDays(1), null, null);
+        assertTrue(hourly.getPoints().get(hour).getTotal() >= 1);
+        assertEquals(3L, hourly.getPoints().stream().mapToLong(TrendResponse.TrendPoint::getTotal).sum());
+    }
+
+    private void transition(String toStatus, String category, LocalDateTime at) {
+        trendService.onStatusTransition(new StatusTransitionEvent(StatusTransitionEvent.EntityType.COMPLAINT,
+                1L, 1L, null, null, null, toStatus, category, null, at));
+    }
+
+    private void saveComplaint(User owner, Complaint.ComplaintStatus status) {
+        complaintRepository.save(Complaint.builder()
+                .citizen(owner)
+                .subject("Complaint")
+                .category("ROAD_DAMAGE")
+                .description("Complaint description")
+                .status(status)
+                .build());
+    }
+}
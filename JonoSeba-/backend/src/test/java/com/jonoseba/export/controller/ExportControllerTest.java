@@ -0,0 +1,95 @@
+package com.jonoseba.export.controller;
+
+import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.security.AuthenticatedUser;
+import com.jonoseba.security.JwtService;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the streaming export endpoints
+ * Tests download headers, the asynchronous body and admin-only access
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Export Controller Tests")
+@Transactional
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    @Test
+    @DisplayName("Should stream a CSV download to admins authenticated by bearer token")
+    void testAdminExport() throws Exception {
+        User admin = userRepository.save(User.builder()
+                .fullName("Admin User")
+                .email("admin@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567890")
+                .role(User.UserRole.ADMIN)
+                .enabled(true)
+                .build());
+        String token = jwtService.generateToken(AuthenticatedUser.from(admin));
+
+        // The token is only read on the initial dispatch, not on the async one that completes the response
+        MvcResult result = mockMvc.perform(get("/api/admin/export/complaints").param("format", "csv")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, startsWith("text/csv")))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"complaints.csv\""))
+                .andExpect(content().string(startsWith("id,category,description,")));
+    }
+
+    @Test
+    @DisplayName("Should reject non-admins and unknown formats before streaming")
+    void testRejectedExports() throws Exception {
+        mockMvc.perform(get("/api/admin/export/applications").with(user(principal(User.UserRole.OFFICER))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/admin/export/applications").param("format", "xml")
+                        .with(user(principal(User.UserRole.ADMIN))))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static AuthenticatedUser principal(User.UserRole role) {
+        return AuthenticatedUser.from(User.builder()
+                .id(1L)
+                .fullName("Test User")
+                .email("test@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .role(role)
+                .enabled(true)
+                .build());
+    }
+}
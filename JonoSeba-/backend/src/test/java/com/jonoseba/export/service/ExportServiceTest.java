@@ -0,0 +1,151 @@
+package com.jonoseba.export.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jonoseba.applications.model.Application;
+import com.jonoseba.applications.repository.ApplicationRepository;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.services.model.Service;
+import com.jonoseba.services.repository.ServiceRepository;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ExportService using @SpringBootTest with H2 database
+ * Tests NDJSON and CSV output, status filters, gzip and CSV escaping
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ExportService Tests")
+@Transactional
+class ExportServiceTest {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    private User citizen;
+
+    @BeforeEach
+    void setUp() {
+        citizen = userRepository.save(User.builder()
+                .fullName("Citizen User")
+                .email("citizen@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567890")
+                .role(User.UserRole.CITIZEN)
+                .enabled(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per complaint line in id order, filtered by status")
+    void testComplaintsAsNdjson() throws IOException {
+        Complaint first = complaint("Pothole on the main road", Complaint.ComplaintStatus.NEW);
+        Complaint second = complaint("No water supply", Complaint.ComplaintStatus.RESOLVED);
+
+        List<String> lines = lines(write(exportService.exportComplaints(ExportFormat.NDJSON, null, false)));
+        assertEquals(2, lines.size());
+        JsonNode row = objectMapper.readTree(lines.get(0));
+        assertEquals(first.getId(), row.get("id").asLong());
+        assertEquals("Citizen User", row.get("citizenName").asText());
+        assertEquals(second.getId(), objectMapper.readTree(lines.get(1)).get("id").asLong());
+
+        List<String> resolved = lines(write(exportService.exportComplaints(ExportFormat.NDJSON, "resolved", false)));
+        assertEquals(1, resolved.size());
+        assertEquals("RESOLVED", objectMapper.readTree(resolved.get(0)).get("status").asText());
+    }
+
+    @Test
+    @DisplayName("Should write applications as gzipped CSV with a header row and escaped fields")
+    void testApplicationsAsGzippedCsv() throws IOException {
+        Service service = serviceRepository.save(Service.builder()
+                .name("Birth Certificate")
+                .description("Birth certificate service")
+                .active(true)
+                .build());
+        applicationRepository.save(Application.builder()
+                .citizen(citizen)
+                .service(service)
+                .status(Application.ApplicationStatus.PENDING)
+                .title("Certificate, urgent")
+                .description("Name is \"Rahim\"\nsecond line")
+                .build());
+
+        byte[] gzipped = write(exportService.exportApplications(ExportFormat.CSV, null, true));
+        String csv = new String(new GZIPInputStream(new ByteArrayInputStream(gzipped)).readAllBytes(),
+                StandardCharsets.UTF_8);
+
+        assertTrue(csv.startsWith("id,serviceId,serviceName,citizenId,citizenName,title,description,status,"));
+        assertTrue(csv.contains(",\"Certificate, urgent\",\"Name is \"\"Rahim\"\"\nsecond line\",PENDING,"));
+        assertTrue(csv.endsWith("\r\n"));
+    }
+
+    @Test
+    @DisplayName("Should neutralize spreadsheet formulas and reject unknown statuses and formats")
+    void testEscapingAndValidation() {
+        assertEquals("'=SUM(A1:A9)", ExportService.csvField("=SUM(A1:A9)"));
+        assertEquals("-5", ExportService.csvField(-5L));
+        assertEquals("", ExportService.csvField(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> exportService.exportComplaints(ExportFormat.CSV, "APPROVED", false));
+        assertThrows(IllegalArgumentException.class, () -> ExportFormat.parse("xml"));
+    }
+
+    private Complaint complaint(String description, Complaint.ComplaintStatus status) {
+        return complaintRepository.save(Complaint.builder()
+                .citizen(citizen)
+                .subject("Complaint")
+                .category("ROAD_DAMAGE")
+                .description(description)
+                .status(status)
+                .build());
+    }
+
+    private static byte[] write(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toByteArray();
+    }
+
+    private static List<String> lines(byte[] ndjson) {
+        return new String(ndjson, StandardCharsets.UTF_8).lines().toList();
+    }
+}
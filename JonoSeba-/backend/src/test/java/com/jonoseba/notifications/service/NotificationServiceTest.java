@@ -0,0 +1,94 @@
+package com.jonoseba.notifications.service;
+
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.notifications.model.Notification;
+import com.jonoseba.notifications.publisher.NotificationPublisher;
+import com.jonoseba.notifications.repository.NotificationRepository;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration tests for NotificationService using @SpringBootTest with H2 database
+ * Tests batched assignment notifications written in the caller's transaction
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("NotificationService Tests")
+@Transactional
+class NotificationServiceTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private NotificationPublisher notificationPublisher;
+
+    @Test
+    @DisplayName("Should write one notification per complaint in a batch and publish only after commit")
+    void testSendComplaintAssignments() {
+        User first = citizen("first@example.com", "+8801234567890");
+        User second = citizen("second@example.com", "+8801234567891");
+        List<Complaint> complaints = List.of(complaint(first, "ROAD_DAMAGE"), complaint(first, "WATER_SUPPLY"),
+                complaint(second, "ROAD_DAMAGE"));
+
+        List<Notification> sent = notificationService.sendComplaintAssignments(complaints);
+
+        assertEquals(3, sent.size());
+        assertTrue(sent.stream().allMatch(notification -> notification.getId() != null));
+        List<Notification> stored = notificationRepository.findByUserId(first.getId());
+        assertEquals(2, stored.size());
+        assertTrue(stored.stream().allMatch(notification -> "COMPLAINT_ASSIGNMENT".equals(notification.getType())
+                && !notification.getReadFlag()));
+        assertEquals("Your complaint 'ROAD_DAMAGE' has been assigned to an officer.",
+                notificationRepository.findByUserId(second.getId()).get(0).getMessage());
+        // The surrounding transaction has not committed yet
+        verify(notificationPublisher, never()).publishToUser(anyLong(), any());
+
+        assertEquals(0, notificationService.sendComplaintAssignments(List.of()).size());
+    }
+
+    private User citizen(String email, String phone) {
+        return userRepository.save(User.builder()
+                .fullName("Citizen User")
+                .email(email)
+                .passwordHash("$2a$10$hashedPassword")
+                .phone(phone)
+                .role(User.UserRole.CITIZEN)
+                .enabled(true)
+                .build());
+    }
+
+    private Complaint complaint(User citizen, String category) {
+        return complaintRepository.save(Complaint.builder()
+                .citizen(citizen)
+                .subject("Complaint")
+                .category(category)
+                .description("Complaint description")
+                .status(Complaint.ComplaintStatus.ASSIGNED)
+                .build());
+    }
+}
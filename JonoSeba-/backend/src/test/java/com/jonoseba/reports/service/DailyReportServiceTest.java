@@ -0,0 +1,165 @@
+package com.jonoseba.reports.service;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.reports.model.Report;
+import com.jonoseba.reports.repository.ReportRepository;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for DailyReportService using @SpringBootTest with H2 database
+ * Tests daily activity and end-of-day snapshots from the status transition log and backfill
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("DailyReportService Tests")
+@Transactional
+class DailyReportServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 1);
+    private static final LocalDateTime MORNING = DAY.atTime(8, 0);
+
+    @Autowired
+    private DailyReportService dailyReportService;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User citizen;
+
+    @BeforeEach
+    void setUp() {
+        citizen = userRepository.save(User.builder()
+                .fullName("Citizen User")
+                .email("citizen@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567890")
+                .role(User.UserRole.CITIZEN)
+                .enabled(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should count the day's created, resolved and rejected complaints and the mean resolution time")
+    void testDailyActivity() {
+        Complaint first = complaint(MORNING, null);
+        Complaint second = complaint(MORNING, null);
+        Complaint third = complaint(MORNING, null);
+        transition(first, null, "NEW", MORNING);
+        transition(second, null, "NEW", MORNING);
+        transition(third, null, "NEW", MORNING);
+        transition(first, "NEW", "RESOLVED", MORNING.plusHours(2));
+        transition(second, "NEW", "RESOLVED", MORNING.plusHours(4));
+        transition(third, "NEW", "REJECTED", MORNING.plusHours(1));
+        // Updates that keep the status, e.g. a new progress note, are not activity
+        transition(first, "RESOLVED", "RESOLVED", MORNING.plusHours(6));
+        // Next day's activity is not part of this day's report
+        transition(complaint(MORNING.plusDays(1), null), null, "NEW", MORNING.plusDays(1));
+
+        Report report = dailyReportService.compute(DAY);
+
+        assertEquals(DAY, report.getReportDate());
+        assertEquals(3L, report.getComplaintsCreated());
+        assertEquals(2L, report.getComplaintsResolved());
+        assertEquals(1L, report.getComplaintsRejected());
+        assertEquals(3 * 3600L, report.getComplaintsAvgResolutionSeconds());
+        assertEquals(0L, report.getApplicationsCreated());
+        assertNull(report.getApplicationsAvgResolutionSeconds());
+    }
+
+    @Test
+    @DisplayName("Should rewind the current status counts to the end of the day")
+    void testEndOfDaySnapshot() {
+        Complaint first = complaint(MORNING, null);
+        Complaint second = complaint(MORNING, null);
+        transition(first, null, "NEW", MORNING);
+        transition(second, null, "NEW", MORNING);
+        transition(first, "NEW", "IN_PROGRESS", MORNING.plusHours(3));
+        transition(first, "IN_PROGRESS", "IN_PROGRESS", MORNING.plusHours(5));
+        // Resolved the next day, so still in progress at the end of this one
+        transition(first, "IN_PROGRESS", "RESOLVED", MORNING.plusDays(1));
+
+        Report report = dailyReportService.compute(DAY);
+        assertEquals(2L, report.getComplaintsTotal());
+        assertEquals(1L, report.getComplaintsByStatus().getStatusNew());
+        assertEquals(1L, report.getComplaintsByStatus().getStatusInProgress());
+        assertEquals(0L, report.getComplaintsByStatus().getStatusResolved());
+
+        assertEquals(0L, dailyReportService.compute(DAY.minusDays(1)).getComplaintsTotal());
+    }
+
+    @Test
+    @DisplayName("Should backfill one report per past day and replace it on rerun")
+    void testBackfill() {
+        transition(complaint(MORNING, null), null, "NEW", MORNING);
+
+        assertEquals(3, dailyReportService.backfill(DAY.minusDays(1), DAY.plusDays(1)));
+        assertEquals(3, dailyReportService.backfill(DAY.minusDays(1), DAY.plusDays(1)));
+
+        assertEquals(1, reportRepository.findByReportDate(DAY).size());
+        assertEquals(1L, reportRepository.findByReportDate(DAY).get(0).getComplaintsCreated());
+        assertEquals(0L, reportRepository.findByReportDate(DAY.plusDays(1)).get(0).getComplaintsCreated());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> dailyReportService.backfill(DAY, DAY.minusDays(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> dailyReportService.backfill(DAY, LocalDate.now()));
+        assertThrows(IllegalArgumentException.class,
+                () -> dailyReportService.backfill(DAY.minusYears(2), DAY));
+    }
+
+    /**
+     * Saves a complaint and moves its timestamps into the past, which entity callbacks would overwrite.
+     */
+    private Complaint complaint(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        Complaint complaint = complaintRepository.save(Complaint.builder()
+                .citizen(citizen)
+                .subject("Complaint")
+                .category("ROAD_DAMAGE")
+                .description("Complaint description")
+                .status(Complaint.ComplaintStatus.NEW)
+                .build());
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE complaints SET created_at = ?, updated_at = ? WHERE id = ?",
+                createdAt, updatedAt != null ? updatedAt : createdAt, complaint.getId());
+        entityManager.clear();
+        return complaint;
+    }
+
+    private void transition(Complaint complaint, String fromStatus, String toStatus, LocalDateTime at) {
+        eventPublisher.publishEvent(new StatusTransitionEvent(StatusTransitionEvent.EntityType.COMPLAINT,
+                complaint.getId(), citizen.getId(), null, null, fromStatus, toStatus, "ROAD_DAMAGE", null, at));
+    }
+}
@@ -0,0 +1,124 @@
+package com.jonoseba.reports.service;
+
+import com.jonoseba.reports.dto.ReportResponse;
+import com.jonoseba.reports.model.ApplicationStatusCounts;
+import com.jonoseba.reports.model.ComplaintStatusCounts;
+import com.jonoseba.reports.model.Report;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ReportService using @SpringBootTest with H2 database
+ * Tests date-range queries over daily reports and their weekly and monthly rollups
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ReportService Tests")
+@Transactional
+class ReportServiceTest {
+
+    // Tuesday 30 April, Wednesday 1 May (same ISO week, different months) and Monday 6 May
+    private static final LocalDate APRIL_30 = LocalDate.of(2024, 4, 30);
+    private static final LocalDate MAY_1 = LocalDate.of(2024, 5, 1);
+    private static final LocalDate MAY_6 = LocalDate.of(2024, 5, 6);
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private DailyReportService dailyReportService;
+
+    @Test
+    @DisplayName("Should serve daily reports in a date range with typed status breakdowns")
+    void testDailyRange() {
+        dailyReportService.store(report(APRIL_30, 4, 1, null, 10));
+        dailyReportService.store(report(MAY_1, 2, 1, 100L, 11));
+        dailyReportService.store(report(MAY_6, 5, 3, 200L, 12));
+
+        List<ReportResponse> reports = reportService.getReports("day", MAY_1, MAY_6);
+
+        assertEquals(2, reports.size());
+        assertEquals(MAY_1, reports.get(0).getPeriodStart());
+        assertEquals(2L, reports.get(0).getComplaints().getCreated());
+        assertEquals(11L, reports.get(0).getComplaints().getByStatus().get("NEW"));
+        assertEquals(Map.of("PENDING", 0L, "REVIEW", 0L, "IN_PROGRESS", 0L, "APPROVED", 0L, "REJECTED", 0L),
+                reports.get(0).getApplications().getByStatus());
+    }
+
+    @Test
+    @DisplayName("Should roll daily reports up by ISO week and calendar month")
+    void testWeeklyAndMonthlyRollups() {
+        dailyReportService.store(report(APRIL_30, 4, 1, null, 10));
+        dailyReportService.store(report(MAY_1, 2, 1, 100L, 11));
+        dailyReportService.store(report(MAY_6, 5, 3, 200L, 12));
+
+        List<ReportResponse> weeks = reportService.getReports("WEEK", APRIL_30, MAY_6);
+        assertEquals(2, weeks.size());
+        assertEquals(LocalDate.of(2024, 4, 29), weeks.get(0).getPeriodStart());
+        assertEquals(LocalDate.of(2024, 5, 5), weeks.get(0).getPeriodEnd());
+        assertEquals(2, weeks.get(0).getDaysReported());
+        assertEquals(6L, weeks.get(0).getComplaints().getCreated());
+        // Snapshot at the end of the last reported day of the week
+        assertEquals(11L, weeks.get(0).getComplaints().getByStatus().get("NEW"));
+
+        List<ReportResponse> months = reportService.getReports("MONTH", APRIL_30, MAY_6);
+        assertEquals(2, months.size());
+        ReportResponse may = months.get(1);
+        assertEquals(LocalDate.of(2024, 5, 31), may.getPeriodEnd());
+        assertEquals(7L, may.getComplaints().getCreated());
+        assertEquals(4L, may.getComplaints().getResolved());
+        // Weighted by resolutions: (1 * 100 + 3 * 200) / 4
+        assertEquals(175L, may.getComplaints().getAvgResolutionSeconds());
+        assertNull(months.get(0).getComplaints().getAvgResolutionSeconds());
+    }
+
+    @Test
+    @DisplayName("Should refresh rollups when a daily report is replaced")
+    void testRollupFollowsReplacedReport() {
+        dailyReportService.store(report(MAY_1, 2, 0, null, 11));
+        dailyReportService.store(report(MAY_1, 9, 0, null, 11));
+
+        List<ReportResponse> months = reportService.getReports("MONTH", MAY_1, MAY_1);
+        assertEquals(1, months.size());
+        assertEquals(1, months.get(0).getDaysReported());
+        assertEquals(9L, months.get(0).getComplaints().getCreated());
+    }
+
+    @Test
+    @DisplayName("Should reject bad granularities and ranges")
+    void testRangeLimits() {
+        assertThrows(IllegalArgumentException.class, () -> reportService.getReports("YEAR", MAY_1, MAY_6));
+        assertThrows(IllegalArgumentException.class, () -> reportService.getReports("DAY", MAY_6, MAY_1));
+        assertThrows(IllegalArgumentException.class,
+                () -> reportService.getReports("DAY", MAY_1.minusYears(4), MAY_1));
+        assertEquals(0, reportService.getReports("MONTH", MAY_1.minusYears(4), MAY_1).size());
+    }
+
+    private static Report report(LocalDate day, long complaintsCreated, long complaintsResolved,
+                                 Long avgResolutionSeconds, long complaintsNew) {
+        return Report.builder()
+                .reportDate(day)
+                .applicationsTotal(0L)
+                .complaintsTotal(complaintsNew)
+                .applicationsByStatus(ApplicationStatusCounts.of(Map.of()))
+                .complaintsByStatus(ComplaintStatusCounts.of(Map.of("NEW", complaintsNew)))
+                .applicationsCreated(0L)
+                .applicationsApproved(0L)
+                .applicationsRejected(0L)
+                .complaintsCreated(complaintsCreated)
+                .complaintsResolved(complaintsResolved)
+                .complaintsRejected(0L)
+                .complaintsAvgResolutionSeconds(avgResolutionSeconds)
+                .build();
+    }
+}
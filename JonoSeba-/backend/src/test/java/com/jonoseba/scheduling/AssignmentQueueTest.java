@@ -0,0 +1,84 @@
+package com.jonoseba.scheduling;
+
+import com.jonoseba.applications.model.Application;
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.complaints.model.Complaint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AssignmentQueue
+ * Tests which events are queued, micro-batching and recovery from failed batches
+ */
+@DisplayName("AssignmentQueue Tests")
+class AssignmentQueueTest {
+
+    private final ComplaintAssignmentService assignmentService = mock(ComplaintAssignmentService.class);
+    private AssignmentQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        queue.stop();
+    }
+
+    @Test
+    @DisplayName("Should assign queued complaints in batches of at most batch-size")
+    void testDrainsInMicroBatches() {
+        queue = new AssignmentQueue(assignmentService, 100, 3, Duration.ofMillis(200));
+        for (long id = 1; id <= 5; id++) {
+            queue.onStatusTransition(created(id));
+        }
+
+        queue.start();
+
+        verify(assignmentService, timeout(2000)).assign(List.of(1L, 2L, 3L));
+        verify(assignmentService, timeout(2000)).assign(List.of(4L, 5L));
+        verifyNoMoreInteractions(assignmentService);
+    }
+
+    @Test
+    @DisplayName("Should only queue newly created unassigned complaints")
+    void testIgnoresOtherEvents() {
+        queue = new AssignmentQueue(assignmentService, 100, 10, Duration.ofMillis(50));
+        queue.onStatusTransition(StatusTransitionEvent.of(StatusTransitionEvent.EntityType.COMPLAINT, 1L, 9L,
+                null, null, Complaint.ComplaintStatus.NEW, Complaint.ComplaintStatus.REJECTED, "Roads", null));
+        queue.onStatusTransition(StatusTransitionEvent.of(StatusTransitionEvent.EntityType.COMPLAINT, 2L, 9L,
+                null, 5L, null, Complaint.ComplaintStatus.ASSIGNED, "Roads", null));
+        queue.onStatusTransition(StatusTransitionEvent.of(StatusTransitionEvent.EntityType.APPLICATION, 3L, 9L,
+                null, null, null, Application.ApplicationStatus.PENDING, null, 1L));
+        queue.onStatusTransition(created(4L));
+
+        queue.start();
+
+        verify(assignmentService, timeout(2000)).assign(List.of(4L));
+        verifyNoMoreInteractions(assignmentService);
+    }
+
+    @Test
+    @DisplayName("Should keep draining after a batch fails")
+    void testSurvivesFailedBatch() {
+        when(assignmentService.assign(anyCollection()))
+                .thenThrow(new IllegalStateException("lock timeout"))
+                .thenReturn(1);
+        queue = new AssignmentQueue(assignmentService, 100, 10, Duration.ofMillis(10));
+        queue.start();
+
+        queue.onStatusTransition(created(1L));
+        verify(assignmentService, timeout(2000)).assign(List.of(1L));
+
+        queue.onStatusTransition(created(2L));
+        verify(assignmentService, timeout(2000)).assign(List.of(2L));
+    }
+
+    private static StatusTransitionEvent created(long complaintId) {
+        return StatusTransitionEvent.of(StatusTransitionEvent.EntityType.COMPLAINT, complaintId, 9L,
+                null, null, null, Complaint.ComplaintStatus.NEW, "Roads", null);
+    }
+}
@@ -0,0 +1,184 @@
+package com.jonoseba.scheduling;
+
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.scheduling.dto.OfficerProfileRequest;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration tests for ComplaintAssignmentService using @SpringBootTest with H2 database
+ * Tests assignment of queued complaint ids, the chunked, bounded sweep and skill-based officer matching
+ */
+@SpringBootTest(properties = {"assignment.sweep.chunk-size=2", "assignment.sweep.max-per-run=5"})
+@ActiveProfiles("test")
+@DisplayName("ComplaintAssignmentService Tests")
+@Transactional
+class ComplaintAssignmentServiceTest {
+
+    @Autowired
+    private ComplaintAssignmentService complaintAssignmentService;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OfficerIndex officerIndex;
+
+    @Autowired
+    private OfficerProfileService officerProfileService;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    private User officer;
+    private User citizen;
+
+    @BeforeEach
+    void setUp() {
+        officer = userRepository.save(User.builder()
+                .fullName("Officer User")
+                .email("officer@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567891")
+                .role(User.UserRole.OFFICER)
+                .enabled(true)
+                .build());
+
+        citizen = userRepository.save(User.builder()
+                .fullName("Citizen User")
+                .email("citizen@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567892")
+                .role(User.UserRole.CITIZEN)
+                .enabled(true)
+                .build());
+
+        officerIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should assign only the given complaints that are still NEW and unassigned")
+    void testAssignsGivenIdsOnly() {
+        Complaint queued = complaint(Complaint.ComplaintStatus.NEW);
+        Complaint alreadyAssigned = complaint(Complaint.ComplaintStatus.ASSIGNED);
+        alreadyAssigned.setAssignedTo(officer);
+        Complaint notQueued = complaint(Complaint.ComplaintStatus.NEW);
+
+        int assigned = complaintAssignmentService.assign(List.of(queued.getId(), alreadyAssigned.getId()));
+
+        assertEquals(1, assigned);
+        assertEquals(officer.getId(), complaintRepository.findById(queued.getId()).orElseThrow().getAssignedTo().getId());
+        assertEquals(Complaint.ComplaintStatus.ASSIGNED, complaintRepository.findById(queued.getId()).orElseThrow().getStatus());
+        assertNull(complaintRepository.findById(notQueued.getId()).orElseThrow().getAssignedTo());
+        assertEquals(1, notifiedComplaints());
+    }
+
+    @Test
+    @DisplayName("Should sweep every NEW unassigned complaint and be idempotent")
+    void testAssignAllUnassigned() {
+        complaint(Complaint.ComplaintStatus.NEW);
+        complaint(Complaint.ComplaintStatus.NEW);
+        complaint(Complaint.ComplaintStatus.REJECTED);
+
+        assertEquals(2, complaintAssignmentService.assignAllUnassigned());
+        assertEquals(0, complaintAssignmentService.assignAllUnassigned());
+        assertEquals(2, complaintRepository.countByAssignedTo(officer));
+    }
+
+    @Test
+    @DisplayName("Should sweep the backlog in chunks and stop at the per-run limit")
+    void testSweepIsBoundedPerRun() {
+        for (int i = 0; i < 7; i++) {
+            complaint(Complaint.ComplaintStatus.NEW);
+        }
+
+        assertEquals(5, complaintAssignmentService.assignAllUnassigned());
+        assertEquals(2, complaintAssignmentService.assignAllUnassigned());
+        assertEquals(0, complaintAssignmentService.assignAllUnassigned());
+        assertEquals(7, complaintRepository.countByAssignedTo(officer));
+        assertEquals(7, notifiedComplaints());
+    }
+
+    @Test
+    @DisplayName("Should assign by category and jurisdiction and leave unmatched complaints NEW")
+    void testAssignsBySkillAndJurisdiction() {
+        User waterOfficer = userRepository.save(User.builder()
+                .fullName("Water Officer")
+                .email("water.officer@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567893")
+                .role(User.UserRole.OFFICER)
+                .enabled(true)
+                .build());
+        officerProfileService.updateProfile(officer.getId(), OfficerProfileRequest.builder()
+                .categories(Set.of("ROAD_DAMAGE"))
+                .jurisdiction("Mirpur")
+                .build());
+        officerProfileService.updateProfile(waterOfficer.getId(), OfficerProfileRequest.builder()
+                .categories(Set.of("WATER_SUPPLY"))
+                .build());
+
+        Complaint road = complaint("ROAD_DAMAGE", "Road 3, Mirpur 10, Dhaka");
+        Complaint water = complaint("WATER_SUPPLY", "Uttara, Dhaka");
+        Complaint roadElsewhere = complaint("ROAD_DAMAGE", "Uttara, Dhaka");
+
+        assertEquals(2, complaintAssignmentService.assignAllUnassigned());
+        assertEquals(officer.getId(), complaintRepository.findById(road.getId()).orElseThrow().getAssignedTo().getId());
+        assertEquals(waterOfficer.getId(), complaintRepository.findById(water.getId()).orElseThrow().getAssignedTo().getId());
+        assertEquals(Complaint.ComplaintStatus.NEW, complaintRepository.findById(roadElsewhere.getId()).orElseThrow().getStatus());
+    }
+
+    private Complaint complaint(Complaint.ComplaintStatus status) {
+        return complaintRepository.save(Complaint.builder()
+                .citizen(citizen)
+                .subject("Complaint")
+                .category("ROAD_DAMAGE")
+                .description("Complaint description")
+                .status(status)
+                .build());
+    }
+
+    private Complaint complaint(String category, String locationText) {
+        return complaintRepository.save(Complaint.builder()
+                .citizen(citizen)
+                .subject("Complaint")
+                .category(category)
+                .locationText(locationText)
+                .description("Complaint description")
+                .status(Complaint.ComplaintStatus.NEW)
+                .build());
+    }
+
+    /**
+     * Total number of complaints passed to the batched assignment notifications so far.
+     */
+    @SuppressWarnings("unchecked")
+    private int notifiedComplaints() {
+        ArgumentCaptor<Collection<Complaint>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(notificationService, atLeast(0)).sendComplaintAssignments(captor.capture());
+        verify(notificationService, never()).sendComplaintAssignment(any(Complaint.class));
+        return captor.getAllValues().stream().mapToInt(Collection::size).sum();
+    }
+}
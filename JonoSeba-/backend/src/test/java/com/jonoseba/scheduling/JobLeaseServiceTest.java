@@ -0,0 +1,214 @@
+package com.jonoseba.scheduling;
+
+import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.scheduling.repository.JobLeaseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for JobLeaseService and LeasedJobRunner using @SpringBootTest with H2 database
+ * Tests several nodes sharing one database: mutual exclusion, renewal, takeover and fencing
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JobLeaseService Multi-Node Tests")
+class JobLeaseServiceTest {
+
+    private static final String JOB = "test-job";
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+    @AfterEach
+    void tearDown() {
+        jobLeaseRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should let only one node hold the lease")
+    void testOnlyOneNodeHoldsLease() {
+        JobLeaseService nodeA = node("node-a", Duration.ofMinutes(1));
+        JobLeaseService nodeB = node("node-b", Duration.ofMinutes(1));
+
+        Optional<JobLeaseService.Lease> lease = nodeA.tryAcquire(JOB);
+
+        assertTrue(lease.isPresent());
+        assertEquals(1L, lease.get().token());
+        assertTrue(nodeB.tryAcquire(JOB).isEmpty());
+        // The holder itself may start the job again, e.g. for the next run of a short job
+        assertEquals(2L, nodeA.tryAcquire(JOB).orElseThrow().token());
+    }
+
+    @Test
+    @DisplayName("Should keep the lease while the holder renews it")
+    void testRenewalKeepsLease() {
+        JobLeaseService nodeA = node("node-a", Duration.ofMinutes(1));
+        JobLeaseService nodeB = node("node-b", Duration.ofMinutes(1));
+        JobLeaseService.Lease lease = nodeA.tryAcquire(JOB).orElseThrow();
+
+        clock.advance(Duration.ofSeconds(40));
+        assertTrue(nodeA.renew(lease));
+        clock.advance(Duration.ofSeconds(40));
+
+        assertTrue(nodeB.tryAcquire(JOB).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should hand the lease to another node once the holder crashed, and fence the old holder")
+    void testTakeoverAfterHolderCrash() {
+        JobLeaseService nodeA = node("node-a", Duration.ofMinutes(1));
+        JobLeaseService nodeB = node("node-b", Duration.ofMinutes(1));
+        JobLeaseService.Lease stale = nodeA.tryAcquire(JOB).orElseThrow();
+
+        // Node A stops renewing (crash or long pause); its lease lapses after one TTL
+        clock.advance(Duration.ofSeconds(61));
+        JobLeaseService.Lease current = nodeB.tryAcquire(JOB).orElseThrow();
+
+        assertTrue(current.token() > stale.token());
+        assertFalse(nodeA.renew(stale));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        assertThrows(LeaseLostException.class, () -> transaction.executeWithoutResult(status -> nodeA.fence(stale)));
+        transaction.executeWithoutResult(status -> nodeB.fence(current));
+    }
+
+    @Test
+    @DisplayName("Should grant the lease to exactly one of many racing nodes")
+    void testConcurrentAcquisition() throws Exception {
+        int nodes = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(nodes);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Optional<JobLeaseService.Lease>>> results = new ArrayList<>();
+            for (int i = 0; i < nodes; i++) {
+                JobLeaseService node = node("node-" + i, Duration.ofMinutes(1));
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return node.tryAcquire(JOB);
+                }));
+            }
+            start.countDown();
+
+            int winners = 0;
+            for (Future<Optional<JobLeaseService.Lease>> result : results) {
+                if (result.get(10, TimeUnit.SECONDS).isPresent()) {
+                    winners++;
+                }
+            }
+            assertEquals(1, winners);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run the job only on the lease holder and renew the lease while it runs")
+    void testRunnerRunsOnHolderOnly() throws Exception {
+        SimpleMeterRegistry registryA = new SimpleMeterRegistry();
+        SimpleMeterRegistry registryB = new SimpleMeterRegistry();
+        LeasedJobRunner runnerA = new LeasedJobRunner(node("node-a", Duration.ofMillis(300)), registryA);
+        LeasedJobRunner runnerB = new LeasedJobRunner(node("node-b", Duration.ofMillis(300)), registryB);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch running = new CountDownLatch(1);
+            CountDownLatch finish = new CountDownLatch(1);
+            Future<Boolean> ranOnA = executor.submit(() -> runnerA.runIfLeaseHolder(JOB, () -> {
+                running.countDown();
+                awaitQuietly(finish);
+            }));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            // The clock is frozen, so only renewals keep node A's lease alive; wait for one
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (renewals(registryA, "renewed") == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertTrue(renewals(registryA, "renewed") > 0);
+            assertFalse(runnerB.runIfLeaseHolder(JOB, () -> fail("Job must not run on node B")));
+
+            finish.countDown();
+            assertTrue(ranOnA.get(5, TimeUnit.SECONDS));
+            assertEquals(1.0, registryA.get("jobs.lease.acquisitions").tag("result", "acquired").counter().count());
+            assertEquals(1.0, registryB.get("jobs.lease.acquisitions").tag("result", "held-elsewhere").counter().count());
+        } finally {
+            executor.shutdownNow();
+            runnerA.shutdown();
+            runnerB.shutdown();
+        }
+    }
+
+    private JobLeaseService node(String holderId, Duration ttl) {
+        return new JobLeaseService(jobLeaseRepository, transactionManager, clock, holderId, ttl);
+    }
+
+    private static double renewals(SimpleMeterRegistry registry, String result) {
+        var counter = registry.find("jobs.lease.renewals").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Clock shared by all simulated nodes; only moves when a test advances it.
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.jonoseba.scheduling;
+
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.complaints.model.Complaint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OfficerIndex
+ * Tests least-loaded selection, category/jurisdiction matching, capacity caps and incremental updates
+ */
+@DisplayName("OfficerIndex Tests")
+class OfficerIndexTest {
+
+    private final OfficerIndex index = new OfficerIndex(null, null, null);
+
+    @Test
+    @DisplayName("Should pick the least loaded officer and break ties by id")
+    void testPicksLeastLoadedThenLowestId() {
+        index.load(List.of(generalist(3L, 0), generalist(1L, 2), generalist(2L, 0)));
+
+        // 2 and 3 tie at zero until both catch up with officer 1
+        assertEquals(List.of(2L, 3L, 2L, 3L, 1L, 2L, 3L), picks("ROAD_DAMAGE", null, 7));
+    }
+
+    @Test
+    @DisplayName("Should keep open counts balanced across many picks")
+    void testBalancesAcrossPicks() {
+        index.load(List.of(generalist(1L, 10), generalist(2L, 0), generalist(3L, 0), generalist(4L, 0)));
+
+        // The others catch up to 10 first, then everyone reaches 11
+        List<Long> picks = picks("ROAD_DAMAGE", null, 34);
+
+        assertEquals(1, picks.stream().filter(id -> id == 1L).count());
+        assertEquals(11, picks.stream().filter(id -> id == 2L).count());
+        assertEquals(11, picks.stream().filter(id -> id == 4L).count());
+    }
+
+    @Test
+    @DisplayName("Should return null when there are no officers")
+    void testNoOfficers() {
+        index.load(List.of());
+
+        assertNull(index.leastLoaded());
+        assertNull(index.leastLoaded("ROAD_DAMAGE", "Mirpur, Dhaka"));
+    }
+
+    @Test
+    @DisplayName("Should only pick officers handling the category in the complaint's jurisdiction")
+    void testMatchesCategoryAndJurisdiction() {
+        index.load(List.of(
+                new OfficerIndex.OfficerSnapshot(1L, Set.of("Road_Damage"), "Mirpur", null, 5),
+                new OfficerIndex.OfficerSnapshot(2L, Set.of("WATER_SUPPLY"), "Mirpur", null, 0),
+                new OfficerIndex.OfficerSnapshot(3L, Set.of("ROAD_DAMAGE"), "Old Dhaka", null, 0),
+                new OfficerIndex.OfficerSnapshot(4L, Set.of(), null, null, 9)));
+
+        assertEquals(1L, index.leastLoaded("road_damage", "House 12, Road 3, Mirpur 10, Dhaka"));
+        assertEquals(3L, index.leastLoaded("ROAD_DAMAGE", "Old Dhaka, Dhaka"));
+        assertEquals(2L, index.leastLoaded("WATER_SUPPLY", "mirpur"));
+        // No officer covers this location, so only the generalist is eligible
+        assertEquals(4L, index.leastLoaded("ROAD_DAMAGE", "Uttara"));
+        assertEquals(4L, index.leastLoaded("GARBAGE", "Mirpur"));
+    }
+
+    @Test
+    @DisplayName("Should skip officers at capacity until a complaint of theirs is closed")
+    void testCapacityCap() {
+        index.load(List.of(
+                new OfficerIndex.OfficerSnapshot(1L, Set.of(), null, 2, 1),
+                new OfficerIndex.OfficerSnapshot(2L, Set.of(), null, 1, 1)));
+
+        assertEquals(List.of(1L), picks("ROAD_DAMAGE", null, 1));
+        assertNull(index.leastLoaded("ROAD_DAMAGE", null));
+
+        index.onStatusTransition(StatusTransitionEvent.of(StatusTransitionEvent.EntityType.COMPLAINT, 99L, 9L,
+                2L, 2L, Complaint.ComplaintStatus.IN_PROGRESS, Complaint.ComplaintStatus.RESOLVED, "ROAD_DAMAGE", null));
+
+        assertEquals(2L, index.leastLoaded("ROAD_DAMAGE", null));
+        assertEquals(0L, index.openCounts().get(2L));
+    }
+
+    @Test
+    @DisplayName("Should revert open counts when the assigning transaction rolls back")
+    void testRollbackRevertsCounts() {
+        index.load(List.of(generalist(1L, 0), generalist(2L, 0)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            picks("ROAD_DAMAGE", null, 1);
+            assertEquals(1L, index.openCounts().get(1L));
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0L, index.openCounts().get(1L));
+        assertEquals(1L, index.leastLoaded());
+    }
+
+    private List<Long> picks(String category, String location, int count) {
+        List<Long> picks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Long officerId = index.leastLoaded(category, location);
+            index.onStatusTransition(StatusTransitionEvent.of(StatusTransitionEvent.EntityType.COMPLAINT, (long) i, 9L,
+                    null, officerId, Complaint.ComplaintStatus.NEW, Complaint.ComplaintStatus.ASSIGNED, category, null));
+            picks.add(officerId);
+        }
+        return picks;
+    }
+
+    private static OfficerIndex.OfficerSnapshot generalist(Long id, long open) {
+        return new OfficerIndex.OfficerSnapshot(id, Set.of(), null, null, open);
+    }
+}
@@ -8,6 +8,7 @@ import com.jonoseba.reports.repository.ReportRepository;
 import com.jonoseba.users.model.User;
 import com.jonoseba.users.repository.UserRepository;
 import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -15,6 +16,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -99,6 +101,7 @@ class ScheduledJobsTest {
         Complaint unassigned = complaintRepository.save(Complaint.builder()
                 .citizen(citizen)
                 .subject("Test Complaint")
+                .category("ROAD_DAMAGE")
                 .description("Test Description")
                 .status(Complaint.ComplaintStatus.NEW)
                 .createdAt(LocalDateTime.now())
@@ -111,7 +114,7 @@ class ScheduledJobsTest {
         Complaint assigned = complaintRepository.findById(unassigned.getId()).orElseThrow();
         assertNotNull(assigned.getAssignedTo());
         assertEquals(Complaint.ComplaintStatus.ASSIGNED, assigned.getStatus());
-        verify(notificationService, times(1)).sendComplaintAssignment(any(Complaint.class));
+        assertEquals(1, notifiedComplaints());
     }
 
     @Test
@@ -122,6 +125,7 @@ class ScheduledJobsTest {
             complaintRepository.save(Complaint.builder()
                     .citizen(citizen)
                     .subject("Complaint " + i)
+                    .category("ROAD_DAMAGE")
                     .description("Description " + i)
                     .status(Complaint.ComplaintStatus.NEW)
                     .createdAt(LocalDateTime.now().minusMinutes(i))
@@ -147,7 +151,7 @@ class ScheduledJobsTest {
         assertEquals(2, officer2Count);
         assertEquals(2, officer3Count);
 
-        verify(notificationService, times(6)).sendComplaintAssignment(any(Complaint.class));
+        assertEquals(6, notifiedComplaints());
     }
 
     @Test
@@ -167,12 +171,13 @@ class ScheduledJobsTest {
         complaintRepository.save(Complaint.builder()
                 .citizen(citizen)
                 .subject("Complaint")
+                .category("ROAD_DAMAGE")
                 .description("Description")
                 .status(Complaint.ComplaintStatus.NEW)
                 .createdAt(LocalDateTime.now())
                 .build());
 
-        userRepository.deleteAll();
+        userRepository.deleteAll(List.of(officer1, officer2, officer3));
 
         // Act
         scheduledJobs.autoAssignComplaints();
@@ -190,6 +195,7 @@ class ScheduledJobsTest {
         complaintRepository.save(Complaint.builder()
                 .citizen(citizen)
                 .subject("New Complaint")
+                .category("ROAD_DAMAGE")
                 .description("Should be assigned")
                 .status(Complaint.ComplaintStatus.NEW)
                 .createdAt(LocalDateTime.now())
@@ -198,6 +204,7 @@ class ScheduledJobsTest {
         complaintRepository.save(Complaint.builder()
                 .citizen(citizen)
                 .subject("Assigned Complaint")
+                .category("ROAD_DAMAGE")
                 .description("Should not be reassigned")
                 .status(Complaint.ComplaintStatus.ASSIGNED)
                 .assignedTo(officer1)
@@ -207,6 +214,7 @@ class ScheduledJobsTest {
         complaintRepository.save(Complaint.builder()
                 .citizen(citizen)
                 .subject("In Progress Complaint")
+                .category("ROAD_DAMAGE")
                 .description("Should not be reassigned")
                 .status(Complaint.ComplaintStatus.IN_PROGRESS)
                 .assignedTo(officer2)
@@ -224,7 +232,7 @@ class ScheduledJobsTest {
         assertEquals(1, complaintRepository.findByAssignedTo(officer2).size());
         assertEquals(1, complaintRepository.findByAssignedTo(officer3).size()); // The only new one
 
-        verify(notificationService, times(1)).sendComplaintAssignment(any(Complaint.class));
+        assertEquals(1, notifiedComplaints());
     }
 
     @Test
@@ -235,6 +243,7 @@ class ScheduledJobsTest {
             complaintRepository.save(Complaint.builder()
                     .citizen(citizen)
                     .subject("Assigned to Officer 1 - " + i)
+                    .category("ROAD_DAMAGE")
                     .description("Description")
                     .status(Complaint.ComplaintStatus.ASSIGNED)
                     .assignedTo(officer1)
@@ -246,6 +255,7 @@ class ScheduledJobsTest {
         complaintRepository.save(Complaint.builder()
                 .citizen(citizen)
                 .subject("Assigned to Officer 2")
+                .category("ROAD_DAMAGE")
                 .description("Description")
                 .status(Complaint.ComplaintStatus.IN_PROGRESS)
                 .assignedTo(officer2)
@@ -258,6 +268,7 @@ class ScheduledJobsTest {
         Complaint newComplaint = complaintRepository.save(Complaint.builder()
                 .citizen(citizen)
                 .subject("New Complaint")
+                .category("ROAD_DAMAGE")
                 .description("Should go to officer3 (least load)")
                 .status(Complaint.ComplaintStatus.NEW)
                 .createdAt(LocalDateTime.now())
@@ -278,6 +289,7 @@ class ScheduledJobsTest {
         Complaint oldComplaint = complaintRepository.save(Complaint.builder()
                 .citizen(citizen)
                 .subject("Old Complaint")
+                .category("ROAD_DAMAGE")
                 .description("Description")
                 .status(Complaint.ComplaintStatus.NEW)
                 .createdAt(LocalDateTime.now().minusMinutes(10))
@@ -286,6 +298,7 @@ class ScheduledJobsTest {
         Complaint middleComplaint = complaintRepository.save(Complaint.builder()
                 .citizen(citizen)
                 .subject("Middle Complaint")
+                .category("ROAD_DAMAGE")
                 .description("Description")
                 .status(Complaint.ComplaintStatus.NEW)
                 .createdAt(LocalDateTime.now().minusMinutes(5))
@@ -294,6 +307,7 @@ class ScheduledJobsTest {
         Complaint newComplaint = complaintRepository.save(Complaint.builder()
                 .citizen(citizen)
                 .subject("New Complaint")
+                .category("ROAD_DAMAGE")
                 .description("Description")
                 .status(Complaint.ComplaintStatus.NEW)
                 .createdAt(LocalDateTime.now())
@@ -319,6 +333,7 @@ class ScheduledJobsTest {
         complaintRepository.save(Complaint.builder()
                 .citizen(citizen)
                 .subject("Complaint")
+                .category("ROAD_DAMAGE")
                 .description("Description")
                 .status(Complaint.ComplaintStatus.NEW)
                 .createdAt(LocalDateTime.now())
@@ -336,7 +351,7 @@ class ScheduledJobsTest {
         // Assert - Should still be assigned to same officer
         assertEquals(firstAssignee, afterSecondRun.getAssignedTo());
         assertEquals(Complaint.ComplaintStatus.ASSIGNED, afterSecondRun.getStatus());
-        verify(notificationService, times(1)).sendComplaintAssignment(any(Complaint.class)); // Only once
+        assertEquals(1, notifiedComplaints()); // Only once
     }
 
     @Test
@@ -347,6 +362,7 @@ class ScheduledJobsTest {
             complaintRepository.save(Complaint.builder()
                     .citizen(citizen)
                     .subject("Concurrent Complaint " + i)
+                    .category("ROAD_DAMAGE")
                     .description("Description " + i)
                     .status(Complaint.ComplaintStatus.NEW)
                     .createdAt(LocalDateTime.now().minusSeconds(i))
@@ -365,5 +381,19 @@ class ScheduledJobsTest {
         assertEquals(3, officer2Assigned);
         assertEquals(3, officer3Assigned);
         assertEquals(0, complaintRepository.findByStatusAndAssignedToIsNull(Complaint.ComplaintStatus.NEW).size());
+        // One sweep chunk, so the citizens are notified with a single batch
+        verify(notificationService).sendComplaintAssignments(argThat(complaints -> complaints.size() == 9));
+        assertEquals(9, notifiedComplaints());
+    }
+
+    /**
+     * Total number of complaints passed to the batched assignment notifications so far.
+     */
+    @SuppressWarnings("unchecked")
+    private int notifiedComplaints() {
+        ArgumentCaptor<Collection<Complaint>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(notificationService, atLeast(0)).sendComplaintAssignments(captor.capture());
+        verify(notificationService, never()).sendComplaintAssignment(any(Complaint.class));
+        return captor.getAllValues().stream().mapToInt(Collection::size).sum();
     }
 }
@@ -0,0 +1,162 @@
+package com.jonoseba.search.service;
+
+import com.jonoseba.applications.model.Application;
+import com.jonoseba.applications.repository.ApplicationRepository;
+import com.jonoseba.common.event.StatusTransitionEvent;
+import com.jonoseba.common.event.StatusTransitionEvent.EntityType;
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.search.dto.SearchResult;
+import com.jonoseba.services.model.Service;
+import com.jonoseba.services.repository.ServiceRepository;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for SearchService using @SpringBootTest with H2 database
+ * Tests ranking, type and status filters and incremental updates of the in-memory search index
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("SearchService Tests")
+@Transactional
+class SearchServiceTest {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private InMemorySearchIndex searchIndex;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    private User citizen;
+
+    @BeforeEach
+    void setUp() {
+        citizen = userRepository.save(User.builder()
+                .fullName("Citizen User")
+                .email("citizen@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567890")
+                .role(User.UserRole.CITIZEN)
+                .enabled(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should rank matches across complaints and applications and filter by type")
+    void testRankingAndTypeFilter() {
+        Complaint streetlight = complaint("STREET_LIGHT", "Streetlight broken, streetlight pole leaning", "Mirpur 10");
+        complaint("ROAD_DAMAGE", "Pothole on the main road", "Mirpur 10");
+        Application permit = application("Streetlight installation permit", "New pole for our lane");
+        entityManager.flush();
+        searchIndex.rebuild();
+
+        List<SearchResult> results = searchService.search("streetlight broken", null, null, null);
+
+        assertEquals(2, results.size());
+        assertEquals(EntityType.COMPLAINT, results.get(0).getEntityType());
+        assertEquals(streetlight.getId(), results.get(0).getComplaint().getId());
+        assertEquals("Citizen User", results.get(0).getComplaint().getCitizenName());
+        assertEquals(permit.getId(), results.get(1).getApplication().getId());
+        assertTrue(results.get(0).getScore() > results.get(1).getScore());
+
+        List<SearchResult> complaints = searchService.search("MIRPUR", "complaint", null, 1);
+        assertEquals(1, complaints.size());
+        assertNull(complaints.get(0).getApplication());
+        assertTrue(searchService.search("water", null, null, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should index new entities and follow status changes")
+    void testIncrementalUpdates() {
+        searchIndex.rebuild();
+        Complaint complaint = complaint("WATER_SUPPLY", "No water supply since Monday", "Dhanmondi");
+        entityManager.flush();
+        assertTrue(searchService.search("water", null, null, null).isEmpty());
+
+        searchIndex.onStatusTransition(transition(complaint, null, "NEW"));
+        assertEquals(1, searchService.search("water", null, "new", null).size());
+
+        searchIndex.onStatusTransition(transition(complaint, "NEW", "RESOLVED"));
+        assertTrue(searchService.search("water", null, "NEW", null).isEmpty());
+        assertEquals(1, searchService.search("water", "COMPLAINT", "RESOLVED", null).size());
+        // APPROVED is an application status only
+        assertTrue(searchService.search("water", null, "APPROVED", null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject blank text, unknown types and statuses and out-of-range limits")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> searchService.search(" ", null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("water", "USER", null, null));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("water", null, "CLOSED", null));
+        assertThrows(IllegalArgumentException.class,
+                () -> searchService.search("water", "COMPLAINT", "APPROVED", null));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("water", null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("water", null, null, 101));
+    }
+
+    private Complaint complaint(String category, String description, String locationText) {
+        return complaintRepository.save(Complaint.builder()
+                .citizen(citizen)
+                .subject("Complaint")
+                .category(category)
+                .description(description)
+                .locationText(locationText)
+                .status(Complaint.ComplaintStatus.NEW)
+                .build());
+    }
+
+    private Application application(String title, String description) {
+        Service service = serviceRepository.save(Service.builder()
+                .name("Street Lighting")
+                .description("Street lighting service")
+                .active(true)
+                .build());
+        return applicationRepository.save(Application.builder()
+                .citizen(citizen)
+                .service(service)
+                .status(Application.ApplicationStatus.PENDING)
+                .title(title)
+                .description(description)
+                .build());
+    }
+
+    private StatusTransitionEvent transition(Complaint complaint, String fromStatus, String toStatus) {
+        return new StatusTransitionEvent(EntityType.COMPLAINT, complaint.getId(), citizen.getId(), null, null,
+                fromStatus, toStatus, complaint.getCategory(), null, LocalDateTime.now());
+    }
+}
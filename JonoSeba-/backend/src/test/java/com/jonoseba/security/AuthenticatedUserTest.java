@@ -0,0 +1,202 @@
+package com.jonoseba.security;
+
+import com.jonoseba.complaints.model.Complaint;
+import com.jonoseba.complaints.repository.ComplaintRepository;
+import com.jonoseba.dashboard.service.DashboardCache;
+import com.jonoseba.notifications.model.Notification;
+import com.jonoseba.notifications.repository.NotificationRepository;
+import com.jonoseba.notifications.service.NotificationService;
+import com.jonoseba.users.model.User;
+import com.jonoseba.users.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the authenticated principal using @SpringBootTest with H2 database
+ * Tests that the JWT filter's user lookup is the only query against the users table per request,
+ * apart from loading users a request changes
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.jonoseba.security.AuthenticatedUserTest$UserQueryCounter")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("AuthenticatedUser Tests")
+@Transactional
+class AuthenticatedUserTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    private User citizen;
+    private User officer;
+    private Complaint complaint;
+
+    @BeforeEach
+    void setUp() {
+        citizen = saveUser("Citizen User", "citizen@example.com", User.UserRole.CITIZEN);
+        officer = saveUser("Officer User", "officer@example.com", User.UserRole.OFFICER);
+        saveUser("Admin User", "admin@example.com", User.UserRole.ADMIN);
+        complaint = complaintRepository.save(Complaint.builder()
+                .citizen(citizen)
+                .assignedTo(officer)
+                .subject("Broken road")
+                .category("ROAD_DAMAGE")
+                .description("Complaint description")
+                .status(Complaint.ComplaintStatus.ASSIGNED)
+                .build());
+        notificationRepository.save(Notification.builder()
+                .user(citizen)
+                .type("INFO")
+                .message("Welcome")
+                .build());
+        dashboardCache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should load the principal with id, role and enabled flag")
+    void testLoadUserByUsername() {
+        UserDetails details = userDetailsService.loadUserByUsername("citizen@example.com");
+
+        AuthenticatedUser principal = assertInstanceOf(AuthenticatedUser.class, details);
+        assertEquals(citizen.getId(), principal.getId());
+        assertEquals(User.UserRole.CITIZEN, principal.getRole());
+        assertTrue(principal.isEnabled());
+        assertEquals("ROLE_CITIZEN", principal.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    @DisplayName("Should not query users again after the JWT filter for citizen endpoints")
+    void testCitizenEndpointsQueryUsersOnce() throws Exception {
+        String token = token("citizen@example.com");
+
+        assertEquals(1, userQueries("/api/complaints/me", token));
+        assertEquals(1, userQueries("/api/applications/me", token));
+        assertEquals(1, userQueries("/api/notifications/me", token));
+        assertEquals(1, userQueries("/api/notifications/me/recent", token));
+        assertEquals(1, userQueries("/api/dashboard/citizen", token));
+    }
+
+    @Test
+    @DisplayName("Should not query users again after the JWT filter for officer endpoints")
+    void testOfficerEndpointsQueryUsersOnce() throws Exception {
+        String token = token("officer@example.com");
+
+        assertEquals(1, userQueries("/api/complaints/assigned", token));
+        assertEquals(1, userQueries("/api/dashboard/officer", token));
+        assertEquals(1, userQueries("/api/dashboard/live/officer", token));
+    }
+
+    @Test
+    @DisplayName("Should not load the assignee to authorize complaint updates")
+    void testComplaintWriteEndpointsQueryUsersOnce() throws Exception {
+        String officerToken = token("officer@example.com");
+        String adminToken = token("admin@example.com");
+        User otherOfficer = saveUser("Other Officer", "other.officer@example.com", User.UserRole.OFFICER);
+
+        assertEquals(1, userQueries(patch("/api/complaints/{id}/status", complaint.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"IN_PROGRESS\",\"progressNote\":\"Crew on site\"}"), officerToken));
+        assertEquals(1, userQueries(patch("/api/complaints/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[" + complaint.getId() + "],\"status\":\"RESOLVED\"}"), officerToken));
+        assertEquals(1, userQueries("/api/complaints/" + complaint.getId() + "/timeline", officerToken));
+        // Plus the lookup of the newly assigned officer
+        assertEquals(2, userQueries(patch("/api/complaints/{id}/assign", complaint.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"assignToOfficerId\":" + otherOfficer.getId() + "}"), adminToken));
+    }
+
+    /**
+     * Number of statements reading the users table while serving one request.
+     */
+    private int userQueries(String path, String token) throws Exception {
+        return userQueries(get(path), token);
+    }
+
+    private int userQueries(MockHttpServletRequestBuilder request, String token) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        UserQueryCounter.COUNT.set(0);
+        mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+        return UserQueryCounter.COUNT.get();
+    }
+
+    private String token(String email) {
+        return jwtService.generateToken(userDetailsService.loadUserByUsername(email));
+    }
+
+    private User saveUser(String name, String email, User.UserRole role) {
+        return userRepository.save(User.builder()
+                .fullName(name)
+                .email(email)
+                .passwordHash("$2a$10$hashedPassword")
+                .phone("+8801234567890")
+                .role(role)
+                .enabled(true)
+                .build());
+    }
+
+    public static class UserQueryCounter implements StatementInspector {
+
+        static final AtomicInteger COUNT = new AtomicInteger();
+        private static final Pattern FROM_USERS = Pattern.compile("\\bfrom users\\b", Pattern.CASE_INSENSITIVE);
+
+        @Override
+        public String inspect(String sql) {
+            if (FROM_USERS.matcher(sql).find()) {
+                COUNT.incrementAndGet();
+            }
+            return sql;
+        }
+    }
+}
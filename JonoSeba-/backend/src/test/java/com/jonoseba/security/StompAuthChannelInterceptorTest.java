@@ -0,0 +1,114 @@
+package com.jonoseba.security;
+
+import com.jonoseba.users.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.security.Principal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StompAuthChannelInterceptor
+ * Tests JWT authentication of STOMP CONNECT frames and authorization of dashboard subscriptions
+ */
+@DisplayName("StompAuthChannelInterceptor Tests")
+class StompAuthChannelInterceptorTest {
+
+    private final AuthenticatedUser admin = new AuthenticatedUser(1L, "admin@example.com", User.UserRole.ADMIN, true, null);
+    private final AuthenticatedUser officer = new AuthenticatedUser(7L, "officer@example.com", User.UserRole.OFFICER, true, null);
+
+    private JwtService jwtService;
+    private StompAuthChannelInterceptor interceptor;
+    private MessageChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = mock(JwtService.class);
+        UserDetailsService userDetailsService = mock(UserDetailsService.class);
+        when(userDetailsService.loadUserByUsername("officer@example.com")).thenReturn(officer);
+        when(jwtService.validateToken("valid")).thenReturn(true);
+        when(jwtService.extractUsername("valid")).thenReturn("officer@example.com");
+        when(jwtService.validateToken("valid", officer)).thenReturn(true);
+        interceptor = new StompAuthChannelInterceptor(jwtService, userDetailsService);
+        channel = mock(MessageChannel.class);
+    }
+
+    @Test
+    @DisplayName("Should set the session user from a valid bearer token and reject an invalid one")
+    void testConnectAuthentication() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.addNativeHeader("Authorization", "Bearer valid");
+        accessor.setLeaveMutable(true);
+        Message<?> connect = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        interceptor.preSend(connect, channel);
+
+        Principal user = StompHeaderAccessor.wrap(connect).getUser();
+        assertInstanceOf(UsernamePasswordAuthenticationToken.class, user);
+        assertSame(officer, ((UsernamePasswordAuthenticationToken) user).getPrincipal());
+
+        StompHeaderAccessor invalid = StompHeaderAccessor.create(StompCommand.CONNECT);
+        invalid.addNativeHeader("Authorization", "Bearer forged");
+        assertThrows(BadCredentialsException.class,
+                () -> interceptor.preSend(MessageBuilder.createMessage(new byte[0], invalid.getMessageHeaders()), channel));
+
+        // Without a token the session stays anonymous
+        Message<?> anonymous = MessageBuilder.createMessage(new byte[0],
+                StompHeaderAccessor.create(StompCommand.CONNECT).getMessageHeaders());
+        assertSame(anonymous, interceptor.preSend(anonymous, channel));
+    }
+
+    @Test
+    @DisplayName("Should allow the admin topic to admins only")
+    void testAdminTopic() {
+        assertDoesNotThrow(() -> interceptor.preSend(subscribe("/topic/dashboard/admin", admin), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe("/topic/dashboard/admin", officer), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe("/topic/dashboard/admin", null), channel));
+    }
+
+    @Test
+    @DisplayName("Should allow an officer topic to that officer only")
+    void testOfficerTopic() {
+        assertDoesNotThrow(() -> interceptor.preSend(subscribe("/topic/dashboard/officer/7", officer), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe("/topic/dashboard/officer/8", officer), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe("/topic/dashboard/officer/7", admin), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe("/topic/dashboard/officer/7", null), channel));
+    }
+
+    @Test
+    @DisplayName("Should leave other destinations open and refuse pattern subscriptions")
+    void testOtherDestinations() {
+        assertDoesNotThrow(() -> interceptor.preSend(subscribe("/topic/notifications/all", null), channel));
+        assertDoesNotThrow(() -> interceptor.preSend(subscribe("/queue/notifications/7", officer), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe("/topic/*/admin", admin), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe("/topic/dashboard/**", officer), channel));
+    }
+
+    private static Message<?> subscribe(String destination, AuthenticatedUser user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        if (user != null) {
+            accessor.setUser(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}